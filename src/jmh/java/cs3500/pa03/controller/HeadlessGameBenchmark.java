@@ -0,0 +1,90 @@
+package cs3500.pa03.controller;
+
+import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.DensityTargetStrategy;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.SalvoTargetStrategy;
+import cs3500.pa03.model.ShipType;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks playing a full HeadlessGame between two players of the same strategy, from
+ * constructing the players to the end of the game. Each call plays a different seeded game, so
+ * the average is over many board layouts rather than one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeadlessGameBenchmark {
+  /**
+   * The strategy of both players
+   */
+  @Param({"hunt", "density", "salvo"})
+  public String strategy;
+
+  /**
+   * The height and width of the board
+   */
+  @Param({"10", "15"})
+  public int size;
+
+  private Map<ShipType, Integer> specs;
+  private SplittableRandom seeds;
+
+  /**
+   * Sets up a fleet of as many ships as the board is wide, and the seeds of the games
+   */
+  @Setup
+  public void setup() {
+    this.specs = new EnumMap<>(ShipType.class);
+    for (int i = 0; i < this.size; i++) {
+      this.specs.merge(ShipType.values()[i % ShipType.values().length], 1, Integer::sum);
+    }
+    this.seeds = new SplittableRandom(1);
+  }
+
+  /**
+   * Plays the next game
+   *
+   * @return the result of the game
+   */
+  @Benchmark
+  public GameResult playGame() {
+    HeadlessGame game = new HeadlessGame(this.newPlayer(), this.newPlayer(), this.size,
+        this.size, this.specs);
+    game.run();
+    return game.getResult();
+  }
+
+  /**
+   * Returns a new player of the strategy being benchmarked, with the next seed
+   *
+   * @return the player
+   */
+  private Player newPlayer() {
+    SplittableRandom rand = this.seeds.split();
+    return switch (this.strategy) {
+      case "density" -> new AiPlayer(rand, new DensityTargetStrategy());
+      case "salvo" -> new AiPlayer(rand, new SalvoTargetStrategy());
+      default -> new AiPlayer(rand);
+    };
+  }
+}
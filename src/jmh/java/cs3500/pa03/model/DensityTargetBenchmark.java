@@ -0,0 +1,80 @@
+package cs3500.pa03.model;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks planning a single volley with the DensityTargetStrategy on a 15 x 15 board
+ * with a full fleet, at different points in a game
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DensityTargetBenchmark {
+  /**
+   * The fraction of the board that has already been fired at, in percent
+   */
+  @Param({"0", "30", "60"})
+  public int firedPercent;
+
+  private DensityTargetStrategy strategy;
+  private Board opponentBoard;
+  private Random rand;
+
+  /**
+   * Sets up a board partway through a game against a randomly placed fleet
+   */
+  @Setup
+  public void setup() {
+    Map<ShipType, Integer> specs = new EnumMap<>(ShipType.class);
+    for (ShipType type : ShipType.values()) {
+      specs.put(type, 3);
+    }
+
+    // the opponent's real fleet decides which of the fired shots are hits
+    Player opponent = new AiPlayer(new Random(1));
+    opponent.setup(15, 15, specs);
+
+    this.rand = new Random(2);
+    this.opponentBoard = new Board(15, 15);
+    for (int x = 0; x < 15; x++) {
+      for (int y = 0; y < 15; y++) {
+        if (this.rand.nextInt(100) < this.firedPercent) {
+          Coord c = Coord.of(x, y);
+          boolean hit = !opponent.reportDamage(List.of(c)).isEmpty();
+          this.opponentBoard.setCellState(c, hit ? CellState.HIT : CellState.MISS);
+        }
+      }
+    }
+
+    this.strategy = new DensityTargetStrategy();
+    this.strategy.setup(15, 15, specs);
+  }
+
+  /**
+   * Plans a full volley, which does not change the strategy, so every call does the same work
+   *
+   * @return the planned volley
+   */
+  @Benchmark
+  public List<Coord> planVolley() {
+    return this.strategy.planShots(this.opponentBoard, 12, this.rand);
+  }
+}
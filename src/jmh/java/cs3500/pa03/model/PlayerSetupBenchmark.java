@@ -0,0 +1,70 @@
+package cs3500.pa03.model;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks placing a fleet with AbstractPlayer.setup on square boards, for fleets from the
+ * smallest allowed (one of each type) up to the largest (as many ships as the board is wide).
+ * A full fleet crowds the board, so its last ships are placed by sampling the legal placements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerSetupBenchmark {
+  /**
+   * The height and width of the board
+   */
+  @Param({"6", "10", "15"})
+  public int size;
+
+  /**
+   * The size of the fleet, as a percentage of the largest fleet allowed on the board
+   */
+  @Param({"0", "50", "100"})
+  public int density;
+
+  private Map<ShipType, Integer> specs;
+  private AiPlayer player;
+
+  /**
+   * Sets up the fleet, which is dealt out one ship at a time from the largest type, and the
+   * player, which places a new fleet on every call
+   */
+  @Setup
+  public void setup() {
+    int ships = Math.max(ShipType.values().length, this.size * this.density / 100);
+    this.specs = new EnumMap<>(ShipType.class);
+    for (int i = 0; i < ships; i++) {
+      this.specs.merge(ShipType.values()[i % ShipType.values().length], 1, Integer::sum);
+    }
+    this.player = new AiPlayer(new Random(1));
+  }
+
+  /**
+   * Places the fleet on a new board
+   *
+   * @return the placed ships
+   */
+  @Benchmark
+  public List<Ship> placeFleet() {
+    return this.player.setup(this.size, this.size, this.specs);
+  }
+}
@@ -0,0 +1,116 @@
+package cs3500.pa03.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks resolving shots against a 15 x 15 board with a full fleet, both one at a time with
+ * ShipBoard.receiveShot and as 15-shot volleys with AbstractPlayer.reportDamage. Each call fires
+ * at every cell of the board once, in a shuffled order, so misses, hits and sinks are all
+ * counted; the time reported is per shot or per volley.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShipBoardBenchmark {
+  private static final int SIZE = 15;
+
+  private Map<ShipType, Integer> specs;
+  private List<Ship> fleet;
+  private List<Coord> cells;
+  private List<List<Coord>> volleys;
+  private ShipBoard board;
+  private AiPlayer player;
+
+  /**
+   * Sets up the fleet, the order the cells are fired at, and the volleys of those cells
+   */
+  @Setup
+  public void setup() {
+    this.specs = new EnumMap<>(ShipType.class);
+    for (ShipType type : ShipType.values()) {
+      this.specs.put(type, 3);
+    }
+    this.fleet = new AiPlayer(new Random(1)).setup(SIZE, SIZE, this.specs);
+
+    Random rand = new Random(2);
+    this.cells = new ArrayList<>();
+    for (int x = 0; x < SIZE; x++) {
+      for (int y = 0; y < SIZE; y++) {
+        this.cells.add(Coord.of(x, y));
+      }
+    }
+    Collections.shuffle(this.cells, rand);
+    this.volleys = new ArrayList<>();
+    for (int i = 0; i < this.cells.size(); i += SIZE) {
+      this.volleys.add(List.copyOf(this.cells.subList(i, i + SIZE)));
+    }
+  }
+
+  /**
+   * Places the same fleet on a new board, and sets up the same player's board again, since
+   * every call sinks the whole fleet
+   */
+  @Setup(Level.Invocation)
+  public void placeFleet() {
+    this.board = new ShipBoard(SIZE, SIZE);
+    for (Ship s : this.fleet) {
+      ShipType type = null;
+      for (ShipType t : ShipType.values()) {
+        if (t.getSize() == s.getLength()) {
+          type = t;
+        }
+      }
+      this.board.createAndPlaceShip(s.getOriginCoord(), s.getOrientation(), type);
+    }
+    this.player = new AiPlayer(new Random(1));
+    this.player.setup(SIZE, SIZE, this.specs);
+  }
+
+  /**
+   * Fires at every cell of the board, one shot at a time
+   *
+   * @param blackhole consumes whether each shot hit
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE * SIZE)
+  public void receiveShot(Blackhole blackhole) {
+    for (Coord c : this.cells) {
+      blackhole.consume(this.board.receiveShot(c));
+    }
+  }
+
+  /**
+   * Fires at every cell of the player's board, one volley at a time
+   *
+   * @param blackhole consumes the hits of each volley
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void reportDamage(Blackhole blackhole) {
+    for (List<Coord> volley : this.volleys) {
+      blackhole.consume(this.player.reportDamage(volley));
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package cs3500.pa03.model;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks AiPlayer.takeShots with each strategy on a 15 x 15 board with a full fleet, at
+ * the start of a game and after part of the opponent's board has been fired at. Since taking
+ * shots changes a player, each iteration first replays a batch of seeded games up to that
+ * point, which is not measured, then times a single call that takes one volley in each game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+@Fork(1)
+public class TakeShotsBenchmark {
+  // the number of games replayed for each iteration, and so the volleys taken in each call
+  private static final int BATCH = 100;
+
+  /**
+   * Represents a point in a game, by how much of the opponent's board has been fired at
+   */
+  public enum Phase {
+    EARLY(0), MID(35), LATE(70);
+
+    private final int firedPercent;
+
+    /**
+     * Constructs a Phase once the given percentage of the board has been fired at
+     *
+     * @param firedPercent the percentage of the board that has been fired at
+     */
+    Phase(int firedPercent) {
+      this.firedPercent = firedPercent;
+    }
+  }
+
+  /**
+   * The point in the game at which the volley is taken
+   */
+  @Param({"EARLY", "MID", "LATE"})
+  public Phase phase;
+
+  /**
+   * The strategy of the player taking the volley
+   */
+  @Param({"hunt", "density", "salvo"})
+  public String strategy;
+
+  private Map<ShipType, Integer> specs;
+  private AiPlayer[] players;
+  // the seed of the next game to replay, so that every volley is from a different game
+  private long seed;
+
+  /**
+   * Sets up the fleet
+   */
+  @Setup
+  public void setup() {
+    this.specs = new EnumMap<>(ShipType.class);
+    for (ShipType type : ShipType.values()) {
+      this.specs.put(type, 3);
+    }
+    this.players = new AiPlayer[BATCH];
+    this.seed = 0;
+  }
+
+  /**
+   * Replays a batch of new seeded games until the phase is reached
+   */
+  @Setup(Level.Iteration)
+  public void replayBatch() {
+    for (int i = 0; i < BATCH; i++) {
+      do {
+        this.players[i] = this.replay(this.seed++);
+      } while (this.players[i] == null);
+    }
+  }
+
+  /**
+   * Takes the next volley of every game of the batch
+   *
+   * @param blackhole consumes each volley
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void takeShots(Blackhole blackhole) {
+    for (AiPlayer player : this.players) {
+      blackhole.consume(player.takeShots());
+    }
+  }
+
+  /**
+   * Replays the game with the given seed until the phase is reached, with both players firing
+   * so that sunk ships shrink the volley as they would in a real game
+   *
+   * @param seed the seed of the game
+   * @return the player whose volley is taken next, or null if it lost before the phase
+   */
+  private AiPlayer replay(long seed) {
+    AiPlayer player = new AiPlayer(new Random(seed), this.newStrategy());
+    AiPlayer opponent = new AiPlayer(new Random(~seed));
+    player.setup(15, 15, this.specs);
+    opponent.setup(15, 15, this.specs);
+
+    int fired = 0;
+    while (fired * 100 < this.phase.firedPercent * 15 * 15) {
+      List<Coord> shots = player.takeShots();
+      if (shots.isEmpty()) {
+        return null;
+      }
+      player.successfulHits(opponent.reportDamage(shots));
+      opponent.successfulHits(player.reportDamage(opponent.takeShots()));
+      fired += shots.size();
+    }
+    return player;
+  }
+
+  /**
+   * Returns a new instance of the strategy being benchmarked
+   *
+   * @return the strategy
+   */
+  private TargetingStrategy newStrategy() {
+    return switch (this.strategy) {
+      case "density" -> new DensityTargetStrategy();
+      case "salvo" -> new SalvoTargetStrategy();
+      default -> new HuntTargetStrategy();
+    };
+  }
+}
@@ -0,0 +1,192 @@
+package cs3500.pa04;
+
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.Ship;
+import cs3500.pa03.model.ShipType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.Writer;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a take-shots round trip through a ProxyController in each wire format: the server
+ * sends the request, and the controller decodes it, asks its player for a 15-shot volley, and
+ * sends the volley back. The controller runs on its own thread over an in-memory socket, so the
+ * time covers both codecs and the hand-off between threads, but no network.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyRoundTripBenchmark {
+  // large enough that a message never waits for the other side to make room
+  private static final int PIPE_SIZE = 1 << 16;
+
+  /**
+   * The format the server and the controller speak
+   */
+  @Param({"JSON", "BINARY"})
+  public WireFormat format;
+
+  private WireCodec server;
+  private WireMessage request;
+  private Thread controller;
+
+  /**
+   * Connects a ProxyController to the server's end of an in-memory socket, and starts it
+   *
+   * @throws IOException if the streams cannot be connected
+   */
+  @Setup
+  public void setup() throws IOException {
+    PipedInputStream clientIn = new PipedInputStream(PIPE_SIZE);
+    PipedInputStream serverIn = new PipedInputStream(PIPE_SIZE);
+    PipedOutputStream serverOut = new PipedOutputStream(clientIn);
+    PipedOutputStream clientOut = new PipedOutputStream(serverIn);
+
+    AsyncLog log = new AsyncLog(AsyncLog.Level.OFF, 16, Writer.nullWriter());
+    ProxyController proxy = new ProxyController(new PipeSocket(clientIn, clientOut),
+        new FixedVolleyPlayer(), log, this.format);
+    this.controller = new Thread(proxy::run, "proxy-controller");
+    this.controller.setDaemon(true);
+    this.controller.start();
+
+    this.server = this.format.open(serverIn, serverOut);
+    this.request = new WireMessage("take-shots", null);
+  }
+
+  /**
+   * Ends the game, which closes the controller's socket and ends its thread
+   *
+   * @throws IOException if the message cannot be sent
+   * @throws InterruptedException if interrupted while waiting for the controller to end
+   */
+  @TearDown
+  public void tearDown() throws IOException, InterruptedException {
+    this.server.write(new WireMessage("end-game", new EndJson(GameResult.DRAW, "done")));
+    this.server.read();
+    this.controller.join();
+  }
+
+  /**
+   * Requests a volley, and waits for it to arrive
+   *
+   * @return the volley
+   * @throws IOException if the messages cannot be sent or received
+   */
+  @Benchmark
+  public WireMessage takeShots() throws IOException {
+    this.server.write(this.request);
+    return this.server.read();
+  }
+
+  /**
+   * Represents a socket whose streams are the client's ends of a pair of in-memory pipes
+   */
+  private static class PipeSocket extends Socket {
+    private final InputStream in;
+    private final OutputStream out;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new PipeSocket over the given streams
+     *
+     * @param in the stream the client reads from
+     * @param out the stream the client writes to
+     */
+    PipeSocket(InputStream in, OutputStream out) {
+      this.in = in;
+      this.out = out;
+      this.closed = false;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return this.in;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return this.out;
+    }
+
+    @Override
+    public boolean isClosed() {
+      return this.closed;
+    }
+
+    @Override
+    public synchronized void close() {
+      this.closed = true;
+    }
+  }
+
+  /**
+   * Represents a player that fires the same 15-shot volley every turn, so that only the
+   * protocol is measured
+   */
+  private static class FixedVolleyPlayer implements Player {
+    private final List<Coord> volley;
+
+    /**
+     * Constructs a new FixedVolleyPlayer
+     */
+    FixedVolleyPlayer() {
+      this.volley = new ArrayList<>();
+      for (int i = 0; i < 15; i++) {
+        this.volley.add(Coord.of(i, (i * 7) % 15));
+      }
+    }
+
+    @Override
+    public String name() {
+      return "benchmark";
+    }
+
+    @Override
+    public List<Ship> setup(int height, int width, Map<ShipType, Integer> specifications) {
+      return List.of();
+    }
+
+    @Override
+    public List<Coord> takeShots() {
+      return this.volley;
+    }
+
+    @Override
+    public List<Coord> reportDamage(List<Coord> opponentShotsOnBoard) {
+      return List.of();
+    }
+
+    @Override
+    public void successfulHits(List<Coord> shotsThatHitOpponentShips) {
+    }
+
+    @Override
+    public void endGame(GameResult result, String reason) {
+    }
+  }
+}
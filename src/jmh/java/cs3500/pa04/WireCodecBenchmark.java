@@ -0,0 +1,86 @@
+package cs3500.pa04;
+
+import cs3500.pa03.model.Coord;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks encoding and decoding a take-shots response of a full 15-shot volley in each wire
+ * format, which is the most common message of a game. Bytes on the wire are the other half of
+ * the cost, and the size of each format's encoding is checked by WireCodecTest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireCodecBenchmark {
+  /**
+   * The format to encode and decode in
+   */
+  @Param({"JSON", "BINARY"})
+  public WireFormat format;
+
+  private WireMessage message;
+  private WireCodec writer;
+  private byte[] encoded;
+
+  /**
+   * Sets up the volley, a codec that writes to nowhere, and the volley's encoding
+   *
+   * @throws IOException if the volley cannot be encoded
+   */
+  @Setup
+  public void setup() throws IOException {
+    List<Coord> volley = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      volley.add(Coord.of(i, (i * 7) % 15));
+    }
+    this.message = new WireMessage("take-shots", new CoordinatesJson(volley));
+    this.writer = this.format.open(new ByteArrayInputStream(new byte[0]),
+        OutputStream.nullOutputStream());
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    this.format.open(new ByteArrayInputStream(new byte[0]), bytes).write(this.message);
+    this.encoded = bytes.toByteArray();
+  }
+
+  /**
+   * Encodes the volley
+   *
+   * @throws IOException if the volley cannot be encoded
+   */
+  @Benchmark
+  public void encode() throws IOException {
+    this.writer.write(this.message);
+  }
+
+  /**
+   * Decodes the volley, including opening a codec for it
+   *
+   * @return the decoded volley
+   * @throws IOException if the volley cannot be decoded
+   */
+  @Benchmark
+  public WireMessage decode() throws IOException {
+    return this.format.open(new ByteArrayInputStream(this.encoded),
+        OutputStream.nullOutputStream()).read();
+  }
+}
@@ -0,0 +1,187 @@
+package cs3500.pa03.controller;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents a reader of a log written by a GameLogWriter, which maps the file into memory a
+ * window at a time and iterates over its games without copying or decoding them: each
+ * GameRecord is a view of its bytes in the mapped file, and only decodes what is asked of it.
+ * A record cut off at the end of the file, such as by a crash while it was being written, ends
+ * the iteration.
+ */
+public class GameLogReader implements Iterable<GameRecord>, AutoCloseable {
+  // the most bytes mapped at once, since a single mapping is limited to 2GB
+  private static final long WINDOW_SIZE = 1 << 30;
+
+  private final FileChannel channel;
+  private final long size;
+  private final long windowSize;
+
+  /**
+   * Constructs a new GameLogReader of the log at the given path
+   *
+   * @param path the path of the log
+   * @throws IOException if the file cannot be opened, or is not a log of a known version
+   */
+  public GameLogReader(Path path) throws IOException {
+    this(path, WINDOW_SIZE);
+  }
+
+  /**
+   * Constructs a new GameLogReader of the log at the given path, which maps at most the
+   * given number of bytes at once
+   *
+   * @param path the path of the log
+   * @param windowSize the most bytes to map at once, which a record may still exceed
+   * @throws IOException if the file cannot be opened, or is not a log of a known version
+   */
+  GameLogReader(Path path, long windowSize) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.size = this.channel.size();
+    this.windowSize = windowSize;
+
+    MappedByteBuffer header = this.channel.map(FileChannel.MapMode.READ_ONLY, 0,
+        Math.min(this.size, GameLogWriter.HEADER_SIZE));
+    if (header.remaining() < GameLogWriter.HEADER_SIZE
+        || header.getInt() != GameLogWriter.MAGIC || header.get() != GameLogWriter.VERSION) {
+      this.channel.close();
+      throw new StreamCorruptedException("not a game log of version " + GameLogWriter.VERSION);
+    }
+  }
+
+  /**
+   * Returns an iterator over the games of this log, in the order they were written. Each
+   * record stays readable until this reader is closed.
+   *
+   * @return an iterator over the games
+   * @throws UncheckedIOException if the file cannot be mapped while iterating
+   */
+  @Override
+  public Iterator<GameRecord> iterator() {
+    return new RecordIterator();
+  }
+
+  /**
+   * Closes the file. Records that were mapped stay readable until they are collected.
+   *
+   * @throws IOException if the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    this.channel.close();
+  }
+
+  /**
+   * Represents an iterator over the records of the log, which maps the next window of the
+   * file whenever the next record does not fit in the current one
+   */
+  private class RecordIterator implements Iterator<GameRecord> {
+    // the file offset of the next record's length
+    private long position;
+    private MappedByteBuffer window;
+    private long windowStart;
+    // the next record, once it has been found to be complete
+    private GameRecord next;
+
+    /**
+     * Constructs a new RecordIterator, positioned at the first record
+     */
+    RecordIterator() {
+      this.position = GameLogWriter.HEADER_SIZE;
+      this.window = null;
+      this.windowStart = 0;
+      this.next = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (this.next == null && this.position < GameLogReader.this.size) {
+        try {
+          this.next = this.readRecord();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+      return this.next != null;
+    }
+
+    @Override
+    public GameRecord next() {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      GameRecord record = this.next;
+      this.next = null;
+      return record;
+    }
+
+    /**
+     * Reads the record at the current position, and moves past it
+     *
+     * @return the record, or null if it is cut off by the end of the file
+     * @throws IOException if the file cannot be mapped
+     */
+    private GameRecord readRecord() throws IOException {
+      // a length is at most five bytes
+      if (!this.ensureMapped(this.position, Math.min(5,
+          GameLogReader.this.size - this.position))) {
+        return null;
+      }
+      int offset = (int) (this.position - this.windowStart);
+      int length = 0;
+      int header = 0;
+      for (int shift = 0; ; shift += 7) {
+        if (offset + header >= this.window.limit()) {
+          return null;
+        }
+        byte b = this.window.get(offset + header++);
+        length |= (b & 0x7F) << shift;
+        if (b >= 0) {
+          break;
+        }
+      }
+
+      long start = this.position + header;
+      if (!this.ensureMapped(start, length)) {
+        return null;
+      }
+      GameRecord record = new GameRecord(
+          this.window.slice((int) (start - this.windowStart), length));
+      this.position = start + length;
+      return record;
+    }
+
+    /**
+     * Ensures that the given range of the file is within the mapped window, mapping a new
+     * window starting at the range if it is not
+     *
+     * @param from the file offset of the start of the range
+     * @param length the length of the range
+     * @return whether the whole range is within the file
+     * @throws IOException if the file cannot be mapped
+     */
+    private boolean ensureMapped(long from, long length) throws IOException {
+      long fileSize = GameLogReader.this.size;
+      if (from + length > fileSize) {
+        return false;
+      }
+      if (this.window != null && from >= this.windowStart
+          && from + length <= this.windowStart + this.window.limit()) {
+        return true;
+      }
+      long mapped = Math.min(fileSize - from,
+          Math.max(length, GameLogReader.this.windowSize));
+      this.window = GameLogReader.this.channel.map(FileChannel.MapMode.READ_ONLY, from, mapped);
+      this.windowStart = from;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,328 @@
+package cs3500.pa03.controller;
+
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Ship;
+import cs3500.pa03.model.ShipOrientation;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents an append-only binary log of games, which many games can be recorded into at
+ * once. Each game is encoded into its own buffer as it is played, then appended to the file
+ * as a single record once it ends, so records of games played in parallel never interleave.
+ *
+ * <p>The file starts with a four byte magic number and a version byte. Each record is its
+ * length as a varint, then the first player's result, the number of turns as a varint, the
+ * height and width of the board, both fleets, and then both volleys of each turn. A cell is a
+ * single byte, its index y * width + x. A ship is its origin cell and a byte of its direction
+ * (in the high bit) and length. A fleet and a volley are each their count as a varint then
+ * their ships or cells, and a volley is followed by a bit for each of its shots that hit.
+ *
+ * <p>Games played by a HeadlessGame or a ManualController can be recorded, since both know
+ * every move of both players. Server games played through a ProxyController cannot: the server
+ * never reveals the opponent's fleet, which every record starts with.
+ */
+public class GameLogWriter implements GameRecorder, AutoCloseable {
+  /**
+   * The magic number every log starts with
+   */
+  static final int MAGIC = 0x42534C47;
+  /**
+   * The version of the format of this writer's records
+   */
+  static final byte VERSION = 1;
+  /**
+   * The number of bytes before the first record
+   */
+  static final int HEADER_SIZE = 5;
+  // records are collected into a buffer of this size before they are written to the file
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer;
+  private long games;
+
+  /**
+   * Constructs a new GameLogWriter that appends to the log at the given path, creating it if
+   * it does not exist
+   *
+   * @param path the path of the log
+   * @throws IOException if the file cannot be opened, or is not a log of this version
+   */
+  public GameLogWriter(Path path) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    this.games = 0;
+
+    if (this.channel.size() == 0) {
+      this.buffer.putInt(MAGIC).put(VERSION);
+    } else {
+      // an appending channel cannot read, so the header is checked through another one
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      try (FileChannel reader = FileChannel.open(path, StandardOpenOption.READ)) {
+        reader.read(header, 0);
+      }
+      header.flip();
+      if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC
+          || header.get() != VERSION) {
+        this.channel.close();
+        throw new StreamCorruptedException("not a game log of version " + VERSION);
+      }
+    }
+  }
+
+  /**
+   * Returns a new observer that records a single game into this log once it ends
+   *
+   * @return an observer for one game
+   */
+  @Override
+  public GameObserver newGame() {
+    return new GameEncoder();
+  }
+
+  /**
+   * Returns the number of games appended to this log by this writer
+   *
+   * @return the number of games recorded
+   */
+  public synchronized long getGames() {
+    return this.games;
+  }
+
+  /**
+   * Writes every buffered record to the file
+   *
+   * @throws IOException if the file cannot be written
+   */
+  public synchronized void flush() throws IOException {
+    this.buffer.flip();
+    while (this.buffer.hasRemaining()) {
+      this.channel.write(this.buffer);
+    }
+    this.buffer.clear();
+  }
+
+  /**
+   * Writes every buffered record to the file, then closes it
+   *
+   * @throws IOException if the file cannot be written or closed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (this.channel.isOpen()) {
+      try {
+        this.flush();
+      } finally {
+        this.channel.close();
+      }
+    }
+  }
+
+  /**
+   * Appends an encoded record, prefixed by its length
+   *
+   * @param record the bytes of the record
+   * @param length the number of bytes of the record
+   * @throws IOException if the file cannot be written
+   */
+  private synchronized void append(byte[] record, int length) throws IOException {
+    if (this.buffer.remaining() < length + 5) {
+      this.flush();
+    }
+    putVarint(this.buffer, length);
+    if (length > this.buffer.remaining()) {
+      // a record larger than the whole buffer is written straight through
+      this.flush();
+      ByteBuffer large = ByteBuffer.wrap(record, 0, length);
+      while (large.hasRemaining()) {
+        this.channel.write(large);
+      }
+    } else {
+      this.buffer.put(record, 0, length);
+    }
+    this.games++;
+  }
+
+  /**
+   * Puts the given value into the buffer as an unsigned varint: seven bits at a time, lowest
+   * first, with the high bit set on every byte but the last
+   *
+   * @param buffer the buffer to put into
+   * @param value the value, which must not be negative
+   */
+  private static void putVarint(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) (value & 0x7F | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Represents the record of a single game as it is played, which belongs to that game's
+   * thread until it is appended to the log
+   */
+  private class GameEncoder implements GameObserver {
+    // the bytes encoded so far, which are moved behind the record's header once the game
+    // ends, since the number of turns in the header is only known then
+    private byte[] bytes;
+    private int size;
+    // the encoded fleets, kept apart from the turns
+    private byte[] fleets;
+    private int width;
+    private int height;
+    private int turns;
+
+    /**
+     * Constructs a new, empty GameEncoder
+     */
+    GameEncoder() {
+      this.bytes = new byte[256];
+      this.size = 0;
+      this.fleets = null;
+      this.turns = 0;
+    }
+
+    @Override
+    public void fleetsPlaced(int height, int width, List<Ship> fleet, List<Ship> oppoFleet) {
+      if (height * width > 256) {
+        throw new IllegalArgumentException("board is too large for a cell to fit in a byte");
+      }
+      this.height = height;
+      this.width = width;
+      this.putFleet(fleet);
+      this.putFleet(oppoFleet);
+      this.fleets = Arrays.copyOf(this.bytes, this.size);
+      this.size = 0;
+    }
+
+    @Override
+    public void turnPlayed(List<Coord> shots, List<Coord> hits, List<Coord> oppoShots,
+        List<Coord> oppoHits) {
+      this.putVolley(shots, hits);
+      this.putVolley(oppoShots, oppoHits);
+      this.turns++;
+    }
+
+    @Override
+    public void gameEnded(GameResult result) {
+      byte[] moves = Arrays.copyOf(this.bytes, this.size);
+      this.size = 0;
+      this.put(result.ordinal());
+      this.putVarint(this.turns);
+      this.put(this.height);
+      this.put(this.width);
+      this.putBytes(this.fleets);
+      this.putBytes(moves);
+      try {
+        GameLogWriter.this.append(this.bytes, this.size);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * Encodes a fleet: its count, then the origin cell and the direction and length of
+     * each ship
+     *
+     * @param fleet the ships to encode
+     */
+    private void putFleet(List<Ship> fleet) {
+      this.putVarint(fleet.size());
+      for (Ship ship : fleet) {
+        if (ship.getLength() > 0x7F) {
+          throw new IllegalArgumentException("ship length does not fit in seven bits");
+        }
+        this.put(this.cell(ship.getOriginCoord()));
+        int direction = ship.getOrientation() == ShipOrientation.VERTICAL ? 0x80 : 0;
+        this.put(direction | ship.getLength());
+      }
+    }
+
+    /**
+     * Encodes a volley: its count, its cells, then a bit for each shot that hit
+     *
+     * @param shots the shots of the volley
+     * @param hits the shots that hit
+     */
+    private void putVolley(List<Coord> shots, List<Coord> hits) {
+      this.putVarint(shots.size());
+      for (Coord c : shots) {
+        this.put(this.cell(c));
+      }
+      int mask = 0;
+      for (int i = 0; i < shots.size(); i++) {
+        if (hits.contains(shots.get(i))) {
+          mask |= 1 << (i & 7);
+        }
+        if ((i & 7) == 7 || i == shots.size() - 1) {
+          this.put(mask);
+          mask = 0;
+        }
+      }
+    }
+
+    /**
+     * Returns the packed index of the given cell
+     *
+     * @param c the cell
+     * @return y * width + x
+     * @throws IllegalArgumentException if the cell is off of the board
+     */
+    private int cell(Coord c) {
+      if (c.x() >= this.width || c.y() >= this.height) {
+        throw new IllegalArgumentException("cell is off of the board: " + c);
+      }
+      return c.y() * this.width + c.x();
+    }
+
+    /**
+     * Encodes the given value as an unsigned varint
+     *
+     * @param value the value, which must not be negative
+     */
+    private void putVarint(int value) {
+      while ((value & ~0x7F) != 0) {
+        this.put(value & 0x7F | 0x80);
+        value >>>= 7;
+      }
+      this.put(value);
+    }
+
+    /**
+     * Encodes the low eight bits of the given value as a single byte
+     *
+     * @param value the value
+     */
+    private void put(int value) {
+      if (this.size == this.bytes.length) {
+        this.bytes = Arrays.copyOf(this.bytes, this.size * 2);
+      }
+      this.bytes[this.size++] = (byte) value;
+    }
+
+    /**
+     * Encodes the given bytes as they are
+     *
+     * @param bytes the bytes
+     */
+    private void putBytes(byte[] bytes) {
+      if (this.size + bytes.length > this.bytes.length) {
+        this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2,
+            this.size + bytes.length));
+      }
+      System.arraycopy(bytes, 0, this.bytes, this.size, bytes.length);
+      this.size += bytes.length;
+    }
+  }
+}
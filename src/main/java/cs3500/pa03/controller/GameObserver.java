@@ -0,0 +1,68 @@
+package cs3500.pa03.controller;
+
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Ship;
+import java.util.List;
+
+/**
+ * Represents an observer of a game played by a HeadlessGame or a ManualController, which is
+ * told of every move as it is made, from the point of view of the game's first player
+ */
+public interface GameObserver {
+  /**
+   * Called once both players have placed their fleets
+   *
+   * @param height the height of the board
+   * @param width the width of the board
+   * @param fleet the first player's fleet
+   * @param oppoFleet the second player's fleet
+   */
+  void fleetsPlaced(int height, int width, List<Ship> fleet, List<Ship> oppoFleet);
+
+  /**
+   * Called after each turn, once both volleys have been resolved
+   *
+   * @param shots the first player's volley
+   * @param hits the shots of the first player's volley that hit
+   * @param oppoShots the second player's volley
+   * @param oppoHits the shots of the second player's volley that hit
+   */
+  void turnPlayed(List<Coord> shots, List<Coord> hits, List<Coord> oppoShots,
+      List<Coord> oppoHits);
+
+  /**
+   * Called once the game is over
+   *
+   * @param result the first player's result
+   */
+  void gameEnded(GameResult result);
+
+  /**
+   * Returns an observer that tells each of the given observers of every move, in order
+   *
+   * @param observers the observers to tell
+   * @return an observer of all of them
+   */
+  static GameObserver all(List<GameObserver> observers) {
+    List<GameObserver> copy = List.copyOf(observers);
+    return new GameObserver() {
+      @Override
+      public void fleetsPlaced(int height, int width, List<Ship> fleet,
+          List<Ship> oppoFleet) {
+        copy.forEach(o -> o.fleetsPlaced(height, width, fleet, oppoFleet));
+      }
+
+      @Override
+      public void turnPlayed(List<Coord> shots, List<Coord> hits, List<Coord> oppoShots,
+          List<Coord> oppoHits) {
+        copy.forEach(o -> o.turnPlayed(shots, hits, oppoShots, oppoHits));
+      }
+
+      @Override
+      public void gameEnded(GameResult result) {
+        copy.forEach(o -> o.gameEnded(result));
+      }
+    };
+  }
+}
@@ -0,0 +1,219 @@
+package cs3500.pa03.controller;
+
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Ship;
+import cs3500.pa03.model.ShipOrientation;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a single game of a log read by a GameLogReader, as a view of its bytes. The
+ * result, number of turns and board size are read right away, while the fleets and volleys
+ * are only decoded when they are asked for.
+ */
+public class GameRecord {
+  private final ByteBuffer bytes;
+  private final GameResult result;
+  private final int turns;
+  private final int height;
+  private final int width;
+  // the offset of the first fleet
+  private final int fleetsOffset;
+
+  /**
+   * Constructs a new GameRecord over the given bytes of a record, without its length
+   *
+   * @param bytes the bytes of the record, starting at index 0
+   */
+  GameRecord(ByteBuffer bytes) {
+    this.bytes = bytes;
+    this.result = GameResult.values()[bytes.get(0)];
+    int[] cursor = {1};
+    this.turns = readVarint(bytes, cursor);
+    this.height = bytes.get(cursor[0]++) & 0xFF;
+    this.width = bytes.get(cursor[0]++) & 0xFF;
+    this.fleetsOffset = cursor[0];
+  }
+
+  /**
+   * Returns the result of the game for its first player
+   *
+   * @return the first player's result
+   */
+  public GameResult getResult() {
+    return this.result;
+  }
+
+  /**
+   * Returns the number of turns (pairs of volleys) the game took
+   *
+   * @return the number of turns played
+   */
+  public int getTurns() {
+    return this.turns;
+  }
+
+  /**
+   * Returns the height of the game's board
+   *
+   * @return the height of the board
+   */
+  public int getHeight() {
+    return this.height;
+  }
+
+  /**
+   * Returns the width of the game's board
+   *
+   * @return the width of the board
+   */
+  public int getWidth() {
+    return this.width;
+  }
+
+  /**
+   * Returns the number of bytes this game takes in the log, without its length
+   *
+   * @return the size of the record
+   */
+  public int getSize() {
+    return this.bytes.limit();
+  }
+
+  /**
+   * Decodes the fleet of one of the players, as it was placed
+   *
+   * @param player 0 for the first player, or 1 for the second
+   * @return the player's ships
+   * @throws IllegalArgumentException if the player is not 0 or 1
+   */
+  public List<Ship> getFleet(int player) {
+    checkPlayer(player);
+    int[] cursor = {this.fleetsOffset};
+    if (player == 1) {
+      this.skipFleet(cursor);
+    }
+    int count = readVarint(this.bytes, cursor);
+    List<Ship> fleet = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Coord origin = this.coord(this.bytes.get(cursor[0]++));
+      int packed = this.bytes.get(cursor[0]++) & 0xFF;
+      ShipOrientation orientation =
+          (packed & 0x80) != 0 ? ShipOrientation.VERTICAL : ShipOrientation.HORIZONTAL;
+      fleet.add(new Ship(origin, orientation, packed & 0x7F));
+    }
+    return fleet;
+  }
+
+  /**
+   * Decodes every volley of one of the players, in the order they were fired
+   *
+   * @param player 0 for the first player, or 1 for the second
+   * @return the player's volleys, one for each turn
+   * @throws IllegalArgumentException if the player is not 0 or 1
+   */
+  public List<List<Coord>> getVolleys(int player) {
+    return this.decodeTurns(player, false);
+  }
+
+  /**
+   * Decodes the hits of every volley of one of the players, in the order they were fired
+   *
+   * @param player 0 for the first player, or 1 for the second
+   * @return the shots of each of the player's volleys that hit, one list for each turn
+   * @throws IllegalArgumentException if the player is not 0 or 1
+   */
+  public List<List<Coord>> getHits(int player) {
+    return this.decodeTurns(player, true);
+  }
+
+  /**
+   * Decodes either the shots or the hits of every volley of one of the players
+   *
+   * @param player 0 for the first player, or 1 for the second
+   * @param hitsOnly whether to only decode the shots that hit
+   * @return a list of shots for each turn
+   * @throws IllegalArgumentException if the player is not 0 or 1
+   */
+  private List<List<Coord>> decodeTurns(int player, boolean hitsOnly) {
+    checkPlayer(player);
+    int[] cursor = {this.fleetsOffset};
+    this.skipFleet(cursor);
+    this.skipFleet(cursor);
+
+    List<List<Coord>> turns = new ArrayList<>(this.turns);
+    for (int turn = 0; turn < this.turns; turn++) {
+      for (int p = 0; p < 2; p++) {
+        int count = readVarint(this.bytes, cursor);
+        int cells = cursor[0];
+        int masks = cells + count;
+        cursor[0] = masks + (count + 7) / 8;
+        if (p != player) {
+          continue;
+        }
+        List<Coord> volley = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          boolean hit = (this.bytes.get(masks + i / 8) & 1 << (i & 7)) != 0;
+          if (!hitsOnly || hit) {
+            volley.add(this.coord(this.bytes.get(cells + i)));
+          }
+        }
+        turns.add(volley);
+      }
+    }
+    return turns;
+  }
+
+  /**
+   * Moves the cursor past a fleet
+   *
+   * @param cursor the cursor, at the start of the fleet
+   */
+  private void skipFleet(int[] cursor) {
+    int count = readVarint(this.bytes, cursor);
+    cursor[0] += 2 * count;
+  }
+
+  /**
+   * Unpacks the cell with the given index
+   *
+   * @param cell the packed index of the cell, y * width + x
+   * @return the shared Coord of the cell
+   */
+  private Coord coord(byte cell) {
+    int index = cell & 0xFF;
+    return Coord.of(index % this.width, index / this.width);
+  }
+
+  /**
+   * Ensures that the given player is 0 or 1
+   *
+   * @param player the player to check
+   * @throws IllegalArgumentException if the player is not 0 or 1
+   */
+  private static void checkPlayer(int player) {
+    if (player != 0 && player != 1) {
+      throw new IllegalArgumentException("player must be 0 or 1");
+    }
+  }
+
+  /**
+   * Reads an unsigned varint at the cursor, and moves the cursor past it
+   *
+   * @param bytes the bytes to read from
+   * @param cursor the cursor, as a single element array
+   * @return the value
+   */
+  private static int readVarint(ByteBuffer bytes, int[] cursor) {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      byte b = bytes.get(cursor[0]++);
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package cs3500.pa03.controller;
+
+/**
+ * Represents something that records many games, such as a log or running statistics, which
+ * gives each game its own observer so that games can be recorded from many threads at once
+ */
+public interface GameRecorder {
+  /**
+   * Returns a new observer that records a single game
+   *
+   * @return an observer for one game
+   */
+  GameObserver newGame();
+}
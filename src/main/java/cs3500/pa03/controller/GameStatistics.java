@@ -0,0 +1,345 @@
+package cs3500.pa03.controller;
+
+import cs3500.pa03.model.BattleSalvoConfig;
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Ship;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents running statistics of many games, in memory that does not grow with the number
+ * of games: the results and the mean, variance and quantiles of game length, and for each
+ * seat (0 for the first player, 1 for the second), its hit rate on each turn, its mean volley
+ * size, where its first hit of each game landed, and on which turns it sank ships. Every
+ * counter is a striped LongAdder, so games played on many threads are recorded without locks
+ * and without contending on a single counter.
+ */
+public class GameStatistics implements GameRecorder {
+  // a game can never take more turns than there are cells on the largest board
+  private static final int MAX_TURNS =
+      BattleSalvoConfig.MAX_HEIGHT * BattleSalvoConfig.MAX_WIDTH;
+  private static final int SEATS = 2;
+
+  private final LongAdder[] results;
+  private final LongAdder turnTotal;
+  private final LongAdder turnSquares;
+  private final QuantileSketch turns;
+  // the number of shots and hits of each seat on each turn, indexed by seat then turn
+  private final LongAdder[][] shots;
+  private final LongAdder[][] hits;
+  private final LongAdder[] volleys;
+  // the number of games whose first hit landed on each cell, indexed by seat then y * 15 + x
+  private final LongAdder[][] firstHits;
+  // the turns on which each seat sank one of the other seat's ships
+  private final QuantileSketch[] sinkTurns;
+  private final LongAccumulator height;
+  private final LongAccumulator width;
+
+  /**
+   * Constructs a new GameStatistics of no games
+   */
+  public GameStatistics() {
+    this.results = adders(GameResult.values().length);
+    this.turnTotal = new LongAdder();
+    this.turnSquares = new LongAdder();
+    this.turns = new QuantileSketch();
+    this.shots = new LongAdder[SEATS][];
+    this.hits = new LongAdder[SEATS][];
+    this.firstHits = new LongAdder[SEATS][];
+    this.sinkTurns = new QuantileSketch[SEATS];
+    for (int seat = 0; seat < SEATS; seat++) {
+      this.shots[seat] = adders(MAX_TURNS + 1);
+      this.hits[seat] = adders(MAX_TURNS + 1);
+      this.firstHits[seat] = adders(BattleSalvoConfig.MAX_HEIGHT * BattleSalvoConfig.MAX_WIDTH);
+      this.sinkTurns[seat] = new QuantileSketch();
+    }
+    this.volleys = adders(SEATS);
+    this.height = new LongAccumulator(Math::max, 0);
+    this.width = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Returns a new observer that adds a single game to these statistics once it ends
+   *
+   * @return an observer for one HeadlessGame
+   */
+  @Override
+  public GameObserver newGame() {
+    return new GameTracker();
+  }
+
+  /**
+   * Returns the number of games recorded
+   *
+   * @return the number of games
+   */
+  public long getGames() {
+    long games = 0;
+    for (LongAdder count : this.results) {
+      games += count.sum();
+    }
+    return games;
+  }
+
+  /**
+   * Returns the number of games with the given result for the first player
+   *
+   * @param result the result to count
+   * @return the number of games with that result
+   */
+  public long count(GameResult result) {
+    return this.results[result.ordinal()].sum();
+  }
+
+  /**
+   * Returns the mean number of turns per game
+   *
+   * @return the mean number of turns, or 0 if no games were recorded
+   */
+  public double getMeanTurns() {
+    long games = this.getGames();
+    return games == 0 ? 0 : (double) this.turnTotal.sum() / games;
+  }
+
+  /**
+   * Returns the sample variance of the number of turns per game
+   *
+   * @return the variance of the number of turns, or 0 if fewer than two games were recorded
+   */
+  public double getTurnVariance() {
+    long games = this.getGames();
+    if (games < 2) {
+      return 0;
+    }
+    // the sums are exact, so the variance does not lose precision as games are added
+    double total = this.turnTotal.sum();
+    return (this.turnSquares.sum() - total * total / games) / (games - 1);
+  }
+
+  /**
+   * Returns an upper bound of the number of turns at the given quantile of games
+   *
+   * @param quantile the quantile, in [0, 1]
+   * @return the number of turns at that quantile, or 0 if no games were recorded
+   */
+  public long getTurnQuantile(double quantile) {
+    return this.turns.getQuantile(quantile);
+  }
+
+  /**
+   * Returns the fraction of the given seat's shots on the given turn that hit
+   *
+   * @param seat 0 for the first player, or 1 for the second
+   * @param turn the turn, starting at 1
+   * @return the hit rate on that turn, or 0 if no shots were fired on it
+   * @throws IllegalArgumentException if the seat is not 0 or 1
+   */
+  public double getHitRate(int seat, int turn) {
+    checkSeat(seat);
+    if (turn < 1 || turn > MAX_TURNS) {
+      return 0;
+    }
+    long fired = this.shots[seat][turn].sum();
+    return fired == 0 ? 0 : (double) this.hits[seat][turn].sum() / fired;
+  }
+
+  /**
+   * Returns the mean number of shots in the given seat's volleys
+   *
+   * @param seat 0 for the first player, or 1 for the second
+   * @return the mean volley size, or 0 if no volleys were fired
+   * @throws IllegalArgumentException if the seat is not 0 or 1
+   */
+  public double getMeanVolleySize(int seat) {
+    checkSeat(seat);
+    long fired = 0;
+    for (LongAdder count : this.shots[seat]) {
+      fired += count.sum();
+    }
+    long volleys = this.volleys[seat].sum();
+    return volleys == 0 ? 0 : (double) fired / volleys;
+  }
+
+  /**
+   * Returns how many games the given seat's first hit landed on each cell
+   *
+   * @param seat 0 for the first player, or 1 for the second
+   * @return the number of first hits, indexed by y then x, on the largest possible board
+   * @throws IllegalArgumentException if the seat is not 0 or 1
+   */
+  public long[][] getFirstHits(int seat) {
+    checkSeat(seat);
+    long[][] heatmap = new long[BattleSalvoConfig.MAX_HEIGHT][BattleSalvoConfig.MAX_WIDTH];
+    for (int y = 0; y < BattleSalvoConfig.MAX_HEIGHT; y++) {
+      for (int x = 0; x < BattleSalvoConfig.MAX_WIDTH; x++) {
+        heatmap[y][x] = this.firstHits[seat][y * BattleSalvoConfig.MAX_WIDTH + x].sum();
+      }
+    }
+    return heatmap;
+  }
+
+  /**
+   * Returns the number of ships the given seat has sunk
+   *
+   * @param seat 0 for the first player, or 1 for the second
+   * @return the number of sinks
+   * @throws IllegalArgumentException if the seat is not 0 or 1
+   */
+  public long getSinks(int seat) {
+    checkSeat(seat);
+    return this.sinkTurns[seat].getCount();
+  }
+
+  /**
+   * Returns an upper bound of the turn at the given quantile of the given seat's sinks
+   *
+   * @param seat 0 for the first player, or 1 for the second
+   * @param quantile the quantile, in [0, 1]
+   * @return the turn at that quantile, or 0 if the seat has sunk no ships
+   * @throws IllegalArgumentException if the seat is not 0 or 1
+   */
+  public long getSinkTurnQuantile(int seat, double quantile) {
+    checkSeat(seat);
+    return this.sinkTurns[seat].getQuantile(quantile);
+  }
+
+  /**
+   * Returns a summary of these statistics: results and game length, then each seat's volley
+   * size, hit rate over the first turns, sinks, and a heatmap of first hits scaled to 0-9
+   *
+   * @return a multi-line summary of these statistics
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("Games: %d (%d wins, %d losses, %d draws for seat 0)%n",
+        this.getGames(), this.count(GameResult.WIN), this.count(GameResult.LOSE),
+        this.count(GameResult.DRAW)));
+    sb.append(String.format("Turns: mean %.2f, sd %.2f, median %d, p90 %d, p99 %d%n",
+        this.getMeanTurns(), Math.sqrt(this.getTurnVariance()), this.getTurnQuantile(0.5),
+        this.getTurnQuantile(0.9), this.getTurnQuantile(0.99)));
+
+    int height = (int) this.height.get();
+    int width = (int) this.width.get();
+    for (int seat = 0; seat < SEATS; seat++) {
+      sb.append(String.format("Seat %d: volleys of %.2f shots, %d sinks (median turn %d)%n",
+          seat, this.getMeanVolleySize(seat), this.getSinks(seat),
+          this.getSinkTurnQuantile(seat, 0.5)));
+      sb.append("  hit rate by turn:");
+      for (int turn = 1; turn <= Math.min(10, MAX_TURNS); turn++) {
+        sb.append(String.format(" %.2f", this.getHitRate(seat, turn)));
+      }
+      sb.append(System.lineSeparator());
+
+      long[][] heatmap = this.getFirstHits(seat);
+      long most = 1;
+      for (long[] row : heatmap) {
+        for (long count : row) {
+          most = Math.max(most, count);
+        }
+      }
+      sb.append("  first hits:").append(System.lineSeparator());
+      for (int y = 0; y < height; y++) {
+        sb.append("  ");
+        for (int x = 0; x < width; x++) {
+          sb.append(heatmap[y][x] * 9 / most);
+        }
+        sb.append(System.lineSeparator());
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns an array of new LongAdders
+   *
+   * @param length the number of adders
+   * @return the adders
+   */
+  private static LongAdder[] adders(int length) {
+    LongAdder[] adders = new LongAdder[length];
+    for (int i = 0; i < length; i++) {
+      adders[i] = new LongAdder();
+    }
+    return adders;
+  }
+
+  /**
+   * Ensures that the given seat is 0 or 1
+   *
+   * @param seat the seat to check
+   * @throws IllegalArgumentException if the seat is not 0 or 1
+   */
+  private static void checkSeat(int seat) {
+    if (seat < 0 || seat >= SEATS) {
+      throw new IllegalArgumentException("seat must be 0 or 1");
+    }
+  }
+
+  /**
+   * Represents the progress of a single game, which belongs to that game's thread and adds
+   * each turn to the shared statistics as it is played
+   */
+  private class GameTracker implements GameObserver {
+    // the number of turns finished so far
+    private int turn;
+    private final boolean[] hasHit;
+
+    /**
+     * Constructs a new GameTracker of a game that has not started
+     */
+    GameTracker() {
+      this.turn = 0;
+      this.hasHit = new boolean[SEATS];
+    }
+
+    @Override
+    public void fleetsPlaced(int height, int width, List<Ship> fleet, List<Ship> oppoFleet) {
+      GameStatistics.this.height.accumulate(height);
+      GameStatistics.this.width.accumulate(width);
+      // ships sink while damage is reported, which is during the turn after those finished
+      fleet.forEach(s -> s.addSinkListener(
+          sunk -> GameStatistics.this.sinkTurns[1].record(this.turn + 1)));
+      oppoFleet.forEach(s -> s.addSinkListener(
+          sunk -> GameStatistics.this.sinkTurns[0].record(this.turn + 1)));
+    }
+
+    @Override
+    public void turnPlayed(List<Coord> shots, List<Coord> hits, List<Coord> oppoShots,
+        List<Coord> oppoHits) {
+      this.turn++;
+      this.recordVolley(0, shots, hits);
+      this.recordVolley(1, oppoShots, oppoHits);
+    }
+
+    @Override
+    public void gameEnded(GameResult result) {
+      GameStatistics.this.results[result.ordinal()].increment();
+      GameStatistics.this.turnTotal.add(this.turn);
+      GameStatistics.this.turnSquares.add((long) this.turn * this.turn);
+      GameStatistics.this.turns.record(this.turn);
+    }
+
+    /**
+     * Records one seat's volley of the current turn
+     *
+     * @param seat the seat that fired
+     * @param shots the shots of the volley
+     * @param hits the shots that hit
+     */
+    private void recordVolley(int seat, List<Coord> shots, List<Coord> hits) {
+      int turn = Math.min(this.turn, MAX_TURNS);
+      GameStatistics.this.shots[seat][turn].add(shots.size());
+      GameStatistics.this.hits[seat][turn].add(hits.size());
+      GameStatistics.this.volleys[seat].increment();
+      if (!this.hasHit[seat] && !hits.isEmpty()) {
+        this.hasHit[seat] = true;
+        Coord first = hits.get(0);
+        GameStatistics.this.firstHits[seat][first.y() * BattleSalvoConfig.MAX_WIDTH
+            + first.x()].increment();
+      }
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package cs3500.pa03.controller;
+
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.Ship;
+import cs3500.pa03.model.ShipType;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a controller for a single game of BattleSalvo between two players with no view,
+ * on a board of a fixed size with a fixed fleet. It is used to play many games between AIs.
+ */
+public class HeadlessGame implements GameController {
+  private final Player player;
+  private final Player opponent;
+  private final int height;
+  private final int width;
+  private final Map<ShipType, Integer> specifications;
+  // the number of unsunk ships each player has, updated by sink events
+  private int shipCount;
+  private int oppoShipCount;
+  private GameResult result;
+  private int turns;
+  // told of every move, or null if the game is not observed
+  private GameObserver observer;
+
+  /**
+   * Constructs a new HeadlessGame between the given players on a board of the given size
+   *
+   * @param player the first player, whose point of view the result is from
+   * @param opponent the second player
+   * @param height the height of the board, range: [6, 15] inclusive
+   * @param width the width of the board, range: [6, 15] inclusive
+   * @param specifications a map of ship type to the number of occurrences each ship should
+   *                       appear on the board
+   */
+  public HeadlessGame(Player player, Player opponent, int height, int width,
+      Map<ShipType, Integer> specifications) {
+    this.player = player;
+    this.opponent = opponent;
+    this.height = height;
+    this.width = width;
+    this.specifications = specifications;
+    this.result = null;
+    this.turns = 0;
+    this.observer = null;
+  }
+
+  /**
+   * Sets the observer that is told of every move of this game
+   *
+   * @param observer the observer, or null to stop observing
+   */
+  public void setObserver(GameObserver observer) {
+    this.observer = observer;
+  }
+
+  /**
+   * Plays the game to the end, then tells both players the result
+   */
+  @Override
+  public void run() {
+    List<Ship> ships = this.player.setup(this.height, this.width, this.specifications);
+    List<Ship> oppoShips = this.opponent.setup(this.height, this.width, this.specifications);
+    this.shipCount = ships.size();
+    this.oppoShipCount = oppoShips.size();
+    ships.forEach(s -> s.addSinkListener(sunk -> this.shipCount--));
+    oppoShips.forEach(s -> s.addSinkListener(sunk -> this.oppoShipCount--));
+    if (this.observer != null) {
+      this.observer.fleetsPlaced(this.height, this.width, ships, oppoShips);
+    }
+
+    // while both players still have ships, continue play
+    while (this.shipCount > 0 && this.oppoShipCount > 0) {
+      List<Coord> playerShots = this.player.takeShots();
+      List<Coord> oppoShots = this.opponent.takeShots();
+      // a player with ships left always has cells left to fire at, unless its shots are
+      // being wasted, so this only guards against a broken player looping forever
+      if (playerShots.isEmpty() && oppoShots.isEmpty()) {
+        break;
+      }
+      List<Coord> playerHits = this.opponent.reportDamage(playerShots);
+      this.player.successfulHits(playerHits);
+      List<Coord> oppoHits = this.player.reportDamage(oppoShots);
+      this.opponent.successfulHits(oppoHits);
+      this.turns++;
+      if (this.observer != null) {
+        this.observer.turnPlayed(playerShots, playerHits, oppoShots, oppoHits);
+      }
+    }
+
+    if (this.shipCount == 0 && this.oppoShipCount > 0) {
+      this.result = GameResult.LOSE;
+      this.player.endGame(GameResult.LOSE, "You lost!");
+      this.opponent.endGame(GameResult.WIN, "You won!");
+    } else if (this.shipCount > 0 && this.oppoShipCount == 0) {
+      this.result = GameResult.WIN;
+      this.player.endGame(GameResult.WIN, "You won!");
+      this.opponent.endGame(GameResult.LOSE, "You lost!");
+    } else {
+      this.result = GameResult.DRAW;
+      this.player.endGame(GameResult.DRAW, "You tied!");
+      this.opponent.endGame(GameResult.DRAW, "You tied!");
+    }
+    if (this.observer != null) {
+      this.observer.gameEnded(this.result);
+    }
+  }
+
+  /**
+   * Returns the result of the game for the first player
+   *
+   * @return the first player's result
+   * @throws IllegalStateException if the game has not been played yet
+   */
+  public GameResult getResult() {
+    if (this.result == null) {
+      throw new IllegalStateException("game has not been played yet");
+    }
+    return this.result;
+  }
+
+  /**
+   * Returns the number of turns (pairs of volleys) the game took
+   *
+   * @return the number of turns played
+   */
+  public int getTurns() {
+    return this.turns;
+  }
+}
@@ -0,0 +1,78 @@
+package cs3500.pa03.controller;
+
+/**
+ * Represents the buckets of a fixed-size histogram of non-negative values. Values under a
+ * linear limit each have their own bucket; larger ones go into one of a number of equal
+ * sub-buckets per power of two, so a value's bucket bounds it to within one sub-bucket's
+ * share of its power of two. Finding a bucket is a few bit operations and never allocates.
+ */
+public final class LogLinearBuckets {
+  private final int linearLimit;
+  // the power of two of the linear limit, which is the first power with sub-buckets
+  private final int firstExponent;
+  // the number of bits of a value (after its highest bit) that choose its sub-bucket
+  private final int subBucketBits;
+  private final int subBuckets;
+
+  /**
+   * Constructs new LogLinearBuckets with the given linear limit and sub-buckets
+   *
+   * @param linearLimit the values below this each have their own bucket, which must be a
+   *                    power of two of at least the number of sub-buckets
+   * @param subBucketBits the number of sub-buckets of each power of two, as a power of two
+   * @throws IllegalArgumentException if the linear limit is not a power of two, or is less
+   *                                  than the number of sub-buckets
+   */
+  public LogLinearBuckets(int linearLimit, int subBucketBits) {
+    if (subBucketBits < 0 || subBucketBits > 30 || Integer.bitCount(linearLimit) != 1
+        || linearLimit < 1 << subBucketBits) {
+      throw new IllegalArgumentException(
+          "linear limit must be a power of two of at least the number of sub-buckets");
+    }
+    this.linearLimit = linearLimit;
+    this.firstExponent = Integer.numberOfTrailingZeros(linearLimit);
+    this.subBucketBits = subBucketBits;
+    this.subBuckets = 1 << subBucketBits;
+  }
+
+  /**
+   * Returns the number of buckets, which is enough for every non-negative long
+   *
+   * @return the number of buckets
+   */
+  public int count() {
+    // one set of sub-buckets for each power of two from the linear limit up to 2^62
+    return this.linearLimit + (63 - this.firstExponent) * this.subBuckets;
+  }
+
+  /**
+   * Returns the bucket that the given value is counted in
+   *
+   * @param value a non-negative value
+   * @return the index of the value's bucket
+   */
+  public int bucketOf(long value) {
+    if (value < this.linearLimit) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - this.subBucketBits)) & (this.subBuckets - 1);
+    return this.linearLimit + (exponent - this.firstExponent) * this.subBuckets + sub;
+  }
+
+  /**
+   * Returns the largest value that is counted in the given bucket
+   *
+   * @param bucket the index of a bucket
+   * @return the largest value of the bucket
+   */
+  public long upperBoundOf(int bucket) {
+    if (bucket < this.linearLimit) {
+      return bucket;
+    }
+    int exponent = (bucket - this.linearLimit) / this.subBuckets + this.firstExponent;
+    int sub = (bucket - this.linearLimit) % this.subBuckets;
+    long width = 1L << (exponent - this.subBucketBits);
+    return (this.subBuckets + sub) * width + width - 1;
+  }
+}
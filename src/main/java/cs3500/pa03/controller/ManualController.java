@@ -10,7 +10,6 @@ import cs3500.pa03.view.GameView;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
 
 /**
  * Represents a controller to a game of BattleSalvo,
@@ -20,6 +19,11 @@ public class ManualController implements GameController {
   private final Player player;
   private final Player opponent;
   private final GameView view;
+  // the number of unsunk ships each player has, updated by sink events
+  private int shipCount;
+  private int oppoShipCount;
+  // told of every move, or null if the game is not observed
+  private GameObserver observer;
   
   /**
    * Constructs a new ManualController to play a game between two players,
@@ -33,6 +37,16 @@ public class ManualController implements GameController {
     this.player = player;
     this.opponent = opponent;
     this.view = view;
+    this.observer = null;
+  }
+
+  /**
+   * Sets the observer that is told of every move of this game, from the player's point of view
+   *
+   * @param observer the observer, or null to stop observing
+   */
+  public void setObserver(GameObserver observer) {
+    this.observer = observer;
   }
 
   /**
@@ -52,23 +66,32 @@ public class ManualController implements GameController {
     List<Ship> oppoShips = this.opponent.setup(height, width, specs);
     
     // main gameplay loop: run until it returns (ends)
-    int shipCount = ships.size();
-    int oppoShipCount = oppoShips.size();
+    // determining when game is ended based solely off of length of takeShots runs into problems:
+    // if there are no more coordinates to fire at, the AI will return a zero-length list,
+    // which is impossible to differentiate between empty because it has no more ships.
+    // instead, each ship tells us when it sinks, so the counts are always current
+    this.shipCount = ships.size();
+    this.oppoShipCount = oppoShips.size();
+    ships.forEach(s -> s.addSinkListener(sunk -> this.shipCount--));
+    oppoShips.forEach(s -> s.addSinkListener(sunk -> this.oppoShipCount--));
+    if (this.observer != null) {
+      this.observer.fleetsPlaced(height, width, ships, oppoShips);
+    }
+    
     // while both players still have ships, continue play
-    while (shipCount > 0 && oppoShipCount > 0) {
+    while (this.shipCount > 0 && this.oppoShipCount > 0) {
       List<Coord> playerShots = this.player.takeShots();
       List<Coord> oppoShots = this.opponent.takeShots();
-      this.player.successfulHits(this.opponent.reportDamage(playerShots));
-      this.opponent.successfulHits(this.player.reportDamage(oppoShots));
-      
-      // determining when game is ended based solely off of length of takeShots runs into problems:
-      // if there are no more coordinates to fire at, the AI will return a zero-length list,
-      // which is impossible to differentiate between empty because it has no more ships
-      shipCount = ships.stream().filter(Predicate.not(Ship::isSunk)).mapToInt(s -> 1).sum();
-      oppoShipCount = oppoShips.stream().filter(Predicate.not(Ship::isSunk)).mapToInt(s -> 1).sum();
+      List<Coord> playerHits = this.opponent.reportDamage(playerShots);
+      this.player.successfulHits(playerHits);
+      List<Coord> oppoHits = this.player.reportDamage(oppoShots);
+      this.opponent.successfulHits(oppoHits);
+      if (this.observer != null) {
+        this.observer.turnPlayed(playerShots, playerHits, oppoShots, oppoHits);
+      }
     }
 
-    this.handleEndGame(shipCount, oppoShipCount);
+    this.handleEndGame(this.shipCount, this.oppoShipCount);
   }
 
   /**
@@ -137,18 +160,25 @@ public class ManualController implements GameController {
    */
   private void handleEndGame(int shipCount, int oppoShipCount) {
     // handle game end by calling endGame on both
+    GameResult result;
     if (shipCount == 0 && oppoShipCount > 0) {
+      result = GameResult.LOSE;
       this.player.endGame(GameResult.LOSE, "You lost!");
       this.opponent.endGame(GameResult.WIN, "You won!");
       this.view.displayMessage("You lost the game!");
     } else if (shipCount > 0 && oppoShipCount == 0) {
+      result = GameResult.WIN;
       this.player.endGame(GameResult.WIN, "You won!");
       this.opponent.endGame(GameResult.LOSE, "You lost!");
       this.view.displayMessage("You won the game!");
     } else {
+      result = GameResult.DRAW;
       this.player.endGame(GameResult.DRAW, "You tied!");
       this.opponent.endGame(GameResult.DRAW, "You tied!");
       this.view.displayMessage("You tied the game!");
     }
+    if (this.observer != null) {
+      this.observer.gameEnded(result);
+    }
   }
 }
@@ -0,0 +1,79 @@
+package cs3500.pa03.controller;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents a fixed-size, thread-safe sketch of the distribution of non-negative values.
+ * Values under 32 are counted exactly; larger ones go into one of 16 buckets per power of
+ * two, so any quantile is known to within 6.25%. Each bucket is a striped LongAdder, so many
+ * threads can record at once without contending on a lock or a single counter.
+ */
+public class QuantileSketch {
+  // values below 32 are each their own bucket, and larger ones share 16 per power of two
+  static final LogLinearBuckets BUCKETS = new LogLinearBuckets(32, 4);
+
+  private final LongAdder[] counts;
+  private final LongAdder count;
+  private final LongAccumulator max;
+
+  /**
+   * Constructs a new, empty QuantileSketch
+   */
+  public QuantileSketch() {
+    this.counts = new LongAdder[BUCKETS.count()];
+    for (int i = 0; i < BUCKETS.count(); i++) {
+      this.counts[i] = new LongAdder();
+    }
+    this.count = new LongAdder();
+    this.max = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Records the given value, where negative values are recorded as 0
+   *
+   * @param value the value to record
+   */
+  public void record(long value) {
+    long v = Math.max(value, 0);
+    this.counts[BUCKETS.bucketOf(v)].increment();
+    this.count.increment();
+    this.max.accumulate(v);
+  }
+
+  /**
+   * Returns the number of recorded values
+   *
+   * @return the number of recorded values
+   */
+  public long getCount() {
+    return this.count.sum();
+  }
+
+  /**
+   * Returns an upper bound of the value at the given quantile, which is within 6.25% of the
+   * true value and never more than the largest recorded value. Values recorded while this
+   * is called may or may not be counted.
+   *
+   * @param quantile the quantile, in [0, 1]
+   * @return the value at the quantile, or 0 if none were recorded
+   */
+  public long getQuantile(double quantile) {
+    long[] snapshot = new long[BUCKETS.count()];
+    long total = 0;
+    for (int bucket = 0; bucket < BUCKETS.count(); bucket++) {
+      snapshot[bucket] = this.counts[bucket].sum();
+      total += snapshot[bucket];
+    }
+    long max = this.max.get();
+    long target = Math.max(1, (long) Math.ceil(quantile * total));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS.count(); bucket++) {
+      seen += snapshot[bucket];
+      if (seen >= target) {
+        return Math.min(BUCKETS.upperBoundOf(bucket), max);
+      }
+    }
+    return max;
+  }
+}
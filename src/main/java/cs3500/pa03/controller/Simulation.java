@@ -0,0 +1,217 @@
+package cs3500.pa03.controller;
+
+import cs3500.pa03.model.BattleSalvoConfig;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.RandomSource;
+import cs3500.pa03.model.ShipType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a headless simulation of many games of BattleSalvo between two kinds of AI players,
+ * played in parallel with no view. Each game's players get their own generators, derived by a
+ * RandomSource from the simulation's seed, the game's number and their seat, so the results do
+ * not depend on how many threads play them.
+ */
+public class Simulation {
+  // games are handed out in this many batches per thread, so that threads finish together
+  private static final int BATCHES_PER_THREAD = 8;
+
+  private final int height;
+  private final int width;
+  private final Map<ShipType, Integer> specifications;
+  private final Function<RandomGenerator, Player> player1;
+  private final Function<RandomGenerator, Player> player2;
+
+  /**
+   * Constructs a new Simulation of games on a board of the given size with the given fleet,
+   * between players created by the given factories
+   *
+   * @param height the height of the board, range: [6, 15] inclusive
+   * @param width the width of the board, range: [6, 15] inclusive
+   * @param specifications a map of ship type to the number of occurrences each ship should
+   *                       appear on the board
+   * @param player1 creates the first player of each game from its random generator
+   * @param player2 creates the second player of each game from its random generator
+   * @throws IllegalArgumentException if the dimensions are out of range, or the fleet is empty
+   *                                  or has a negative count
+   */
+  public Simulation(int height, int width, Map<ShipType, Integer> specifications,
+      Function<RandomGenerator, Player> player1, Function<RandomGenerator, Player> player2) {
+    checkGame(height, width, specifications);
+    this.height = height;
+    this.width = width;
+    this.specifications = new EnumMap<>(specifications);
+    this.player1 = player1;
+    this.player2 = player2;
+  }
+
+  /**
+   * Ensures that games can be played on a board of the given size with the given fleet
+   *
+   * @param height the height of the board
+   * @param width the width of the board
+   * @param specifications a map of ship type to the number of occurrences of each ship
+   * @throws IllegalArgumentException if the dimensions are out of range, or the fleet is empty
+   *                                  or has a negative count
+   */
+  static void checkGame(int height, int width, Map<ShipType, Integer> specifications) {
+    if (height < BattleSalvoConfig.MIN_HEIGHT || height > BattleSalvoConfig.MAX_HEIGHT
+        || width < BattleSalvoConfig.MIN_WIDTH || width > BattleSalvoConfig.MAX_WIDTH) {
+      throw new IllegalArgumentException("board dimensions must be within the range [6, 15]");
+    }
+    int ships = 0;
+    for (int count : specifications.values()) {
+      if (count < 0) {
+        throw new IllegalArgumentException("ship counts must not be negative");
+      }
+      ships += count;
+    }
+    if (ships == 0) {
+      throw new IllegalArgumentException("fleet must have at least one ship");
+    }
+  }
+
+  /**
+   * Plays the given number of games on the given number of threads
+   *
+   * @param games the number of games to play
+   * @param seed the seed that every player's random generator is derived from
+   * @param threads the number of threads to play on
+   * @return a report of the results of every game
+   * @throws IllegalArgumentException if games is negative or threads is not positive
+   * @throws IllegalStateException if a game throws an exception
+   */
+  public SimulationReport run(int games, long seed, int threads) {
+    return this.run(games, seed, threads, new GameRecorder[0]);
+  }
+
+  /**
+   * Plays the given number of games on the given number of threads, recording every game
+   * with each of the given recorders, such as a log or running statistics
+   *
+   * @param games the number of games to play
+   * @param seed the seed that every player's random generator is derived from
+   * @param threads the number of threads to play on
+   * @param recorders the recorders to record every game with
+   * @return a report of the results of every game
+   * @throws IllegalArgumentException if games is negative or threads is not positive
+   * @throws IllegalStateException if a game throws an exception, or cannot be recorded
+   */
+  public SimulationReport run(int games, long seed, int threads, GameRecorder... recorders) {
+    if (games < 0 || threads <= 0) {
+      throw new IllegalArgumentException("games must not be negative and threads must be positive");
+    }
+
+    long start = System.nanoTime();
+    int batches = Math.max(1, Math.min(games, threads * BATCHES_PER_THREAD));
+    RandomSource master = new RandomSource(seed);
+    List<Callable<Tally>> tasks = new ArrayList<>();
+    for (int b = 0; b < batches; b++) {
+      // batch b plays games [from, to)
+      int from = (int) ((long) games * b / batches);
+      int to = (int) ((long) games * (b + 1) / batches);
+      tasks.add(() -> this.playBatch(from, to, master, recorders));
+    }
+
+    Tally total = new Tally();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (Future<Tally> future : executor.invokeAll(tasks)) {
+        total.add(future.get());
+      }
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("a simulated game failed", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("simulation was interrupted", e);
+    } finally {
+      executor.shutdownNow();
+    }
+    return new SimulationReport(total.results, total.turnCounts, System.nanoTime() - start);
+  }
+
+  /**
+   * Plays the games with numbers in [from, to)
+   *
+   * @param from the first game number (inclusive)
+   * @param to the last game number (exclusive)
+   * @param master the source of the simulation's seed
+   * @param recorders the recorders to record the games with
+   * @return the tally of the results of the games
+   */
+  private Tally playBatch(int from, int to, RandomSource master, GameRecorder[] recorders) {
+    Tally tally = new Tally();
+    for (int game = from; game < to; game++) {
+      RandomSource source = master.derive(game);
+      Player p1 = this.player1.apply(source.derive(0).generator());
+      Player p2 = this.player2.apply(source.derive(1).generator());
+      HeadlessGame headless = new HeadlessGame(p1, p2, this.height, this.width,
+          this.specifications);
+      if (recorders.length == 1) {
+        headless.setObserver(recorders[0].newGame());
+      } else if (recorders.length > 1) {
+        List<GameObserver> observers = new ArrayList<>();
+        for (GameRecorder recorder : recorders) {
+          observers.add(recorder.newGame());
+        }
+        headless.setObserver(GameObserver.all(observers));
+      }
+      headless.run();
+      tally.record(headless.getResult(), headless.getTurns());
+    }
+    return tally;
+  }
+
+  /**
+   * Represents the running counts of a batch of games, which are combined into a report
+   */
+  private class Tally {
+    private final int[] results;
+    private final long[] turnCounts;
+
+    /**
+     * Constructs a new, empty Tally
+     */
+    Tally() {
+      this.results = new int[GameResult.values().length];
+      // a game can never take more turns than there are cells on the board
+      this.turnCounts = new long[Simulation.this.height * Simulation.this.width + 1];
+    }
+
+    /**
+     * Records the result of a single game
+     *
+     * @param result the result for the first player
+     * @param turns the number of turns the game took
+     */
+    void record(GameResult result, int turns) {
+      this.results[result.ordinal()]++;
+      this.turnCounts[turns]++;
+    }
+
+    /**
+     * Adds the counts of the other tally into this one
+     *
+     * @param other the tally to add
+     */
+    void add(Tally other) {
+      for (int i = 0; i < this.results.length; i++) {
+        this.results[i] += other.results[i];
+      }
+      for (int i = 0; i < this.turnCounts.length; i++) {
+        this.turnCounts[i] += other.turnCounts[i];
+      }
+    }
+  }
+}
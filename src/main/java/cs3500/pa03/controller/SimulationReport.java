@@ -0,0 +1,150 @@
+package cs3500.pa03.controller;
+
+import cs3500.pa03.model.GameResult;
+import java.util.Arrays;
+
+/**
+ * Represents the results of many games played by a Simulation: the first player's wins, losses
+ * and draws, how many turns the games took, and how fast they were played
+ */
+public class SimulationReport {
+  private final int wins;
+  private final int losses;
+  private final int draws;
+  // the number of games that took each number of turns, indexed by turns
+  private final long[] turnCounts;
+  private final long elapsedNanos;
+
+  /**
+   * Constructs a new SimulationReport
+   *
+   * @param results the number of games with each result for the first player,
+   *                indexed by GameResult ordinal
+   * @param turnCounts the number of games that took each number of turns, indexed by turns
+   * @param elapsedNanos the time it took to play every game, in nanoseconds
+   */
+  SimulationReport(int[] results, long[] turnCounts, long elapsedNanos) {
+    this.wins = results[GameResult.WIN.ordinal()];
+    this.losses = results[GameResult.LOSE.ordinal()];
+    this.draws = results[GameResult.DRAW.ordinal()];
+    this.turnCounts = turnCounts.clone();
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Returns the number of games played
+   *
+   * @return the number of games played
+   */
+  public int getGames() {
+    return this.wins + this.losses + this.draws;
+  }
+
+  /**
+   * Returns the number of games the first player won
+   *
+   * @return the first player's wins
+   */
+  public int getWins() {
+    return this.wins;
+  }
+
+  /**
+   * Returns the number of games the first player lost
+   *
+   * @return the first player's losses
+   */
+  public int getLosses() {
+    return this.losses;
+  }
+
+  /**
+   * Returns the number of games that were tied
+   *
+   * @return the number of draws
+   */
+  public int getDraws() {
+    return this.draws;
+  }
+
+  /**
+   * Returns the number of games played per second of wall-clock time
+   *
+   * @return the throughput of the simulation
+   */
+  public double getGamesPerSecond() {
+    return this.getGames() / (Math.max(this.elapsedNanos, 1) / 1e9);
+  }
+
+  /**
+   * Returns the number of games that took each number of turns
+   *
+   * @return a copy of the turn counts, indexed by turns
+   */
+  public long[] getTurnCounts() {
+    return this.turnCounts.clone();
+  }
+
+  /**
+   * Returns the mean number of turns per game
+   *
+   * @return the mean number of turns, or 0 if no games were played
+   */
+  public double getMeanTurns() {
+    long total = 0;
+    for (int turns = 0; turns < this.turnCounts.length; turns++) {
+      total += turns * this.turnCounts[turns];
+    }
+    return this.getGames() == 0 ? 0 : (double) total / this.getGames();
+  }
+
+  /**
+   * Returns the smallest number of turns that at least the given fraction of games took
+   * no more than
+   *
+   * @param fraction the fraction of games, in (0, 1]
+   * @return the number of turns at that percentile, or 0 if no games were played
+   */
+  public int getTurnPercentile(double fraction) {
+    long target = (long) Math.ceil(fraction * this.getGames());
+    long seen = 0;
+    for (int turns = 0; turns < this.turnCounts.length; turns++) {
+      seen += this.turnCounts[turns];
+      if (seen >= target && seen > 0) {
+        return turns;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Returns a summary of this report: throughput, win rates, and the turn-count distribution
+   *
+   * @return a multi-line summary of this report
+   */
+  @Override
+  public String toString() {
+    int games = Math.max(this.getGames(), 1);
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("Games: %d in %.2fs (%.1f games/s)%n", this.getGames(),
+        this.elapsedNanos / 1e9, this.getGamesPerSecond()));
+    sb.append(String.format("Player 1: %d wins (%.2f%%), %d losses (%.2f%%), %d draws (%.2f%%)%n",
+        this.wins, 100.0 * this.wins / games, this.losses, 100.0 * this.losses / games,
+        this.draws, 100.0 * this.draws / games));
+    sb.append(String.format("Turns: mean %.2f, min %d, median %d, p90 %d, p99 %d, max %d%n",
+        this.getMeanTurns(), this.getTurnPercentile(Double.MIN_VALUE),
+        this.getTurnPercentile(0.5), this.getTurnPercentile(0.9), this.getTurnPercentile(0.99),
+        this.getTurnPercentile(1)));
+
+    // each row of the histogram is scaled against the most common number of turns
+    long most = Arrays.stream(this.turnCounts).max().orElse(0);
+    for (int turns = 0; turns < this.turnCounts.length; turns++) {
+      if (this.turnCounts[turns] > 0) {
+        sb.append(String.format("%4d | %-40s %d%n", turns,
+            "#".repeat((int) Math.ceil(40.0 * this.turnCounts[turns] / most)),
+            this.turnCounts[turns]));
+      }
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,208 @@
+package cs3500.pa03.controller;
+
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.RandomSource;
+import cs3500.pa03.model.ShipType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a round-robin tournament between kinds of AI players: every pair of entrants
+ * plays the same number of headless games in every arena (a board size and fleet), taking
+ * turns at being the first player. Games are played on a work-stealing pool, and like a
+ * Simulation, each game's players get their own generators derived from the tournament's
+ * seed, the game's number and their seat, so the results do not depend on how many threads
+ * play them.
+ */
+public class Tournament {
+  // games are played directly once a task has no more than this many
+  private static final int GAMES_PER_TASK = 4;
+
+  private final List<String> names;
+  private final List<Function<RandomGenerator, Player>> factories;
+  private final List<Arena> arenas;
+
+  /**
+   * Represents a board size and fleet that every pair of entrants plays on
+   *
+   * @param height the height of the board, range: [6, 15] inclusive
+   * @param width the width of the board, range: [6, 15] inclusive
+   * @param specifications a map of ship type to the number of occurrences each ship should
+   *                       appear on the board
+   */
+  public record Arena(int height, int width, Map<ShipType, Integer> specifications) {
+    /**
+     * Constructs a new Arena, keeping its own copy of the fleet
+     *
+     * @throws IllegalArgumentException if the dimensions are out of range, or the fleet is
+     *                                  empty or has a negative count
+     */
+    public Arena {
+      Simulation.checkGame(height, width, specifications);
+      specifications = Collections.unmodifiableMap(new EnumMap<>(specifications));
+    }
+
+    /**
+     * Returns a short description of this arena, such as 10x10 [1, 1, 1, 1]
+     *
+     * @return the size of the board and the number of each ship
+     */
+    @Override
+    public String toString() {
+      return this.height + "x" + this.width + " " + this.specifications.values();
+    }
+  }
+
+  /**
+   * Constructs a new Tournament between the given entrants in the given arenas
+   *
+   * @param entrants the name of each entrant, in order, mapped to a factory that creates
+   *                 its player from a random generator
+   * @param arenas the board sizes and fleets to play on
+   * @throws IllegalArgumentException if there are fewer than two entrants or no arenas
+   */
+  public Tournament(Map<String, Function<RandomGenerator, Player>> entrants,
+      List<Arena> arenas) {
+    if (entrants.size() < 2 || arenas.isEmpty()) {
+      throw new IllegalArgumentException("a tournament needs two entrants and an arena");
+    }
+    Map<String, Function<RandomGenerator, Player>> ordered = new LinkedHashMap<>(entrants);
+    this.names = List.copyOf(ordered.keySet());
+    this.factories = List.copyOf(ordered.values());
+    this.arenas = List.copyOf(arenas);
+  }
+
+  /**
+   * Plays the given number of games between every pair of entrants in every arena, on the
+   * given number of threads
+   *
+   * @param gamesPerPairing the number of games each pair of entrants plays in each arena
+   * @param seed the seed that every player's random generator is derived from
+   * @param threads the number of threads to play on
+   * @return a report of the ratings and results of every entrant
+   * @throws IllegalArgumentException if games is negative or threads is not positive
+   * @throws IllegalStateException if a game throws an exception
+   */
+  public TournamentReport run(int gamesPerPairing, long seed, int threads) {
+    if (gamesPerPairing < 0 || threads <= 0) {
+      throw new IllegalArgumentException("games must not be negative and threads must be positive");
+    }
+
+    // every pair of entrants, in the same order every round
+    List<int[]> pairings = new ArrayList<>();
+    for (int a = 0; a < this.names.size(); a++) {
+      for (int b = a + 1; b < this.names.size(); b++) {
+        pairings.add(new int[] {a, b});
+      }
+    }
+    // each round plays every pairing in every arena once, so that ratings are updated
+    // evenly as the games are replayed in order
+    int perRound = pairings.size() * this.arenas.size();
+    int games = Math.multiplyExact(perRound, gamesPerPairing);
+    Schedule schedule = new Schedule(games);
+    for (int game = 0; game < games; game++) {
+      int round = game / perRound;
+      int[] pairing = pairings.get(game % pairings.size());
+      // entrants take turns at being the first player from one round to the next
+      boolean swap = round % 2 == 1;
+      schedule.first[game] = pairing[swap ? 1 : 0];
+      schedule.second[game] = pairing[swap ? 0 : 1];
+      schedule.arena[game] = game % perRound / pairings.size();
+    }
+
+    long start = System.nanoTime();
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      pool.invoke(new PlayTask(schedule, 0, games, new RandomSource(seed)));
+    } catch (RuntimeException e) {
+      throw new IllegalStateException("a tournament game failed", e);
+    } finally {
+      pool.shutdownNow();
+    }
+    return new TournamentReport(this.names, this.arenas.size(), schedule.first,
+        schedule.second, schedule.results, System.nanoTime() - start);
+  }
+
+  /**
+   * Represents the order of every game of a tournament, with room for its results: each
+   * game is only written by the task that plays it, and read once every task has joined
+   */
+  private static class Schedule {
+    private final int[] first;
+    private final int[] second;
+    private final int[] arena;
+    private final GameResult[] results;
+
+    /**
+     * Constructs a new Schedule of the given number of games
+     *
+     * @param games the number of games
+     */
+    Schedule(int games) {
+      this.first = new int[games];
+      this.second = new int[games];
+      this.arena = new int[games];
+      this.results = new GameResult[games];
+    }
+  }
+
+  /**
+   * Represents a task that plays a range of scheduled games, splitting in two until the
+   * range is small enough to play directly, so that idle threads steal the other halves
+   */
+  // tasks are only ever run in memory, so they are never serialized
+  @SuppressWarnings("serial")
+  private class PlayTask extends RecursiveAction {
+    private final Schedule schedule;
+    private final int from;
+    private final int to;
+    private final RandomSource master;
+
+    /**
+     * Constructs a new PlayTask of the games with numbers in [from, to)
+     *
+     * @param schedule the schedule of every game
+     * @param from the first game number (inclusive)
+     * @param to the last game number (exclusive)
+     * @param master the source of the tournament's seed
+     */
+    PlayTask(Schedule schedule, int from, int to, RandomSource master) {
+      this.schedule = schedule;
+      this.from = from;
+      this.to = to;
+      this.master = master;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.to - this.from > GAMES_PER_TASK) {
+        int middle = (this.from + this.to) >>> 1;
+        invokeAll(new PlayTask(this.schedule, this.from, middle, this.master),
+            new PlayTask(this.schedule, middle, this.to, this.master));
+        return;
+      }
+
+      for (int game = this.from; game < this.to; game++) {
+        RandomSource source = this.master.derive(game);
+        Player p1 = Tournament.this.factories.get(this.schedule.first[game])
+            .apply(source.derive(0).generator());
+        Player p2 = Tournament.this.factories.get(this.schedule.second[game])
+            .apply(source.derive(1).generator());
+        Arena arena = Tournament.this.arenas.get(this.schedule.arena[game]);
+        HeadlessGame headless = new HeadlessGame(p1, p2, arena.height(), arena.width(),
+            arena.specifications());
+        headless.run();
+        this.schedule.results[game] = headless.getResult();
+      }
+    }
+  }
+}
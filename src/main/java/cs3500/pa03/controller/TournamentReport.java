@@ -0,0 +1,293 @@
+package cs3500.pa03.controller;
+
+import cs3500.pa03.model.GameResult;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Represents the results of a Tournament: each entrant's wins, losses and draws, its score
+ * with a confidence interval, its Elo rating, and its score against each other entrant
+ */
+public class TournamentReport {
+  /**
+   * The rating every entrant starts at
+   */
+  public static final double INITIAL_ELO = 1500;
+  // how far a single game moves the ratings
+  private static final double ELO_K = 16;
+  // the normal quantile of a 95% confidence interval
+  private static final double Z_95 = 1.96;
+
+  private final List<String> names;
+  private final int arenas;
+  private final int[] wins;
+  private final int[] losses;
+  private final int[] draws;
+  private final double[] elo;
+  // the points each entrant scored against each other entrant, a win being worth two
+  private final int[][] points;
+  private final int[][] meetings;
+  private final long elapsedNanos;
+
+  /**
+   * Constructs a new TournamentReport from the result of every game, in the order they were
+   * scheduled
+   *
+   * @param names the name of each entrant, indexed by entrant
+   * @param arenas the number of arenas that were played in
+   * @param first the first player of each game, as an entrant index
+   * @param second the second player of each game, as an entrant index
+   * @param results the result of each game for its first player
+   * @param elapsedNanos the time it took to play every game, in nanoseconds
+   */
+  TournamentReport(List<String> names, int arenas, int[] first, int[] second,
+      GameResult[] results, long elapsedNanos) {
+    int n = names.size();
+    this.names = List.copyOf(names);
+    this.arenas = arenas;
+    this.wins = new int[n];
+    this.losses = new int[n];
+    this.draws = new int[n];
+    this.elo = new double[n];
+    this.points = new int[n][n];
+    this.meetings = new int[n][n];
+    this.elapsedNanos = elapsedNanos;
+
+    Arrays.fill(this.elo, INITIAL_ELO);
+    // ratings are updated in schedule order, so they are the same however the games were
+    // played
+    for (int game = 0; game < results.length; game++) {
+      int a = first[game];
+      int b = second[game];
+      double score = switch (results[game]) {
+        case WIN -> 1;
+        case LOSE -> 0;
+        case DRAW -> 0.5;
+      };
+      this.record(a, b, results[game]);
+      this.record(b, a, switch (results[game]) {
+        case WIN -> GameResult.LOSE;
+        case LOSE -> GameResult.WIN;
+        case DRAW -> GameResult.DRAW;
+      });
+
+      double expected = 1 / (1 + Math.pow(10, (this.elo[b] - this.elo[a]) / 400));
+      double change = ELO_K * (score - expected);
+      this.elo[a] += change;
+      this.elo[b] -= change;
+    }
+  }
+
+  /**
+   * Records a single game from the point of view of one of its players
+   *
+   * @param player the entrant index of the player
+   * @param opponent the entrant index of the opponent
+   * @param result the player's result
+   */
+  private void record(int player, int opponent, GameResult result) {
+    switch (result) {
+      case WIN -> {
+        this.wins[player]++;
+        this.points[player][opponent] += 2;
+      }
+      case LOSE -> this.losses[player]++;
+      case DRAW -> {
+        this.draws[player]++;
+        this.points[player][opponent] += 1;
+      }
+    }
+    this.meetings[player][opponent]++;
+  }
+
+  /**
+   * Returns the names of the entrants, in the order they were entered
+   *
+   * @return the names of the entrants
+   */
+  public List<String> getEntrants() {
+    return this.names;
+  }
+
+  /**
+   * Returns the total number of games played
+   *
+   * @return the number of games played
+   */
+  public int getGames() {
+    // every game is counted once for each of its two players
+    return IntStream.range(0, this.names.size()).map(this::gamesOf).sum() / 2;
+  }
+
+  /**
+   * Returns the number of games the given entrant won
+   *
+   * @param name the name of the entrant
+   * @return the entrant's wins
+   * @throws IllegalArgumentException if there is no entrant with the given name
+   */
+  public int getWins(String name) {
+    return this.wins[this.indexOf(name)];
+  }
+
+  /**
+   * Returns the number of games the given entrant lost
+   *
+   * @param name the name of the entrant
+   * @return the entrant's losses
+   * @throws IllegalArgumentException if there is no entrant with the given name
+   */
+  public int getLosses(String name) {
+    return this.losses[this.indexOf(name)];
+  }
+
+  /**
+   * Returns the number of games the given entrant tied
+   *
+   * @param name the name of the entrant
+   * @return the entrant's draws
+   * @throws IllegalArgumentException if there is no entrant with the given name
+   */
+  public int getDraws(String name) {
+    return this.draws[this.indexOf(name)];
+  }
+
+  /**
+   * Returns the fraction of its games the given entrant won, counting draws as half a win
+   *
+   * @param name the name of the entrant
+   * @return the entrant's score, in [0, 1], or 0.5 if it played no games
+   * @throws IllegalArgumentException if there is no entrant with the given name
+   */
+  public double getScore(String name) {
+    int i = this.indexOf(name);
+    int games = this.gamesOf(i);
+    return games == 0 ? 0.5 : (this.wins[i] + 0.5 * this.draws[i]) / games;
+  }
+
+  /**
+   * Returns the 95% Wilson score interval of the given entrant's score, which stays within
+   * [0, 1] even for small numbers of games or lopsided scores
+   *
+   * @param name the name of the entrant
+   * @return the lower and upper bounds of the interval, or [0, 1] if it played no games
+   * @throws IllegalArgumentException if there is no entrant with the given name
+   */
+  public double[] getConfidenceInterval(String name) {
+    int games = this.gamesOf(this.indexOf(name));
+    if (games == 0) {
+      return new double[] {0, 1};
+    }
+    double p = this.getScore(name);
+    double z2 = Z_95 * Z_95;
+    double denominator = 1 + z2 / games;
+    double center = (p + z2 / (2.0 * games)) / denominator;
+    double half = Z_95 * Math.sqrt(p * (1 - p) / games + z2 / (4.0 * games * games))
+        / denominator;
+    return new double[] {Math.max(0, center - half), Math.min(1, center + half)};
+  }
+
+  /**
+   * Returns the Elo rating of the given entrant after every game
+   *
+   * @param name the name of the entrant
+   * @return the entrant's rating
+   * @throws IllegalArgumentException if there is no entrant with the given name
+   */
+  public double getElo(String name) {
+    return this.elo[this.indexOf(name)];
+  }
+
+  /**
+   * Returns the given entrant's score in its games against the given opponent
+   *
+   * @param name the name of the entrant
+   * @param opponent the name of the opponent
+   * @return the fraction of those games the entrant won, counting draws as half a win,
+   *         or 0.5 if they never met
+   * @throws IllegalArgumentException if either name is not an entrant
+   */
+  public double getHeadToHead(String name, String opponent) {
+    int a = this.indexOf(name);
+    int b = this.indexOf(opponent);
+    return this.meetings[a][b] == 0 ? 0.5
+        : this.points[a][b] / (2.0 * this.meetings[a][b]);
+  }
+
+  /**
+   * Returns the number of games played per second of wall-clock time
+   *
+   * @return the throughput of the tournament
+   */
+  public double getGamesPerSecond() {
+    return this.getGames() / (Math.max(this.elapsedNanos, 1) / 1e9);
+  }
+
+  /**
+   * Returns a summary of this report: a standings table ordered by rating, followed by the
+   * score of each entrant against each other entrant
+   *
+   * @return a multi-line summary of this report
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("Games: %d in %d arenas in %.2fs (%.1f games/s)%n", this.getGames(),
+        this.arenas, this.elapsedNanos / 1e9, this.getGamesPerSecond()));
+    int width = this.names.stream().mapToInt(String::length).max().orElse(0);
+
+    List<String> standings = this.names.stream()
+        .sorted(Comparator.comparingDouble(this::getElo).reversed()).toList();
+    for (String name : standings) {
+      double[] interval = this.getConfidenceInterval(name);
+      sb.append(String.format("%-" + width + "s  elo %6.1f  %5d W %5d L %5d D"
+              + "  score %5.1f%% (95%% CI %5.1f%% - %5.1f%%)%n",
+          name, this.getElo(name), this.getWins(name), this.getLosses(name),
+          this.getDraws(name), 100 * this.getScore(name), 100 * interval[0],
+          100 * interval[1]));
+    }
+
+    // each row is an entrant's score against the entrant of each column
+    sb.append(String.format("%n%-" + width + "s", ""));
+    for (String name : standings) {
+      sb.append(String.format(" %" + Math.max(width, 6) + "s", name));
+    }
+    sb.append(System.lineSeparator());
+    for (String name : standings) {
+      sb.append(String.format("%-" + width + "s", name));
+      for (String opponent : standings) {
+        sb.append(String.format(" %" + Math.max(width, 6) + "s", name.equals(opponent) ? "-"
+            : String.format("%.1f%%", 100 * this.getHeadToHead(name, opponent))));
+      }
+      sb.append(System.lineSeparator());
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns the number of games the given entrant played
+   *
+   * @param i the index of the entrant
+   * @return the entrant's number of games
+   */
+  private int gamesOf(int i) {
+    return this.wins[i] + this.losses[i] + this.draws[i];
+  }
+
+  /**
+   * Returns the index of the entrant with the given name
+   *
+   * @param name the name of the entrant
+   * @return the entrant's index
+   * @throws IllegalArgumentException if there is no entrant with the given name
+   */
+  private int indexOf(String name) {
+    int i = this.names.indexOf(name);
+    if (i < 0) {
+      throw new IllegalArgumentException("no entrant named " + name);
+    }
+    return i;
+  }
+}
@@ -4,25 +4,30 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents an AbstractPlayer implementation of the Player interface.
  */
 public abstract class AbstractPlayer implements Player {
+  // random origins are tried this many times before sampling among the remaining placements
+  private static final int RANDOM_PLACEMENT_ATTEMPTS = 64;
+  // whole fleets are re-placed at most this many times if earlier ships block later ones
+  private static final int FLEET_PLACEMENT_ATTEMPTS = 100;
   // both boards are of the same size, with the same number of ships
   protected ShipBoard board;
   protected Board opponentBoard;
-  protected final Random rand;
+  protected final RandomGenerator rand;
   protected final List<Coord> prevSalvo;
   protected boolean isSetup;
 
   /**
-   * Constructs a new AbstractPlayer, with random numbers generated by the given Random generator
+   * Constructs a new AbstractPlayer, with random numbers generated by the given generator,
+   * which belongs to this player alone
    *
    * @param rand the random generator
    */
-  public AbstractPlayer(Random rand) {
+  public AbstractPlayer(RandomGenerator rand) {
     // before setup is called, the board and opponent's board are both null
     this.board = null;
     this.opponentBoard = null;
@@ -49,13 +54,36 @@ public abstract class AbstractPlayer implements Player {
    * @param specifications a map of ship type to the number of occurrences each ship should
    *                       appear on the board
    * @return the placements of each ship on the board
+   * @throws IllegalArgumentException if the fleet repeatedly cannot be fit onto the board
    */
   @Override
   public List<Ship> setup(int height, int width, Map<ShipType, Integer> specifications) {
-    this.board = new ShipBoard(height, width);
+    PlacementTable table = PlacementTable.forSize(height, width);
     this.opponentBoard = new Board(height, width);
 
+    for (int attempt = 0; attempt < FLEET_PLACEMENT_ATTEMPTS; attempt++) {
+      this.board = new ShipBoard(height, width);
+      List<Ship> ships = this.placeFleet(table, specifications);
+      if (ships != null) {
+        this.isSetup = true;
+        return ships;
+      }
+    }
+    throw new IllegalArgumentException("the fleet cannot be placed on a board of this size");
+  }
+
+  /**
+   * Places every ship of the given fleet onto this Player's (empty) board randomly
+   *
+   * @param table the placements for this Player's board size
+   * @param specifications a map of ship type to the number of occurrences each ship should
+   *                       appear on the board
+   * @return the placements of each ship on the board, or null if the ships placed so far
+   *         leave no room for one of the remaining ships
+   */
+  private List<Ship> placeFleet(PlacementTable table, Map<ShipType, Integer> specifications) {
     List<Ship> ships = new ArrayList<>();
+    BitBoard occupied = new BitBoard(this.board.getHeight(), this.board.getWidth());
     
     // ShipType is arranged from largest to smallest, 
     // so .values() returns largest first
@@ -63,36 +91,51 @@ public abstract class AbstractPlayer implements Player {
     for (ShipType type : ShipType.values()) {
       // place the correct number of ships for each type
       for (int i = 0; i < specifications.get(type); i++) {
-        ships.add(this.placeShip(type));
+        Placement placement = this.choosePlacement(table, type, occupied);
+        if (placement == null) {
+          return null;
+        }
+        placement.addTo(occupied);
+        ships.add(this.board.createAndPlaceShip(placement.getOrigin(), 
+            placement.getOrientation(), type));
       }
     }
-
-    this.isSetup = true;
     return ships;
   }
 
   /**
-   * Places a ship of the given type onto this Player's board randomly
+   * Chooses a random placement of the given type that does not overlap any occupied cell.
+   * Every legal placement is equally likely to be chosen.
    *
-   * @param type the ship of type to place
-   * @return the ship that was placed
+   * @param table the placements for this Player's board size
+   * @param type the type of ship to place
+   * @param occupied the cells that are already occupied by ships
+   * @return the chosen placement, or null if there are no legal placements left
    */
-  private Ship placeShip(ShipType type) {
-    while (true) {
-      // generate new coordinates randomly and determine if they are valid for the board
-      // we don't have to check for the board being null,
-      // since the private is only called after initializing
+  private Placement choosePlacement(PlacementTable table, ShipType type, BitBoard occupied) {
+    // on a mostly empty board, a random origin and orientation is almost always legal,
+    // so we try that first, since it is cheaper than checking every placement
+    for (int attempt = 0; attempt < RANDOM_PLACEMENT_ATTEMPTS; attempt++) {
       int x = this.rand.nextInt(this.board.getWidth());
       int y = this.rand.nextInt(this.board.getHeight());
       ShipOrientation orientation =
           this.rand.nextBoolean() ? ShipOrientation.HORIZONTAL : ShipOrientation.VERTICAL;
 
-      // check if it is valid
-      if (this.board.isValidPlacement(new Coord(x, y), orientation, type)) {
-        // then, place ship and return it, breaking out of the while loop
-        return this.board.createAndPlaceShip(new Coord(x, y), orientation, type);
+      Placement placement = table.getPlacement(type, x, y, orientation);
+      if (placement != null && !placement.intersects(occupied)) {
+        return placement;
+      }
+    }
+    
+    // on a crowded board, sample directly from the placements that are still legal,
+    // which bounds the time it takes no matter how few are left
+    List<Placement> legal = new ArrayList<>();
+    for (Placement placement : table.getPlacements(type)) {
+      if (!placement.intersects(occupied)) {
+        legal.add(placement);
       }
     }
+    return legal.isEmpty() ? null : legal.get(this.rand.nextInt(legal.size()));
   }
 
   /**
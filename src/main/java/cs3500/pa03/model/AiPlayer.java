@@ -1,34 +1,76 @@
 package cs3500.pa03.model;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import java.time.Duration;
 import java.util.List;
-import java.util.Queue;
-import java.util.Random;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.random.RandomGenerator;
 
 /**
- * Represents an AI BattleSalvo player
+ * Represents an AI BattleSalvo player, which chooses its shots using a TargetingStrategy.
+ * A player can be given an executor to plan its next volley on as soon as it learns which of
+ * its shots hit, so that the volley is ready by the time it is asked for. Every plan of a turn
+ * draws from its own generator seeded once per turn, so a plan that is thrown away never changes
+ * the volleys that follow, and a seeded player fires the same volleys with or without one.
  */
 public class AiPlayer extends AbstractPlayer {
-  private final Queue<Coord> nextShots;
-  
+  private final TargetingStrategy strategy;
+  // plans volleys ahead of time, or null to plan each volley when it is asked for
+  private final Executor speculator;
+  // the volley being planned ahead of time, or null if there is none
+  private Speculation speculation;
+  // the longest time to plan each volley for, or -1 for no limit
+  private long timeLimitNanos;
+  // the seed of every plan of the next volley, drawn from rand once per turn
+  private long turnSeed;
+
   /**
-   * Constructs a new AiPlayer with the given random number generator
+   * Constructs a new AiPlayer with the given random number generator and targeting strategy,
+   * which plans each volley ahead of time on the given executor. While a volley is being
+   * planned, the opponent's board and the strategy belong to the planning thread; the game
+   * thread only takes them back once the plan is finished or was cancelled before it started.
    *
    * @param rand the random number generator to use
+   * @param strategy the strategy used to choose shots
+   * @param speculator the executor to plan volleys on
    */
-  public AiPlayer(Random rand) {
+  public AiPlayer(RandomGenerator rand, TargetingStrategy strategy, Executor speculator) {
     super(rand);
-    this.nextShots = new ArrayDeque<>();
+    this.strategy = Objects.requireNonNull(strategy);
+    this.speculator = speculator;
+    this.speculation = null;
+    this.timeLimitNanos = -1;
   }
 
   /**
-   * Constructs a new AiPlayer with an unseeded random number generator
+   * Constructs a new AiPlayer with the given random number generator and targeting strategy
+   *
+   * @param rand the random number generator to use
+   * @param strategy the strategy used to choose shots
+   */
+  public AiPlayer(RandomGenerator rand, TargetingStrategy strategy) {
+    this(rand, strategy, null);
+  }
+
+  /**
+   * Constructs a new AiPlayer with the given random number generator, which fires at the
+   * neighbors of its hits first, then randomly
+   *
+   * @param rand the random number generator to use
+   */
+  public AiPlayer(RandomGenerator rand) {
+    this(rand, new HuntTargetStrategy());
+  }
+
+  /**
+   * Constructs a new AiPlayer with the next generator of the global RandomSource
    */
   public AiPlayer() {
-    this(new Random());
+    this(RandomSource.global().next());
   }
 
   /**
@@ -42,10 +84,31 @@ public class AiPlayer extends AbstractPlayer {
     return "pa04-e10";
   }
 
+  /**
+   * Given the specifications for a BattleSalvo board, return a list of ships with their locations
+   * on the board, where ships are randomly placed.
+   *
+   * @param height         the height of the board, range: [6, 15] inclusive
+   * @param width          the width of the board, range: [6, 15] inclusive
+   * @param specifications a map of ship type to the number of occurrences each ship should
+   *                       appear on the board
+   * @return the placements of each ship on the board
+   */
+  @Override
+  public List<Ship> setup(int height, int width, Map<ShipType, Integer> specifications) {
+    this.abandonSpeculation();
+    List<Ship> ships = super.setup(height, width, specifications);
+    // both players have the same fleet, so it tells the strategy what it is looking for
+    this.strategy.setup(height, width, specifications);
+    this.turnSeed = this.rand.nextLong();
+    return ships;
+  }
+
   /**
    * Returns this player's shots on the opponent's board. The number of shots returned should
-   * equal the number of ships on this player's board that have not sunk. Shots are randomly
-   * selected among locations that have not yet been fired at.
+   * equal the number of ships on this player's board that have not sunk. Shots are chosen
+   * by this player's TargetingStrategy among locations that have not yet been fired at.
+   * If the volley was planned ahead of time for the same number of ships, that plan is used.
    *
    * @return the locations of shots on the opponent's board
    * @throws IllegalStateException if the board has not been set up
@@ -55,30 +118,20 @@ public class AiPlayer extends AbstractPlayer {
     if (!this.isSetup) {
       throw new IllegalStateException("board has not been set up");
     }
-    
+
     int volleySize = this.board.getUnsunkShipTotal();
-    List<Coord> shots = new ArrayList<>();
-    
-    // start by taking shots from the queue
-    while (volleySize > 0 && !this.nextShots.isEmpty()) {
-      shots.add(this.nextShots.remove());
-      volleySize--;
+    List<Coord> shots = null;
+    if (this.speculation != null) {
+      List<Coord> planned = this.speculation.cancelOrJoin();
+      if (planned != null && this.speculation.volleySize == volleySize) {
+        shots = planned;
+      }
+      this.speculation = null;
+    }
+    if (shots == null) {
+      shots = this.plan(volleySize, this.turnSeed);
     }
-    
-    // add remaining shots (if possible)
-    List<Coord> randomOptions = new ArrayList<>(this.getUnfiredShots());
-    Collections.shuffle(randomOptions, this.rand);
-    
-    // if there are more ships left than unfired locations, 
-    // this will fire shots equal to the number of unfired locations 
-    List<Coord> randomShots = randomOptions.stream()
-                                           .filter(c -> !shots.contains(c))
-                                           .sorted(
-                                               Comparator.comparingInt(c -> ((c.x() + c.y()) % 3)))
-                                           .limit(volleySize)
-                                           .toList();
-    
-    shots.addAll(randomShots);
+    this.strategy.shotsFired(shots);
     this.prevSalvo.addAll(shots);
     return shots;
   }
@@ -93,61 +146,175 @@ public class AiPlayer extends AbstractPlayer {
   @Override
   public void successfulHits(List<Coord> shotsThatHitOpponentShips) {
     super.successfulHits(shotsThatHitOpponentShips);
-    // adds neighbors of successful shots to queue after processing hits
-    this.addNeighbors(shotsThatHitOpponentShips);
+    // the strategy is told about hits after they are marked on the board
+    this.strategy.shotsResolved(this.opponentBoard, shotsThatHitOpponentShips);
+    // drawn whether or not the volley is planned ahead of time, so that both fire alike
+    this.turnSeed = this.rand.nextLong();
+    // nothing more is learned about the opponent's board before the next volley
+    if (this.speculator != null) {
+      this.speculate(this.board.getUnsunkShipTotal());
+    }
   }
-    
+
   /**
-   * Adds the neighbors of the given coords to the nextShots queue
+   * Given the list of shots the opponent has fired on this player's board, report which
+   * shots hit a ship on this player's board. If a ship sinks while the next volley is being
+   * planned ahead of time, it is planned again for the smaller volley.
    *
-   * @param coords the shots whose neighbors are added
+   * @param opponentShotsOnBoard the opponent's shots on this player's board
+   * @return a filtered list of the given shots that contain all locations of shots that hit a
+   *         ship on this board
+   * @throws IllegalStateException if the board has not been set up
    */
-  private void addNeighbors(List<Coord> coords) {
-    for (Coord coord : coords) {
-      int x = coord.x();
-      int y = coord.y();
-      List<Coord> neighbors = new ArrayList<>();
-      
-      neighbors.add(new Coord(x + 1, y));
-      neighbors.add(new Coord(x, y + 1));
-      // to prevent negative coords from being constructed and throwing an error
-      if (x != 0) {
-        neighbors.add(new Coord(x - 1, y));
-      }
-      if (y != 0) {
-        neighbors.add(new Coord(x, y - 1));
-      }
-      
-      // take only the neighboring shots that are valid coordinates that have not been tried before
-      List<Coord> filtered = neighbors.stream()
-                                      .filter(c -> !this.nextShots.contains(c))
-                                      .filter(c -> !this.opponentBoard.isInvalidCoord(c))
-                                      .filter(c -> 
-                                          this.opponentBoard.getCellState(c) == CellState.WATER)
-                                      .toList();
-      this.nextShots.addAll(filtered);
+  @Override
+  public List<Coord> reportDamage(List<Coord> opponentShotsOnBoard) {
+    // only this player's own board is changed, which a plan does not read
+    List<Coord> hits = super.reportDamage(opponentShotsOnBoard);
+    int volleySize = this.board.getUnsunkShipTotal();
+    if (this.speculation != null && this.speculation.volleySize != volleySize) {
+      this.speculate(volleySize);
     }
+    return hits;
   }
 
   /**
-   * Returns a list of all coordinates on the opponentBoard that have not been fired at
+   * Notifies the player that the game is over, abandoning any volley planned ahead of time
    *
-   * @return a list of all coordinates that are not HIT or MISS
+   * @param result if the player has won, lost, or forced a draw
+   * @param reason the reason for the game ending
    */
-  private List<Coord> getUnfiredShots() {
-    List<Coord> coords = new ArrayList<>();
-    
-    for (int x = 0; x < this.opponentBoard.getWidth(); x++) {
-      for (int y = 0; y < this.opponentBoard.getHeight(); y++) {
-        Coord c = new Coord(x, y);
-        // if the location has not been hit and not been missed, it is a valid option
-        if (this.opponentBoard.getCellState(c) != CellState.HIT 
-            && this.opponentBoard.getCellState(c) != CellState.MISS) {
-          coords.add(c);
+  @Override
+  public void endGame(GameResult result, String reason) {
+    this.abandonSpeculation();
+    super.endGame(result, reason);
+  }
+
+  /**
+   * Sets the longest time this player takes to plan each volley. Strategies that search for
+   * better volleys the longer they run return the best volley found by then.
+   *
+   * @param limit the time limit of each volley, or null for no limit
+   */
+  @Override
+  public void setTimeLimit(Duration limit) {
+    this.timeLimitNanos = limit == null ? -1 : limit.toNanos();
+  }
+
+  /**
+   * Plans a volley of the given size with this player's strategy, within the time limit
+   *
+   * @param volleySize the number of shots to plan
+   * @param seed the seed of the generator the plan draws from
+   * @return the planned shots
+   */
+  private List<Coord> plan(int volleySize, long seed) {
+    SplittableRandom planRand = new SplittableRandom(seed);
+    if (this.timeLimitNanos < 0) {
+      return this.strategy.planShots(this.opponentBoard, volleySize, planRand);
+    }
+    return this.strategy.planShots(this.opponentBoard, volleySize, planRand,
+        System.nanoTime() + this.timeLimitNanos);
+  }
+
+  /**
+   * Starts planning a volley of the given size ahead of time, replacing any earlier plan. An
+   * earlier plan that already started is left to finish first, since plans share the strategy.
+   *
+   * @param volleySize the number of shots to plan
+   */
+  private void speculate(int volleySize) {
+    Speculation previous = this.speculation;
+    if (previous == null || previous.cancel()) {
+      // the previous plan never started, but its own predecessor may still be running
+      CompletableFuture<?> predecessor = previous == null ? null : previous.predecessor;
+      this.speculation = new Speculation(volleySize, this.turnSeed, predecessor);
+    } else {
+      this.speculation = new Speculation(volleySize, this.turnSeed, previous.shots);
+    }
+    Speculation next = this.speculation;
+    if (next.predecessor == null) {
+      this.speculator.execute(next);
+    } else {
+      next.predecessor.whenComplete((shots, e) -> this.speculator.execute(next));
+    }
+  }
+
+  /**
+   * Cancels the volley planned ahead of time, if any, and waits for it if it already started
+   */
+  private void abandonSpeculation() {
+    if (this.speculation != null) {
+      this.speculation.cancelOrJoin();
+      this.speculation = null;
+    }
+  }
+
+  /**
+   * Represents a volley being planned ahead of time, which can be cancelled until it starts
+   */
+  private class Speculation implements Runnable {
+    private final int volleySize;
+    private final long seed;
+    // the earlier plan that must finish before this one starts, or null if there is none
+    private final CompletableFuture<?> predecessor;
+    private final CompletableFuture<List<Coord>> shots;
+    // set by whichever of running and cancelling happens first
+    private final AtomicBoolean claimed;
+
+    /**
+     * Constructs a new Speculation of a volley of the given size
+     *
+     * @param volleySize the number of shots to plan
+     * @param seed the seed of the generator the plan draws from
+     * @param predecessor the earlier plan that must finish first, or null if there is none
+     */
+    Speculation(int volleySize, long seed, CompletableFuture<?> predecessor) {
+      this.volleySize = volleySize;
+      this.seed = seed;
+      this.predecessor = predecessor;
+      this.shots = new CompletableFuture<>();
+      this.claimed = new AtomicBoolean(false);
+    }
+
+    /**
+     * Plans the volley, unless it has been cancelled
+     */
+    @Override
+    public void run() {
+      if (!this.claimed.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        this.shots.complete(AiPlayer.this.plan(this.volleySize, this.seed));
+      } catch (RuntimeException e) {
+        this.shots.completeExceptionally(e);
+      }
+    }
+
+    /**
+     * Cancels this plan if it has not started
+     *
+     * @return whether the plan was cancelled, or false if it has started (or finished)
+     */
+    boolean cancel() {
+      return this.claimed.compareAndSet(false, true);
+    }
+
+    /**
+     * Cancels this plan if it has not started, or waits for it to finish if it has. Either
+     * way, no plan is using the strategy once this returns.
+     *
+     * @return the planned shots, or null if the plan was cancelled or failed
+     */
+    List<Coord> cancelOrJoin() {
+      if (this.cancel()) {
+        if (this.predecessor != null) {
+          this.predecessor.exceptionally(e -> null).join();
         }
+        return null;
       }
+      // a failed plan is planned again by the caller, which reports the failure if it recurs
+      return this.shots.exceptionally(e -> null).join();
     }
-    
-    return coords;
   }
 }
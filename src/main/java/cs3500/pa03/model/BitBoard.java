@@ -0,0 +1,370 @@
+package cs3500.pa03.model;
+
+import java.util.Arrays;
+
+/**
+ * Represents a set of cells on a BattleSalvo board of a fixed height and width, stored as a
+ * bitboard of packed longs. The cell at (x, y) is stored as bit (y * width + x), so each row
+ * of the board occupies a contiguous run of bits.
+ */
+public class BitBoard {
+  // the largest board has 15 * 15 = 225 cells, which fits in four 64-bit words
+  private static final int WORD_COUNT =
+      (BattleSalvoConfig.MAX_HEIGHT * BattleSalvoConfig.MAX_WIDTH + Long.SIZE - 1) / Long.SIZE;
+
+  private final int height;
+  private final int width;
+  private final long[] words;
+
+  /**
+   * Constructs a new, empty BitBoard of the given height and width
+   *
+   * @param height the height of the board, in [6, 15] inclusive
+   * @param width the width of the board, in [6, 15] inclusive
+   * @throws IllegalArgumentException if height or width are not within the range [6, 15] inclusive
+   */
+  public BitBoard(int height, int width) {
+    if (height < BattleSalvoConfig.MIN_HEIGHT || height > BattleSalvoConfig.MAX_HEIGHT
+        || width < BattleSalvoConfig.MIN_WIDTH || width > BattleSalvoConfig.MAX_WIDTH) {
+      throw new IllegalArgumentException("board dimensions must be within the range [6, 15]");
+    }
+    this.height = height;
+    this.width = width;
+    this.words = new long[WORD_COUNT];
+  }
+
+  /**
+   * Constructs a copy of the given BitBoard
+   *
+   * @param other the BitBoard to copy
+   */
+  public BitBoard(BitBoard other) {
+    this.height = other.height;
+    this.width = other.width;
+    this.words = other.words.clone();
+  }
+
+  /**
+   * Returns the height of this BitBoard
+   *
+   * @return the height of this BitBoard
+   */
+  public int getHeight() {
+    return this.height;
+  }
+
+  /**
+   * Returns the width of this BitBoard
+   *
+   * @return the width of this BitBoard
+   */
+  public int getWidth() {
+    return this.width;
+  }
+
+  /**
+   * Returns the number of cells (set or not) on this BitBoard
+   *
+   * @return the height times the width of this BitBoard
+   */
+  public int size() {
+    return this.height * this.width;
+  }
+
+  /**
+   * Returns the cell index of the given Coord, where the top left corner of the board is 0
+   * and indices increase along each row
+   *
+   * @param coord the coordinate to convert
+   * @return the cell index of the given Coord
+   * @throws IllegalArgumentException if the Coord is not in this BitBoard's bounds
+   */
+  public int indexOf(Coord coord) {
+    if (coord.y() >= this.height || coord.x() >= this.width) {
+      throw new IllegalArgumentException("given coordinate is not in the bounds of the board");
+    }
+    return coord.y() * this.width + coord.x();
+  }
+
+  /**
+   * Returns the Coord of the given cell index
+   *
+   * @param index the cell index to convert
+   * @return the Coord at the given cell index
+   */
+  public Coord coordOf(int index) {
+    return Coord.of(index % this.width, index / this.width);
+  }
+
+  /**
+   * Returns whether the cell at the given index is in this set
+   *
+   * @param index the cell index
+   * @return whether the cell is set
+   */
+  public boolean get(int index) {
+    return (this.words[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * Adds the cell at the given index to this set
+   *
+   * @param index the cell index
+   */
+  public void set(int index) {
+    this.words[index >>> 6] |= 1L << index;
+  }
+
+  /**
+   * Removes the cell at the given index from this set
+   *
+   * @param index the cell index
+   */
+  public void clear(int index) {
+    this.words[index >>> 6] &= ~(1L << index);
+  }
+
+  /**
+   * Adds every cell on the board to this set
+   *
+   * @return this BitBoard, for chaining
+   */
+  public BitBoard fill() {
+    Arrays.fill(this.words, -1L);
+    this.trim();
+    return this;
+  }
+
+  /**
+   * Removes every cell from this set
+   *
+   * @return this BitBoard, for chaining
+   */
+  public BitBoard clearAll() {
+    Arrays.fill(this.words, 0L);
+    return this;
+  }
+
+  /**
+   * Adds every cell of the other set to this set (set union)
+   *
+   * @param other the set to union with
+   * @return this BitBoard, for chaining
+   * @throws IllegalArgumentException if the BitBoards are not of the same dimensions
+   */
+  public BitBoard or(BitBoard other) {
+    this.checkSameSize(other);
+    for (int i = 0; i < WORD_COUNT; i++) {
+      this.words[i] |= other.words[i];
+    }
+    return this;
+  }
+
+  /**
+   * Keeps only the cells of this set that are also in the other set (set intersection)
+   *
+   * @param other the set to intersect with
+   * @return this BitBoard, for chaining
+   * @throws IllegalArgumentException if the BitBoards are not of the same dimensions
+   */
+  public BitBoard and(BitBoard other) {
+    this.checkSameSize(other);
+    for (int i = 0; i < WORD_COUNT; i++) {
+      this.words[i] &= other.words[i];
+    }
+    return this;
+  }
+
+  /**
+   * Removes every cell of the other set from this set (set difference)
+   *
+   * @param other the set to remove
+   * @return this BitBoard, for chaining
+   * @throws IllegalArgumentException if the BitBoards are not of the same dimensions
+   */
+  public BitBoard andNot(BitBoard other) {
+    this.checkSameSize(other);
+    for (int i = 0; i < WORD_COUNT; i++) {
+      this.words[i] &= ~other.words[i];
+    }
+    return this;
+  }
+
+  /**
+   * Replaces this set with every cell on the board that is not in this set (set complement)
+   *
+   * @return this BitBoard, for chaining
+   */
+  public BitBoard not() {
+    for (int i = 0; i < WORD_COUNT; i++) {
+      this.words[i] = ~this.words[i];
+    }
+    this.trim();
+    return this;
+  }
+
+  /**
+   * Determines whether this set shares any cell with the other set
+   *
+   * @param other the other set
+   * @return whether the intersection of the two sets is non-empty
+   * @throws IllegalArgumentException if the BitBoards are not of the same dimensions
+   */
+  public boolean intersects(BitBoard other) {
+    this.checkSameSize(other);
+    for (int i = 0; i < WORD_COUNT; i++) {
+      if ((this.words[i] & other.words[i]) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the number of cells this set shares with the other set, without changing either
+   *
+   * @param other the other set
+   * @return the number of cells in the intersection of the two sets
+   * @throws IllegalArgumentException if the BitBoards are not of the same dimensions
+   */
+  public int intersectionCount(BitBoard other) {
+    this.checkSameSize(other);
+    int count = 0;
+    for (int i = 0; i < WORD_COUNT; i++) {
+      count += Long.bitCount(this.words[i] & other.words[i]);
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of cells in this set (population count)
+   *
+   * @return the number of set cells
+   */
+  public int cardinality() {
+    int count = 0;
+    for (long word : this.words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * Returns whether this set contains no cells
+   *
+   * @return whether this set is empty
+   */
+  public boolean isEmpty() {
+    for (long word : this.words) {
+      if (word != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the first set cell at or after the given index, which allows for
+   * iterating over set cells with {@code for (int i = b.nextSetBit(0); i >= 0;
+   * i = b.nextSetBit(i + 1))}
+   *
+   * @param fromIndex the index to start searching from (inclusive)
+   * @return the index of the next set cell, or -1 if there is none
+   */
+  public int nextSetBit(int fromIndex) {
+    int wordIndex = fromIndex >>> 6;
+    if (wordIndex >= WORD_COUNT) {
+      return -1;
+    }
+    // shifting by fromIndex only uses the low 6 bits, masking off the cells before it
+    long word = this.words[wordIndex] & (-1L << fromIndex);
+    while (word == 0) {
+      wordIndex++;
+      if (wordIndex >= WORD_COUNT) {
+        return -1;
+      }
+      word = this.words[wordIndex];
+    }
+    return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+  }
+
+  /**
+   * Returns the cells of the given row as a mask, where bit x is set if (x, row) is in this set
+   *
+   * @param row the row (y coordinate) to get
+   * @return the row's cells as a mask of the low width bits
+   */
+  public int getRow(int row) {
+    int start = row * this.width;
+    int wordIndex = start >>> 6;
+    int offset = start & 63;
+    long bits = this.words[wordIndex] >>> offset;
+    // a row can straddle two words, in which case the rest comes from the next word
+    if (offset + this.width > Long.SIZE) {
+      bits |= this.words[wordIndex + 1] << (Long.SIZE - offset);
+    }
+    return (int) bits & ((1 << this.width) - 1);
+  }
+
+  /**
+   * Adds the cells of the given mask to the given row, where bit x of the mask
+   * represents (x, row)
+   *
+   * @param row the row (y coordinate) to add to
+   * @param mask the cells to add, of which only the low width bits are used
+   */
+  public void orRow(int row, int mask) {
+    long bits = mask & ((1L << this.width) - 1);
+    int start = row * this.width;
+    int wordIndex = start >>> 6;
+    int offset = start & 63;
+    this.words[wordIndex] |= bits << offset;
+    if (offset + this.width > Long.SIZE) {
+      this.words[wordIndex + 1] |= bits >>> (Long.SIZE - offset);
+    }
+  }
+
+  /**
+   * Clears any bits past the last cell, so that complements never add cells off of the board
+   */
+  private void trim() {
+    int size = this.size();
+    int lastWord = (size - 1) >>> 6;
+    // shifting by size only uses the low 6 bits, so a size that fills the word keeps every bit
+    if ((size & 63) != 0) {
+      this.words[lastWord] &= (1L << size) - 1;
+    }
+    for (int i = lastWord + 1; i < WORD_COUNT; i++) {
+      this.words[i] = 0;
+    }
+  }
+
+  /**
+   * Ensures that the other BitBoard has the same dimensions as this BitBoard
+   *
+   * @param other the other BitBoard
+   * @throws IllegalArgumentException if the dimensions do not match
+   */
+  private void checkSameSize(BitBoard other) {
+    if (this.height != other.height || this.width != other.width) {
+      throw new IllegalArgumentException("bitboards must have the same dimensions");
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BitBoard other)) {
+      return false;
+    }
+    return this.height == other.height && this.width == other.width
+        && Arrays.equals(this.words, other.words);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * this.height + this.width) + Arrays.hashCode(this.words);
+  }
+}
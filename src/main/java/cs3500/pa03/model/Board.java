@@ -1,12 +1,14 @@
 package cs3500.pa03.model;
 
-import java.util.Arrays;
-
 /**
- * Represents a board without known Ship information in a game of BattleSalvo
+ * Represents a board without known Ship information in a game of BattleSalvo.
+ * Cells are stored as one BitBoard per non-WATER CellState, so that whole rows or the whole
+ * board can be combined at once; any cell in none of them is WATER.
  */
 public class Board {
-  protected final CellState[][] board;
+  protected final BitBoard shipCells;
+  protected final BitBoard hitCells;
+  protected final BitBoard missCells;
 
   /**
    * Constructs a new Board of the given height and width within the range [6, 15] inclusive
@@ -23,12 +25,10 @@ public class Board {
         || width < BattleSalvoConfig.MIN_WIDTH || width > BattleSalvoConfig.MAX_WIDTH) {
       throw new IllegalArgumentException("board dimensions must be within the range [6, 15]");
     }
-    this.board = new CellState[height][width];
-    
-    // fill with water tiles initially
-    for (CellState[] cellStates : this.board) {
-      Arrays.fill(cellStates, CellState.WATER);
-    }
+    // every cell starts in no set, meaning the board is initially filled with water
+    this.shipCells = new BitBoard(height, width);
+    this.hitCells = new BitBoard(height, width);
+    this.missCells = new BitBoard(height, width);
   }
 
   /**
@@ -37,7 +37,7 @@ public class Board {
    * @return the height of this Board
    */
   public int getHeight() {
-    return this.board.length;
+    return this.shipCells.getHeight();
   }
 
   /**
@@ -46,7 +46,7 @@ public class Board {
    * @return the width of this Board
    */
   public int getWidth() {
-    return this.board[0].length;
+    return this.shipCells.getWidth();
   }
 
   /**
@@ -62,8 +62,24 @@ public class Board {
       throw new IllegalArgumentException("given coordinate is not in the bounds of the board");
     }
     
-    // we have to have y come first, since it is the row, then x (column)
-    return this.board[coord.y()][coord.x()];
+    return this.getCellState(this.shipCells.indexOf(coord));
+  }
+
+  /**
+   * Returns the CellState at the given cell index, without bounds checking
+   *
+   * @param index the cell index, where (x, y) is at index y * width + x
+   * @return the CellState at the given cell index
+   */
+  protected CellState getCellState(int index) {
+    if (this.hitCells.get(index)) {
+      return CellState.HIT;
+    } else if (this.missCells.get(index)) {
+      return CellState.MISS;
+    } else if (this.shipCells.get(index)) {
+      return CellState.SHIP;
+    }
+    return CellState.WATER;
   }
 
   /**
@@ -79,8 +95,45 @@ public class Board {
       throw new IllegalArgumentException("given coordinate is not in the bounds of the board");
     }
 
-    // we have to have y come first, since it is the row, then x (column)
-    this.board[coord.y()][coord.x()] = newState;
+    int index = this.shipCells.indexOf(coord);
+    // a cell is in at most one set, so clear it from all of them before setting the new state
+    this.shipCells.clear(index);
+    this.hitCells.clear(index);
+    this.missCells.clear(index);
+    switch (newState) {
+      case SHIP -> this.shipCells.set(index);
+      case HIT -> this.hitCells.set(index);
+      case MISS -> this.missCells.set(index);
+      default -> {
+        // WATER is represented by being in no set
+      }
+    }
+  }
+
+  /**
+   * Returns a copy of the set of cells on this Board that are in the given CellState,
+   * which can then be combined with other sets without affecting this Board
+   *
+   * @param state the CellState to get the cells of
+   * @return a new BitBoard containing every cell in the given state
+   */
+  public BitBoard getCells(CellState state) {
+    return switch (state) {
+      case SHIP -> new BitBoard(this.shipCells);
+      case HIT -> new BitBoard(this.hitCells);
+      case MISS -> new BitBoard(this.missCells);
+      case WATER -> new BitBoard(this.shipCells).or(this.hitCells).or(this.missCells).not();
+    };
+  }
+
+  /**
+   * Returns a new set of the cells on this Board that have not been fired at,
+   * meaning every cell that is neither HIT nor MISS
+   *
+   * @return a new BitBoard containing every unfired cell
+   */
+  public BitBoard getUnfiredCells() {
+    return new BitBoard(this.hitCells).or(this.missCells).not();
   }
 
   /**
@@ -98,9 +151,24 @@ public class Board {
   public String toString() {
     StringBuilder result = new StringBuilder();
     
-    for (CellState[] row : this.board) {
+    for (int y = 0; y < this.getHeight(); y++) {
+      // read each row once per set, rather than looking up every cell individually
+      int ships = this.shipCells.getRow(y);
+      int hits = this.hitCells.getRow(y);
+      int misses = this.missCells.getRow(y);
       StringBuilder rowString = new StringBuilder();
-      for (CellState cs : row) {
+      for (int x = 0; x < this.getWidth(); x++) {
+        int bit = 1 << x;
+        CellState cs;
+        if ((hits & bit) != 0) {
+          cs = CellState.HIT;
+        } else if ((misses & bit) != 0) {
+          cs = CellState.MISS;
+        } else if ((ships & bit) != 0) {
+          cs = CellState.SHIP;
+        } else {
+          cs = CellState.WATER;
+        }
         rowString.append(cs).append(" ");
       }
       result.append(rowString.toString().trim()).append(System.lineSeparator());
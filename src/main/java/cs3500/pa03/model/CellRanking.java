@@ -0,0 +1,56 @@
+package cs3500.pa03.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents helper methods for choosing the best cells of a board by score
+ */
+class CellRanking {
+  /**
+   * Returns the k candidate cells with the highest scores, highest first. Ties are broken
+   * randomly by starting the scan at a random cell.
+   *
+   * @param scores the score of each cell, indexed by y * width + x
+   * @param candidates the cells that can be chosen
+   * @param k the number of cells to choose
+   * @param rand the random generator used to break ties
+   * @return up to k of the highest-scoring candidates, which is empty if k is not positive
+   */
+  static List<Coord> topCells(int[] scores, BitBoard candidates, int k, RandomGenerator rand) {
+    if (k <= 0) {
+      return new ArrayList<>();
+    }
+    int size = candidates.size();
+    int[] best = new int[Math.min(k, size)];
+    int found = 0;
+    int start = rand.nextInt(size);
+    
+    for (int n = 0; n < size; n++) {
+      int cell = (start + n) % size;
+      if (!candidates.get(cell)) {
+        continue;
+      }
+      // insertion into the (small) sorted array of the best cells so far
+      int score = scores[cell];
+      if (found < best.length) {
+        found++;
+      } else if (score <= scores[best[found - 1]]) {
+        continue;
+      }
+      int pos = found - 1;
+      while (pos > 0 && scores[best[pos - 1]] < score) {
+        best[pos] = best[pos - 1];
+        pos--;
+      }
+      best[pos] = cell;
+    }
+    
+    List<Coord> shots = new ArrayList<>(found);
+    for (int i = 0; i < found; i++) {
+      shots.add(candidates.coordOf(best[i]));
+    }
+    return shots;
+  }
+}
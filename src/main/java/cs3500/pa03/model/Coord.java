@@ -8,12 +8,24 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 public record Coord(
     @JsonProperty("x") int x,
     @JsonProperty("y") int y) {
+  // canonical instances of every Coord on the largest possible board, indexed by y then x
+  private static final Coord[] CACHE = new Coord[BattleSalvoConfig.MAX_HEIGHT
+      * BattleSalvoConfig.MAX_WIDTH];
+
+  static {
+    for (int y = 0; y < BattleSalvoConfig.MAX_HEIGHT; y++) {
+      for (int x = 0; x < BattleSalvoConfig.MAX_WIDTH; x++) {
+        CACHE[y * BattleSalvoConfig.MAX_WIDTH + x] = new Coord(x, y);
+      }
+    }
+  }
+
   /**
    * Constructs a Coord with the given (non-negative) x and y
    *
    * @param x the x component of this Coord
    * @param y the y component of this Coord
-   * @throws IllegalArgumentException if x or y are non-negative
+   * @throws IllegalArgumentException if x or y are negative
    */
   public Coord {
     // note that you can have a nice clean constructor using the Record-specific syntax
@@ -21,4 +33,22 @@ public record Coord(
       throw new IllegalArgumentException("Coords must be non-negative");
     }
   }
+
+  /**
+   * Returns a Coord with the given (non-negative) x and y. Coords that fit on the largest
+   * possible board are shared instances, so this does not allocate in the model's hot paths.
+   * Since Coord is a record, shared and newly constructed Coords are still equal.
+   *
+   * @param x the x component of the Coord
+   * @param y the y component of the Coord
+   * @return a Coord with the given x and y
+   * @throws IllegalArgumentException if x or y are negative
+   */
+  public static Coord of(int x, int y) {
+    if (x >= 0 && x < BattleSalvoConfig.MAX_WIDTH && y >= 0 && y < BattleSalvoConfig.MAX_HEIGHT) {
+      return CACHE[y * BattleSalvoConfig.MAX_WIDTH + x];
+    }
+    // anything else is either invalid (and the constructor throws) or off of every board
+    return new Coord(x, y);
+  }
 }
@@ -0,0 +1,110 @@
+package cs3500.pa03.model;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a TargetingStrategy that scores every unfired cell by how many placements of the
+ * opponent's ships could cover it, given the hits and misses seen so far, and fires at the
+ * highest-scoring cells. Placements through known hits count for much more than others, so
+ * damaged ships are finished off before new ones are searched for.
+ */
+public class DensityTargetStrategy implements TargetingStrategy {
+  // how much more a placement counts for each known hit it covers
+  private static final int HIT_WEIGHT = 50;
+
+  private final Map<ShipType, Integer> fleet;
+  private PlacementTable table;
+  // cells that have been fired at, including shots whose results are not known yet
+  private BitBoard fired;
+  // reused between volleys, indexed by cell index
+  private int[] scores;
+
+  /**
+   * Constructs a new DensityTargetStrategy, which must be set up before it is used
+   */
+  public DensityTargetStrategy() {
+    this.fleet = new EnumMap<>(ShipType.class);
+    this.table = null;
+    this.fired = null;
+    this.scores = null;
+  }
+
+  @Override
+  public void setup(int height, int width, Map<ShipType, Integer> specifications) {
+    this.fleet.clear();
+    this.fleet.putAll(specifications);
+    this.table = PlacementTable.forSize(height, width);
+    this.fired = new BitBoard(height, width);
+    this.scores = new int[height * width];
+  }
+
+  @Override
+  public List<Coord> planShots(Board opponentBoard, int volleySize, RandomGenerator rand) {
+    BitBoard candidates = opponentBoard.getUnfiredCells().andNot(this.fired);
+    this.scoreCells(opponentBoard.getCells(CellState.HIT), 
+        opponentBoard.getCells(CellState.MISS), candidates);
+    return CellRanking.topCells(this.scores, candidates, volleySize, rand);
+  }
+
+  @Override
+  public void shotsFired(List<Coord> shots) {
+    for (Coord c : shots) {
+      this.fired.set(this.fired.indexOf(c));
+    }
+  }
+
+  @Override
+  public void shotsResolved(Board opponentBoard, List<Coord> hits) {
+    // everything this strategy needs is read from the board when planning
+  }
+
+  /**
+   * Returns the score of each cell from the most recent volley that was planned,
+   * indexed by y * width + x
+   *
+   * @return a copy of the most recent scores
+   */
+  public int[] getScores() {
+    return this.scores.clone();
+  }
+
+  /**
+   * Fills in the score of every candidate cell, counting every placement of every ship in the
+   * fleet that does not cross a miss
+   *
+   * @param hits the cells known to be hits
+   * @param misses the cells known to be misses
+   * @param candidates the cells that can still be fired at
+   */
+  private void scoreCells(BitBoard hits, BitBoard misses, BitBoard candidates) {
+    int[] cellScores = this.scores;
+    Arrays.fill(cellScores, 0);
+    
+    for (Map.Entry<ShipType, Integer> entry : this.fleet.entrySet()) {
+      int count = entry.getValue();
+      if (count <= 0) {
+        continue;
+      }
+      for (Placement placement : this.table.getPlacements(entry.getKey())) {
+        if (placement.intersects(misses)) {
+          continue;
+        }
+        int weight = count * (1 + HIT_WEIGHT * placement.countCovered(hits));
+        for (int cell : placement.cellIndices()) {
+          cellScores[cell] += weight;
+        }
+      }
+    }
+    
+    // only unfired cells can be chosen, so every other score is cleared
+    for (int i = 0; i < cellScores.length; i++) {
+      if (!candidates.get(i)) {
+        cellScores[i] = 0;
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package cs3500.pa03.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Represents a sampler of complete enemy fleet layouts that are consistent with the hits and
+ * misses seen so far: no ship crosses a miss or another ship, and every hit is covered by a ship.
+ * Each sampler has its own scratch space, so samplers must not be shared between threads.
+ */
+class FleetSampler {
+  private final PlacementTable table;
+  private final ShipType[] fleet;
+  private final BitBoard hits;
+  private final BitBoard misses;
+  // scratch space reused between samples
+  private final BitBoard occupied;
+  private final BitBoard uncovered;
+  private final Placement[] legal;
+  private final Placement[] targeted;
+
+  /**
+   * Constructs a new FleetSampler for the given fleet and observations
+   *
+   * @param table the placements for the board size
+   * @param fleet every ship in the enemy fleet
+   * @param hits the cells known to be hits, which must not be modified while sampling
+   * @param misses the cells known to be misses, which must not be modified while sampling
+   */
+  FleetSampler(PlacementTable table, ShipType[] fleet, BitBoard hits, BitBoard misses) {
+    this.table = table;
+    this.fleet = fleet.clone();
+    this.hits = hits;
+    this.misses = misses;
+    this.occupied = new BitBoard(hits.getHeight(), hits.getWidth());
+    this.uncovered = new BitBoard(hits.getHeight(), hits.getWidth());
+    int maxPlacements = 0;
+    for (ShipType type : ShipType.values()) {
+      maxPlacements = Math.max(maxPlacements, table.getPlacements(type).size());
+    }
+    this.legal = new Placement[maxPlacements];
+    this.targeted = new Placement[maxPlacements];
+  }
+
+  /**
+   * Samples one fleet layout, and if it is consistent, adds one to the count of every
+   * candidate cell it occupies
+   *
+   * @param rand the random generator to sample with
+   * @param candidates the cells whose counts matter
+   * @param counts the count of each cell, indexed by y * width + x
+   * @return whether the sampled layout was consistent and counted
+   */
+  boolean sampleInto(SplittableRandom rand, BitBoard candidates, int[] counts) {
+    this.occupied.clearAll();
+    this.uncovered.clearAll().or(this.hits);
+
+    // ships are placed in a random order, so no ship type is favored for covering hits
+    for (int i = this.fleet.length - 1; i > 0; i--) {
+      int j = rand.nextInt(i + 1);
+      ShipType temp = this.fleet[i];
+      this.fleet[i] = this.fleet[j];
+      this.fleet[j] = temp;
+    }
+
+    for (ShipType type : this.fleet) {
+      Placement chosen = this.choosePlacement(type, rand);
+      if (chosen == null) {
+        return false;
+      }
+      chosen.addTo(this.occupied);
+      this.uncovered.andNot(this.occupied);
+    }
+
+    // the layout only explains what was seen if every hit is under a ship
+    if (!this.uncovered.isEmpty()) {
+      return false;
+    }
+    for (int cell = this.occupied.nextSetBit(0); cell >= 0;
+        cell = this.occupied.nextSetBit(cell + 1)) {
+      if (candidates.get(cell)) {
+        counts[cell]++;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Chooses a random legal placement of the given type. While some hits are not covered,
+   * placements that cover one of them are chosen first.
+   *
+   * @param type the type of ship to place
+   * @param rand the random generator to choose with
+   * @return the chosen placement, or null if the ship cannot be placed
+   */
+  private Placement choosePlacement(ShipType type, SplittableRandom rand) {
+    int legalCount = 0;
+    int targetedCount = 0;
+    boolean targeting = !this.uncovered.isEmpty();
+
+    for (Placement p : this.table.getPlacements(type)) {
+      if (p.intersects(this.misses) || p.intersects(this.occupied)) {
+        continue;
+      }
+      this.legal[legalCount++] = p;
+      if (targeting && p.intersects(this.uncovered)) {
+        this.targeted[targetedCount++] = p;
+      }
+    }
+
+    if (targetedCount > 0) {
+      return this.targeted[rand.nextInt(targetedCount)];
+    }
+    return legalCount > 0 ? this.legal[rand.nextInt(legalCount)] : null;
+  }
+}
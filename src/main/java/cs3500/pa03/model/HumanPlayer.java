@@ -4,7 +4,7 @@ import cs3500.pa03.view.GameView;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a HumanPlayer implementation of the Player interface.
@@ -15,12 +15,12 @@ public class HumanPlayer extends AbstractPlayer {
   
   /**
    * Constructs a new HumanPlayer with the given view for handling inputs/outputs
-   * and random numbers generated using the given Random generator
+   * and random numbers generated using the given generator
    *
    * @param view the view for input/output
    * @param rand the random generator
    */
-  public HumanPlayer(GameView view, Random rand) {
+  public HumanPlayer(GameView view, RandomGenerator rand) {
     super(rand);
     this.view = Objects.requireNonNull(view);
   }
@@ -32,7 +32,7 @@ public class HumanPlayer extends AbstractPlayer {
    */
   public HumanPlayer(GameView view) {
     // this will be called when random should be unseeded
-    this(view, new Random());
+    this(view, RandomSource.global().next());
   }
 
   /**
@@ -83,7 +83,7 @@ public class HumanPlayer extends AbstractPlayer {
         // if it is a valid input...
         if (0 <= x && x < this.board.getWidth() && 0 <= y && y < this.board.getHeight()) {
           // DESIGN DECISION: it is okay for the player to fire at a previously-hit location
-          coords.add(new Coord(x, y));
+          coords.add(Coord.of(x, y));
           break; // no longer continue asking
         }
         this.view.displayMessage("Please enter coordinates that are within the board's dimensions");
@@ -0,0 +1,91 @@
+package cs3500.pa03.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a TargetingStrategy that fires at the neighbors of previous hits first, then at
+ * random unfired cells, preferring cells with (x + y) % 3 == 0
+ */
+public class HuntTargetStrategy implements TargetingStrategy {
+  private final Queue<Coord> nextShots;
+  // the cells of the opponent's board that have not been fired at, updated as shots are fired
+  private ShotPool unfired;
+  private NeighborTable neighbors;
+
+  /**
+   * Constructs a new HuntTargetStrategy, which must be set up before it is used
+   */
+  public HuntTargetStrategy() {
+    this.nextShots = new ArrayDeque<>();
+    this.unfired = null;
+    this.neighbors = null;
+  }
+
+  @Override
+  public void setup(int height, int width, Map<ShipType, Integer> specifications) {
+    // every cell of the new opponent's board is unfired, and nothing is left to follow up on
+    this.unfired = new ShotPool(height, width);
+    this.neighbors = NeighborTable.forSize(height, width);
+    this.nextShots.clear();
+  }
+
+  @Override
+  public List<Coord> planShots(Board opponentBoard, int volleySize, RandomGenerator rand) {
+    List<Coord> shots = new ArrayList<>(volleySize);
+    // cells are removed from the pool while planning, so they cannot be chosen twice,
+    // then put back exactly as they were
+    int checkpoint = this.unfired.checkpoint();
+    
+    // start by taking shots from the queue, skipping any that were randomly fired at
+    // since they were queued
+    for (Coord c : this.nextShots) {
+      if (shots.size() >= volleySize) {
+        break;
+      }
+      if (this.unfired.remove(c)) {
+        shots.add(c);
+      }
+    }
+    
+    // add remaining shots (if possible)
+    // if there are more ships left than unfired locations, 
+    // this will fire shots equal to the number of unfired locations 
+    while (shots.size() < volleySize && this.unfired.size() > 0) {
+      shots.add(this.unfired.removeRandom(rand));
+    }
+    
+    this.unfired.rollback(checkpoint);
+    return shots;
+  }
+
+  @Override
+  public void shotsFired(List<Coord> shots) {
+    for (Coord c : shots) {
+      this.unfired.remove(c);
+    }
+    // any queued shots that were fired (or fired at earlier) are no longer needed
+    while (!this.nextShots.isEmpty() && !this.unfired.contains(this.nextShots.peek())) {
+      this.nextShots.remove();
+    }
+  }
+
+  @Override
+  public void shotsResolved(Board opponentBoard, List<Coord> hits) {
+    // adds neighbors of successful shots to queue
+    for (Coord coord : hits) {
+      // the table only contains neighbors that are on the board
+      for (Coord c : this.neighbors.neighborsOf(coord)) {
+        // take only the neighboring shots that have not been tried before
+        if (!this.nextShots.contains(c) 
+            && opponentBoard.getCellState(c) == CellState.WATER) {
+          this.nextShots.add(c);
+        }
+      }
+    }
+  }
+}
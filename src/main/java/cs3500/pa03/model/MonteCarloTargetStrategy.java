@@ -0,0 +1,259 @@
+package cs3500.pa03.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a TargetingStrategy that samples many complete enemy fleet layouts consistent with
+ * every hit and miss seen so far, and fires at the cells that are occupied in the most samples.
+ * Samples are taken in parallel on a ForkJoinPool, where each task has its own SplittableRandom
+ * split from one seed, so with no time limit reached the result only depends on the seed.
+ * If too few consistent layouts are found, the volley is planned by a DensityTargetStrategy.
+ * Since sampling can stop at any time, this is an anytime strategy: given a deadline, it
+ * returns the best volley the samples taken by then support.
+ */
+public class MonteCarloTargetStrategy implements TargetingStrategy {
+  // samples taken by a single task before it stops splitting
+  private static final int SAMPLES_PER_TASK = 64;
+  // below this many consistent layouts, the sampled counts are too noisy to be trusted
+  private static final int MIN_CONSISTENT_SAMPLES = 16;
+
+  private final int sampleBudget;
+  private final long timeBudgetNanos;
+  private final ForkJoinPool pool;
+  private final DensityTargetStrategy fallback;
+  private final List<ShipType> fleet;
+  private PlacementTable table;
+  // cells that have been fired at, including shots whose results are not known yet
+  private BitBoard fired;
+  private int lastSampleCount;
+
+  /**
+   * Constructs a new MonteCarloTargetStrategy that takes up to the given number of samples per
+   * volley, stopping early when the time budget runs out, on the given pool
+   *
+   * @param sampleBudget the maximum number of layouts to sample per volley
+   * @param timeBudget the maximum time to spend sampling per volley
+   * @param pool the pool to sample on
+   * @throws IllegalArgumentException if the sample budget is not positive
+   */
+  public MonteCarloTargetStrategy(int sampleBudget, Duration timeBudget, ForkJoinPool pool) {
+    if (sampleBudget <= 0) {
+      throw new IllegalArgumentException("sample budget must be positive");
+    }
+    this.sampleBudget = sampleBudget;
+    this.timeBudgetNanos = timeBudget.toNanos();
+    this.pool = Objects.requireNonNull(pool);
+    this.fallback = new DensityTargetStrategy();
+    this.fleet = new ArrayList<>();
+    this.table = null;
+    this.fired = null;
+    this.lastSampleCount = 0;
+  }
+
+  /**
+   * Constructs a new MonteCarloTargetStrategy that takes up to the given number of samples per
+   * volley, stopping early when the time budget runs out, on the common pool
+   *
+   * @param sampleBudget the maximum number of layouts to sample per volley
+   * @param timeBudget the maximum time to spend sampling per volley
+   * @throws IllegalArgumentException if the sample budget is not positive
+   */
+  public MonteCarloTargetStrategy(int sampleBudget, Duration timeBudget) {
+    this(sampleBudget, timeBudget, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a new MonteCarloTargetStrategy that always takes the given number of samples per
+   * volley, with no time budget, on the common pool. Its volleys only depend on the random
+   * generator it is given, not on how fast or how loaded the machine is.
+   *
+   * @param sampleBudget the number of layouts to sample per volley
+   * @throws IllegalArgumentException if the sample budget is not positive
+   */
+  public MonteCarloTargetStrategy(int sampleBudget) {
+    this(sampleBudget, Duration.ofNanos(Long.MAX_VALUE));
+  }
+
+  @Override
+  public void setup(int height, int width, Map<ShipType, Integer> specifications) {
+    this.fallback.setup(height, width, specifications);
+    this.fleet.clear();
+    for (ShipType type : ShipType.values()) {
+      for (int i = 0; i < specifications.getOrDefault(type, 0); i++) {
+        this.fleet.add(type);
+      }
+    }
+    this.table = PlacementTable.forSize(height, width);
+    this.fired = new BitBoard(height, width);
+  }
+
+  @Override
+  public List<Coord> planShots(Board opponentBoard, int volleySize, RandomGenerator rand) {
+    return this.planShots(opponentBoard, volleySize, rand,
+        System.nanoTime() + this.timeBudgetNanos);
+  }
+
+  /**
+   * Chooses a volley by sampling until the sample budget, the time budget, or the given
+   * deadline runs out, whichever is first. If the deadline has already passed, the volley is
+   * planned by the DensityTargetStrategy right away, without sampling.
+   *
+   * @param opponentBoard the opponent's board, with every resolved shot marked HIT or MISS
+   * @param volleySize the number of shots to choose
+   * @param rand the random generator to choose with
+   * @param deadline the System.nanoTime() by which the volley must be chosen
+   * @return the chosen cells
+   */
+  @Override
+  public List<Coord> planShots(Board opponentBoard, int volleySize, RandomGenerator rand,
+      long deadline) {
+    long start = System.nanoTime();
+    // deadlines are compared by their difference, since nanoTime can overflow
+    if (deadline - start <= 0) {
+      this.lastSampleCount = 0;
+      return this.fallback.planShots(opponentBoard, volleySize, rand);
+    }
+    long end = deadline - start < this.timeBudgetNanos ? deadline
+        : start + this.timeBudgetNanos;
+
+    BitBoard hits = opponentBoard.getCells(CellState.HIT);
+    BitBoard misses = opponentBoard.getCells(CellState.MISS);
+    BitBoard candidates = opponentBoard.getUnfiredCells().andNot(this.fired);
+    SampleTask root = new SampleTask(this.sampleBudget, new SplittableRandom(rand.nextLong()),
+        hits, misses, candidates, end);
+    SampleResult result = this.pool.invoke(root);
+    this.lastSampleCount = result.samples;
+
+    if (result.samples < MIN_CONSISTENT_SAMPLES) {
+      return this.fallback.planShots(opponentBoard, volleySize, rand);
+    }
+    return CellRanking.topCells(result.counts, candidates, volleySize, rand);
+  }
+
+  @Override
+  public void shotsFired(List<Coord> shots) {
+    this.fallback.shotsFired(shots);
+    for (Coord c : shots) {
+      this.fired.set(this.fired.indexOf(c));
+    }
+  }
+
+  @Override
+  public void shotsResolved(Board opponentBoard, List<Coord> hits) {
+    this.fallback.shotsResolved(opponentBoard, hits);
+  }
+
+  /**
+   * Returns the number of consistent layouts found when planning the most recent volley
+   *
+   * @return the most recent number of consistent samples
+   */
+  public int getLastSampleCount() {
+    return this.lastSampleCount;
+  }
+
+  /**
+   * Represents the combined results of sampling: how many consistent layouts were found,
+   * and how many of them occupy each cell
+   */
+  private static class SampleResult {
+    private final int[] counts;
+    private int samples;
+
+    /**
+     * Constructs a new, empty SampleResult for a board with the given number of cells
+     *
+     * @param cells the number of cells on the board
+     */
+    SampleResult(int cells) {
+      this.counts = new int[cells];
+      this.samples = 0;
+    }
+
+    /**
+     * Adds the other result into this result
+     *
+     * @param other the result to add
+     * @return this result
+     */
+    SampleResult add(SampleResult other) {
+      for (int i = 0; i < this.counts.length; i++) {
+        this.counts[i] += other.counts[i];
+      }
+      this.samples += other.samples;
+      return this;
+    }
+  }
+
+  /**
+   * Represents a task that samples a number of layouts, splitting into two tasks with
+   * independent random streams until the number is small enough to sample directly
+   */
+  // tasks are only ever run in memory, so they are never serialized
+  @SuppressWarnings("serial")
+  private class SampleTask extends RecursiveTask<SampleResult> {
+    private final int samples;
+    private final SplittableRandom rand;
+    private final BitBoard hits;
+    private final BitBoard misses;
+    private final BitBoard candidates;
+    private final long deadline;
+
+    /**
+     * Constructs a new SampleTask
+     *
+     * @param samples the number of layouts to sample
+     * @param rand the random stream owned by this task
+     * @param hits the cells known to be hits
+     * @param misses the cells known to be misses
+     * @param candidates the cells that can still be fired at
+     * @param deadline the System.nanoTime() after which no more samples are taken
+     */
+    SampleTask(int samples, SplittableRandom rand, BitBoard hits, BitBoard misses,
+        BitBoard candidates, long deadline) {
+      this.samples = samples;
+      this.rand = rand;
+      this.hits = hits;
+      this.misses = misses;
+      this.candidates = candidates;
+      this.deadline = deadline;
+    }
+
+    @Override
+    protected SampleResult compute() {
+      if (System.nanoTime() - this.deadline >= 0) {
+        // out of time, so the rest of this task's samples are not split up only to be skipped
+        return new SampleResult(this.candidates.size());
+      }
+      if (this.samples > SAMPLES_PER_TASK) {
+        // both halves get a stream split from this task's, which does not depend on timing
+        int half = this.samples / 2;
+        SampleTask left = new SampleTask(half, this.rand.split(), this.hits, this.misses,
+            this.candidates, this.deadline);
+        SampleTask right = new SampleTask(this.samples - half, this.rand.split(), this.hits,
+            this.misses, this.candidates, this.deadline);
+        left.fork();
+        return right.compute().add(left.join());
+      }
+
+      SampleResult result = new SampleResult(this.candidates.size());
+      ShipType[] ships = MonteCarloTargetStrategy.this.fleet.toArray(new ShipType[0]);
+      FleetSampler sampler = new FleetSampler(MonteCarloTargetStrategy.this.table, ships,
+          this.hits, this.misses);
+      for (int i = 0; i < this.samples && System.nanoTime() - this.deadline < 0; i++) {
+        if (sampler.sampleInto(this.rand, this.candidates, result.counts)) {
+          result.samples++;
+        }
+      }
+      return result;
+    }
+  }
+}
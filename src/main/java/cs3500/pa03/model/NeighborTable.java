@@ -0,0 +1,92 @@
+package cs3500.pa03.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Represents a precomputed table of the orthogonal neighbors of every cell on a board of a
+ * given size in a game of BattleSalvo. Tables are shared between all boards of the same size.
+ */
+public class NeighborTable {
+  // the table of each size, indexed by height * (MAX_WIDTH + 1) + width, filled in when first
+  // needed; an array avoids boxing a key on every lookup
+  private static final AtomicReferenceArray<NeighborTable> TABLES = new AtomicReferenceArray<>(
+      (BattleSalvoConfig.MAX_HEIGHT + 1) * (BattleSalvoConfig.MAX_WIDTH + 1));
+
+  private final int height;
+  private final int width;
+  // the neighbors of each cell, indexed by y * width + x
+  private final List<List<Coord>> neighbors;
+
+  /**
+   * Constructs a new NeighborTable for a board of the given height and width
+   *
+   * @param height the height of the board
+   * @param width the width of the board
+   */
+  private NeighborTable(int height, int width) {
+    this.height = height;
+    this.width = width;
+    this.neighbors = new ArrayList<>(height * width);
+
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        List<Coord> cellNeighbors = new ArrayList<>(4);
+        // neighbors are listed right, down, left, then up, skipping any that are off the board
+        if (x + 1 < width) {
+          cellNeighbors.add(Coord.of(x + 1, y));
+        }
+        if (y + 1 < height) {
+          cellNeighbors.add(Coord.of(x, y + 1));
+        }
+        if (x > 0) {
+          cellNeighbors.add(Coord.of(x - 1, y));
+        }
+        if (y > 0) {
+          cellNeighbors.add(Coord.of(x, y - 1));
+        }
+        this.neighbors.add(List.copyOf(cellNeighbors));
+      }
+    }
+  }
+
+  /**
+   * Returns the shared NeighborTable for boards of the given height and width,
+   * computing it the first time it is needed
+   *
+   * @param height the height of the board, in [6, 15] inclusive
+   * @param width the width of the board, in [6, 15] inclusive
+   * @return the NeighborTable for boards of the given size
+   * @throws IllegalArgumentException if height or width are not within the range [6, 15] inclusive
+   */
+  public static NeighborTable forSize(int height, int width) {
+    if (height < BattleSalvoConfig.MIN_HEIGHT || height > BattleSalvoConfig.MAX_HEIGHT
+        || width < BattleSalvoConfig.MIN_WIDTH || width > BattleSalvoConfig.MAX_WIDTH) {
+      throw new IllegalArgumentException("board dimensions must be within the range [6, 15]");
+    }
+    int key = height * (BattleSalvoConfig.MAX_WIDTH + 1) + width;
+    NeighborTable table = TABLES.get(key);
+    if (table == null) {
+      // racing threads may each compute a table, but only the first one is ever shared
+      TABLES.compareAndSet(key, null, new NeighborTable(height, width));
+      table = TABLES.get(key);
+    }
+    return table;
+  }
+
+  /**
+   * Returns the orthogonal neighbors of the given Coord that are on the board, in the order
+   * right, down, left, then up
+   *
+   * @param coord the Coord to get the neighbors of
+   * @return an unmodifiable list of the Coord's neighbors
+   * @throws IllegalArgumentException if the Coord is not in the board's bounds
+   */
+  public List<Coord> neighborsOf(Coord coord) {
+    if (coord.y() >= this.height || coord.x() >= this.width) {
+      throw new IllegalArgumentException("given coordinate is not in the bounds of the board");
+    }
+    return this.neighbors.get(coord.y() * this.width + coord.x());
+  }
+}
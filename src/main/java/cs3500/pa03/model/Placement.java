@@ -0,0 +1,110 @@
+package cs3500.pa03.model;
+
+/**
+ * Represents one legal placement of a type of Ship on an empty board of a given size,
+ * along with the cells it covers as a BitBoard
+ */
+public class Placement {
+  private final Coord origin;
+  private final ShipOrientation orientation;
+  private final ShipType type;
+  // never exposed, so that placements can be shared between games
+  private final BitBoard cells;
+  private final int[] cellIndices;
+
+  /**
+   * Constructs a new Placement of the given type at the given origin and orientation,
+   * covering the given cells
+   *
+   * @param origin the coordinate of the top-left corner of the Ship
+   * @param orientation the orientation of the Ship
+   * @param type the type of the Ship
+   * @param cells the cells that the Ship covers, which must not be mutated afterwards
+   */
+  Placement(Coord origin, ShipOrientation orientation, ShipType type, BitBoard cells) {
+    this.origin = origin;
+    this.orientation = orientation;
+    this.type = type;
+    this.cells = cells;
+    this.cellIndices = new int[cells.cardinality()];
+    int n = 0;
+    for (int i = cells.nextSetBit(0); i >= 0; i = cells.nextSetBit(i + 1)) {
+      this.cellIndices[n++] = i;
+    }
+  }
+
+  /**
+   * Returns the coordinate of the top-left corner of this Placement
+   *
+   * @return the origin of this Placement
+   */
+  public Coord getOrigin() {
+    return this.origin;
+  }
+
+  /**
+   * Returns the orientation of this Placement
+   *
+   * @return the orientation of this Placement
+   */
+  public ShipOrientation getOrientation() {
+    return this.orientation;
+  }
+
+  /**
+   * Returns the type of Ship of this Placement
+   *
+   * @return the type of Ship of this Placement
+   */
+  public ShipType getType() {
+    return this.type;
+  }
+
+  /**
+   * Determines whether this Placement covers any of the given cells
+   *
+   * @param occupied the cells to check against, of the same dimensions as this Placement's board
+   * @return whether this Placement shares any cell with the given cells
+   */
+  public boolean intersects(BitBoard occupied) {
+    return this.cells.intersects(occupied);
+  }
+
+  /**
+   * Returns the number of the given cells that this Placement covers
+   *
+   * @param cells the cells to check against, of the same dimensions as this Placement's board
+   * @return the number of cells shared with this Placement
+   */
+  public int countCovered(BitBoard cells) {
+    return this.cells.intersectionCount(cells);
+  }
+
+  /**
+   * Returns the cell indices covered by this Placement, in increasing order. The array is
+   * shared, so it must not be modified.
+   *
+   * @return the cell indices covered by this Placement
+   */
+  int[] cellIndices() {
+    return this.cellIndices;
+  }
+
+  /**
+   * Adds the cells covered by this Placement to the given cells
+   *
+   * @param occupied the cells to add to, of the same dimensions as this Placement's board
+   */
+  public void addTo(BitBoard occupied) {
+    occupied.or(this.cells);
+  }
+
+  /**
+   * Returns a copy of the cells covered by this Placement
+   *
+   * @return a new BitBoard containing every cell this Placement covers
+   */
+  public BitBoard getCells() {
+    return new BitBoard(this.cells);
+  }
+}
@@ -0,0 +1,133 @@
+package cs3500.pa03.model;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Represents a precomputed table of every legal Placement of each ShipType on an empty board of
+ * a given size in a game of BattleSalvo. Tables are shared between all games of the same size.
+ */
+public class PlacementTable {
+  // the table of each size, indexed by height * (MAX_WIDTH + 1) + width, filled in when first
+  // needed; an array avoids boxing a key on every lookup
+  private static final AtomicReferenceArray<PlacementTable> TABLES = new AtomicReferenceArray<>(
+      (BattleSalvoConfig.MAX_HEIGHT + 1) * (BattleSalvoConfig.MAX_WIDTH + 1));
+
+  private final int height;
+  private final int width;
+  private final Map<ShipType, List<Placement>> placements;
+  // the placement with each origin, indexed by [type][orientation][y * width + x],
+  // or null if a ship of that type cannot start there
+  private final Placement[][][] byOrigin;
+
+  /**
+   * Constructs a new PlacementTable for a board of the given height and width
+   *
+   * @param height the height of the board
+   * @param width the width of the board
+   */
+  private PlacementTable(int height, int width) {
+    this.height = height;
+    this.width = width;
+    this.placements = new EnumMap<>(ShipType.class);
+    this.byOrigin = new Placement[ShipType.values().length][ShipOrientation.values().length][];
+
+    for (ShipType type : ShipType.values()) {
+      List<Placement> typePlacements = new ArrayList<>();
+      for (ShipOrientation orientation : ShipOrientation.values()) {
+        Placement[] origins = new Placement[height * width];
+        for (int y = 0; y < height; y++) {
+          for (int x = 0; x < width; x++) {
+            Placement p = this.makePlacement(Coord.of(x, y), orientation, type);
+            if (p != null) {
+              origins[y * width + x] = p;
+              typePlacements.add(p);
+            }
+          }
+        }
+        this.byOrigin[type.ordinal()][orientation.ordinal()] = origins;
+      }
+      this.placements.put(type, List.copyOf(typePlacements));
+    }
+  }
+
+  /**
+   * Returns the shared PlacementTable for boards of the given height and width,
+   * computing it the first time it is needed
+   *
+   * @param height the height of the board, in [6, 15] inclusive
+   * @param width the width of the board, in [6, 15] inclusive
+   * @return the PlacementTable for boards of the given size
+   * @throws IllegalArgumentException if height or width are not within the range [6, 15] inclusive
+   */
+  public static PlacementTable forSize(int height, int width) {
+    if (height < BattleSalvoConfig.MIN_HEIGHT || height > BattleSalvoConfig.MAX_HEIGHT
+        || width < BattleSalvoConfig.MIN_WIDTH || width > BattleSalvoConfig.MAX_WIDTH) {
+      throw new IllegalArgumentException("board dimensions must be within the range [6, 15]");
+    }
+    int key = height * (BattleSalvoConfig.MAX_WIDTH + 1) + width;
+    PlacementTable table = TABLES.get(key);
+    if (table == null) {
+      // racing threads may each compute a table, but only the first one is ever shared
+      TABLES.compareAndSet(key, null, new PlacementTable(height, width));
+      table = TABLES.get(key);
+    }
+    return table;
+  }
+
+  /**
+   * Returns every legal placement of the given type on an empty board of this table's size
+   *
+   * @param type the type of Ship
+   * @return an unmodifiable list of every placement of the given type
+   */
+  public List<Placement> getPlacements(ShipType type) {
+    return this.placements.get(type);
+  }
+
+  /**
+   * Returns the placement of the given type starting at the given origin and orientation,
+   * if it fits on the board
+   *
+   * @param type the type of Ship
+   * @param x the x coordinate of the origin, in [0, width)
+   * @param y the y coordinate of the origin, in [0, height)
+   * @param orientation the orientation of the Ship
+   * @return the placement, or null if a ship of that type would run off of the board
+   */
+  public Placement getPlacement(ShipType type, int x, int y, ShipOrientation orientation) {
+    return this.byOrigin[type.ordinal()][orientation.ordinal()][y * this.width + x];
+  }
+
+  /**
+   * Creates the placement of the given type at the given origin and orientation,
+   * if it fits on the board
+   *
+   * @param origin the origin of the placement
+   * @param orientation the orientation of the placement
+   * @param type the type of Ship
+   * @return the new placement, or null if it would run off of the board
+   */
+  private Placement makePlacement(Coord origin, ShipOrientation orientation, ShipType type) {
+    BitBoard cells = new BitBoard(this.height, this.width);
+    int size = type.getSize();
+
+    if (orientation == ShipOrientation.HORIZONTAL) {
+      if (origin.x() + size > this.width) {
+        return null;
+      }
+      cells.orRow(origin.y(), ((1 << size) - 1) << origin.x());
+    } else {
+      if (origin.y() + size > this.height) {
+        return null;
+      }
+      for (int row = origin.y(); row < origin.y() + size; row++) {
+        cells.orRow(row, 1 << origin.x());
+      }
+    }
+    return new Placement(origin, orientation, type, cells);
+  }
+}
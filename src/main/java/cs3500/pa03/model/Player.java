@@ -1,5 +1,6 @@
 package cs3500.pa03.model;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -63,4 +64,15 @@ public interface Player {
    */
   void endGame(GameResult result, String reason);
 
+  /**
+   * Sets the longest time this player should take to choose each volley, such as when a
+   * server forfeits players that are too slow to respond. By default, this does nothing,
+   * since most players choose their volleys quickly.
+   *
+   * @param limit the time limit of each volley, or null for no limit
+   */
+  default void setTimeLimit(Duration limit) {
+    // players that always choose quickly do not need a limit
+  }
+
 }
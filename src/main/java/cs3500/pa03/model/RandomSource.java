@@ -0,0 +1,99 @@
+package cs3500.pa03.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a source of independent random generators derived from a single master seed.
+ * A child source is derived for each index, such as a game's number and then a player's
+ * seat, by mixing the index into the seed, so the generator a player gets only depends on
+ * the master seed and its indices, and not on the order or the thread it was created on.
+ * Each player owns its own SplittableRandom, so no generator is ever shared between threads.
+ */
+public final class RandomSource {
+  /**
+   * The system property that seeds the source of unseeded players, to repeat a run
+   */
+  public static final String SEED_PROPERTY = "battlesalvo.seed";
+  // the odd increment of SplittableRandom's own seed sequence, which spreads out indices
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+  private static final RandomSource GLOBAL = new RandomSource(
+      Long.getLong(SEED_PROPERTY, System.nanoTime() ^ System.currentTimeMillis()));
+
+  private final long seed;
+  // the index of the next child handed out by next
+  private final AtomicLong nextIndex;
+
+  /**
+   * Constructs a new RandomSource with the given master seed
+   *
+   * @param seed the master seed
+   */
+  public RandomSource(long seed) {
+    this.seed = seed;
+    this.nextIndex = new AtomicLong();
+  }
+
+  /**
+   * Returns the source that unseeded players are given their generators from, which is
+   * seeded from the battlesalvo.seed system property, or from the clock if it is not set
+   *
+   * @return the source of unseeded players
+   */
+  public static RandomSource global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Returns the master seed of this source
+   *
+   * @return the seed
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   * Returns the child source with the given index, which is the same every time it is
+   * derived from a source with the same seed
+   *
+   * @param index the index of the child, such as a game number or a player's seat
+   * @return the child source
+   */
+  public RandomSource derive(long index) {
+    return new RandomSource(mix(this.seed + GOLDEN_GAMMA * (index + 1)));
+  }
+
+  /**
+   * Returns a new generator seeded by this source
+   *
+   * @return a generator owned by the caller
+   */
+  public SplittableRandom generator() {
+    return new SplittableRandom(this.seed);
+  }
+
+  /**
+   * Returns a new generator from the next child of this source. Children are numbered in
+   * the order they are asked for, so this is only repeatable when they are asked for in the
+   * same order.
+   *
+   * @return a generator owned by the caller
+   */
+  public SplittableRandom next() {
+    return this.derive(this.nextIndex.getAndIncrement()).generator();
+  }
+
+  /**
+   * Mixes the bits of the given value, so that nearby values give unrelated seeds
+   *
+   * @param z the value to mix
+   * @return the mixed value
+   */
+  private static long mix(long z) {
+    // the finalizer of SplitMix64
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,185 @@
+package cs3500.pa03.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a TargetingStrategy that chooses a whole volley together rather than each shot on
+ * its own. Every placement of the opponent's ships that does not cross a miss is weighted like
+ * in DensityTargetStrategy, and shots are picked greedily to maximize the total weight of the
+ * distinct placements the volley hits, which estimates the number of distinct ships it hits.
+ * After each pick, only the placements through the picked cell are re-scored, so a volley costs
+ * about the same as scoring the board once, no matter how many shots it has.
+ */
+public class SalvoTargetStrategy implements TargetingStrategy {
+  // how much more a placement counts for each known hit it covers
+  private static final int HIT_WEIGHT = 50;
+
+  private final Map<ShipType, Integer> fleet;
+  private PlacementTable table;
+  // cells that have been fired at, including shots whose results are not known yet
+  private BitBoard fired;
+  // scratch space reused between volleys: the placements that do not cross a miss, their
+  // weights, whether a tentative shot already hits them, and the score of each cell
+  private Placement[] live;
+  private int[] weights;
+  private boolean[] covered;
+  private int[] scores;
+  // the live placements through each cell, where cell i's are entries[starts[i]..starts[i + 1])
+  private int[] starts;
+  private int[] entries;
+
+  /**
+   * Constructs a new SalvoTargetStrategy, which must be set up before it is used
+   */
+  public SalvoTargetStrategy() {
+    this.fleet = new EnumMap<>(ShipType.class);
+    this.table = null;
+    this.fired = null;
+  }
+
+  @Override
+  public void setup(int height, int width, Map<ShipType, Integer> specifications) {
+    this.fleet.clear();
+    this.fleet.putAll(specifications);
+    this.table = PlacementTable.forSize(height, width);
+    this.fired = new BitBoard(height, width);
+
+    int placements = 0;
+    int cellEntries = 0;
+    for (ShipType type : ShipType.values()) {
+      placements += this.table.getPlacements(type).size();
+      cellEntries += this.table.getPlacements(type).size() * type.getSize();
+    }
+    this.live = new Placement[placements];
+    this.weights = new int[placements];
+    this.covered = new boolean[placements];
+    this.scores = new int[height * width];
+    this.starts = new int[height * width + 1];
+    this.entries = new int[cellEntries];
+  }
+
+  @Override
+  public List<Coord> planShots(Board opponentBoard, int volleySize, RandomGenerator rand) {
+    BitBoard candidates = opponentBoard.getUnfiredCells().andNot(this.fired);
+    int liveCount = this.scoreCells(opponentBoard.getCells(CellState.HIT),
+        opponentBoard.getCells(CellState.MISS));
+    this.indexCells(liveCount);
+
+    int size = candidates.size();
+    // ties are broken randomly by starting every scan at the same random cell
+    int start = rand.nextInt(size);
+    List<Coord> shots = new ArrayList<>(volleySize);
+    for (int n = 0; n < volleySize; n++) {
+      int best = -1;
+      for (int i = 0; i < size; i++) {
+        int cell = start + i < size ? start + i : start + i - size;
+        if (candidates.get(cell) && (best < 0 || this.scores[cell] > this.scores[best])) {
+          best = cell;
+        }
+      }
+      if (best < 0) {
+        break;
+      }
+      shots.add(candidates.coordOf(best));
+      candidates.clear(best);
+      this.pick(best);
+    }
+    return shots;
+  }
+
+  @Override
+  public void shotsFired(List<Coord> shots) {
+    for (Coord c : shots) {
+      this.fired.set(this.fired.indexOf(c));
+    }
+  }
+
+  @Override
+  public void shotsResolved(Board opponentBoard, List<Coord> hits) {
+    // everything this strategy needs is read from the board when planning
+  }
+
+  /**
+   * Collects every placement that does not cross a miss along with its weight, and scores every
+   * cell by the total weight of the placements through it
+   *
+   * @param hits the cells known to be hits
+   * @param misses the cells known to be misses
+   * @return the number of live placements
+   */
+  private int scoreCells(BitBoard hits, BitBoard misses) {
+    Arrays.fill(this.scores, 0);
+    int liveCount = 0;
+
+    for (Map.Entry<ShipType, Integer> entry : this.fleet.entrySet()) {
+      int count = entry.getValue();
+      if (count <= 0) {
+        continue;
+      }
+      for (Placement placement : this.table.getPlacements(entry.getKey())) {
+        if (placement.intersects(misses)) {
+          continue;
+        }
+        int weight = count * (1 + HIT_WEIGHT * placement.countCovered(hits));
+        this.live[liveCount] = placement;
+        this.weights[liveCount] = weight;
+        this.covered[liveCount] = false;
+        liveCount++;
+        for (int cell : placement.cellIndices()) {
+          this.scores[cell] += weight;
+        }
+      }
+    }
+    return liveCount;
+  }
+
+  /**
+   * Builds the index from each cell to the live placements through it
+   *
+   * @param liveCount the number of live placements
+   */
+  private void indexCells(int liveCount) {
+    // first count the placements through each cell, then turn the counts into start offsets
+    Arrays.fill(this.starts, 0);
+    for (int p = 0; p < liveCount; p++) {
+      for (int cell : this.live[p].cellIndices()) {
+        this.starts[cell + 1]++;
+      }
+    }
+    for (int i = 1; i < this.starts.length; i++) {
+      this.starts[i] += this.starts[i - 1];
+    }
+
+    // then fill each cell's run, tracking where the next entry of each run goes
+    int[] next = Arrays.copyOf(this.starts, this.starts.length - 1);
+    for (int p = 0; p < liveCount; p++) {
+      for (int cell : this.live[p].cellIndices()) {
+        this.entries[next[cell]++] = p;
+      }
+    }
+  }
+
+  /**
+   * Tentatively fires at the given cell: every placement through it is now hit by the volley,
+   * so it no longer adds to the score of any other cell
+   *
+   * @param cell the cell picked
+   */
+  private void pick(int cell) {
+    for (int e = this.starts[cell]; e < this.starts[cell + 1]; e++) {
+      int p = this.entries[e];
+      if (this.covered[p]) {
+        continue;
+      }
+      this.covered[p] = true;
+      for (int other : this.live[p].cellIndices()) {
+        this.scores[other] -= this.weights[p];
+      }
+    }
+  }
+}
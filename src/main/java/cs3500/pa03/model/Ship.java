@@ -4,7 +4,9 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -14,8 +16,12 @@ import java.util.Set;
 public class Ship {
   private final Coord originCoord;
   private final ShipOrientation orientation;
-  // represents whether each of this Ship's segments have been hit
-  private final boolean[] hitArray;
+  private final int length;
+  // bit i represents whether segment i (counting from the origin) has been hit
+  private int hitMask;
+  // the number of segments that have not been hit yet
+  private int remaining;
+  private final List<SinkListener> sinkListeners;
 
   /**
    * Constructs a new Ship of the given size at the Coord and in the given Orientation
@@ -31,8 +37,11 @@ public class Ship {
       @JsonProperty("length") int size) {
     this.originCoord = Objects.requireNonNull(originCoord);
     this.orientation = Objects.requireNonNull(orientation);
-    // initially all false, meaning the ship has not been hit yet
-    this.hitArray = new boolean[size];
+    this.length = size;
+    // initially no bits are set, meaning the ship has not been hit yet
+    this.hitMask = 0;
+    this.remaining = size;
+    this.sinkListeners = new ArrayList<>(1);
   }
 
   /**
@@ -74,7 +83,7 @@ public class Ship {
    */
   @JsonGetter("length")
   public int getLength() {
-    return this.hitArray.length;
+    return this.length;
   }
   
   /**
@@ -84,17 +93,11 @@ public class Ship {
    */
   @JsonIgnore
   public boolean isSunk() {
-    for (boolean isHit : this.hitArray) {
-      if (!isHit) {
-        // if any part of the ship is not hit, the ship is not sunk
-        return false;
-      }
-    }
-    return true;
+    return this.remaining == 0;
   }
 
   /**
-   * Receives a shot at the given coordinate, updating the internal hitArray
+   * Receives a shot at the given coordinate, updating the internal hitMask
    * and returning true if the shot hits the ship, otherwise returning false.
    * Shooting an already-hit location will return false.
    *
@@ -102,25 +105,45 @@ public class Ship {
    * @return whether the shot hits this Ship
    */
   public boolean receiveShot(Coord shotCoord) {
-    if (!this.getOccupiedCoords().contains(shotCoord)) {
-      return false;
+    // the shot is only on the ship if it is in line with it, and then the distance along
+    // that line is the index of the segment that was hit
+    int segment;
+    if (this.orientation == ShipOrientation.VERTICAL) {
+      segment = shotCoord.x() == this.originCoord.x() ? shotCoord.y() - this.originCoord.y() : -1;
+    } else {
+      segment = shotCoord.y() == this.originCoord.y() ? shotCoord.x() - this.originCoord.x() : -1;
     }
     
-    // since we know the shot is on the ship, we can figure out where to index into hitArray
-    // one of the two terms of the Math.max will always be zero, the other will be the index
-    // we also know that shotCoord >= originCoord by the definition of origin
-    int distFromOrigin = Math.max(shotCoord.x() - this.originCoord.x(), 
-        shotCoord.y() - this.originCoord.y());
+    if (segment < 0 || segment >= this.length) {
+      return false;
+    }
     
+    int bit = 1 << segment;
     // if this ship has been hit at the location before
-    if (this.hitArray[distFromOrigin]) {
+    if ((this.hitMask & bit) != 0) {
       return false;
     }
     
-    this.hitArray[distFromOrigin] = true;
+    this.hitMask |= bit;
+    this.remaining--;
+    if (this.remaining == 0) {
+      // this was the last segment, so the ship has just been sunk
+      for (SinkListener listener : this.sinkListeners) {
+        listener.shipSunk(this);
+      }
+    }
     return true;
   }
 
+  /**
+   * Adds a listener that is notified when this Ship is sunk
+   *
+   * @param listener the listener to notify
+   */
+  public void addSinkListener(SinkListener listener) {
+    this.sinkListeners.add(Objects.requireNonNull(listener));
+  }
+
   /**
    * Returns the set of coordinates that this Ship occupies
    *
@@ -133,13 +156,13 @@ public class Ship {
     int originX = this.originCoord.x();
     int originY = this.originCoord.y();
     
-    for (int i = 0; i < this.hitArray.length; i++) {
+    for (int i = 0; i < this.length; i++) {
       if (this.orientation == ShipOrientation.VERTICAL) {
         // vertical ship: add to y coordinate
-        coords.add(new Coord(originX, originY + i));
+        coords.add(Coord.of(originX, originY + i));
       } else {
         // horizontal ship: add to x coordinate
-        coords.add(new Coord(originX + i, originY));
+        coords.add(Coord.of(originX + i, originY));
       }
     }
     
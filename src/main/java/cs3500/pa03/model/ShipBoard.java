@@ -2,13 +2,18 @@ package cs3500.pa03.model;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Objects;
 
 /**
  * Represents a Board with known ship information in a game of BattleSalvo
  */
 public class ShipBoard extends Board {
   List<Ship> ships;
+  // the ship occupying each cell index, or null if the cell has no ship
+  private final Ship[] shipIndex;
+  // kept up to date by sink events from each placed ship
+  private int unsunkTotal;
+  private final List<SinkListener> sinkListeners;
 
   /**
    * Constructs a new ShipBoard of the given height and width within the range [6, 15] inclusive
@@ -21,6 +26,9 @@ public class ShipBoard extends Board {
   public ShipBoard(int height, int width) {
     super(height, width);
     this.ships = new ArrayList<>();
+    this.shipIndex = new Ship[height * width];
+    this.unsunkTotal = 0;
+    this.sinkListeners = new ArrayList<>();
   }
 
   /**
@@ -29,8 +37,29 @@ public class ShipBoard extends Board {
    * @return the number of unsunk ships on this ShipBoard
    */
   public int getUnsunkShipTotal() {
-    // you could use .count(), which maps to long and sums, but then you would have to cast
-    return this.ships.stream().filter(Predicate.not(Ship::isSunk)).mapToInt(s -> 1).sum();
+    return this.unsunkTotal;
+  }
+
+  /**
+   * Adds a listener that is notified whenever a ship on this ShipBoard is sunk
+   *
+   * @param listener the listener to notify
+   */
+  public void addSinkListener(SinkListener listener) {
+    this.sinkListeners.add(Objects.requireNonNull(listener));
+  }
+
+  /**
+   * Handles a ship on this board being sunk, updating the unsunk total and
+   * forwarding the event to this board's listeners
+   *
+   * @param ship the ship that was sunk
+   */
+  private void handleSink(Ship ship) {
+    this.unsunkTotal--;
+    for (SinkListener listener : this.sinkListeners) {
+      listener.shipSunk(ship);
+    }
   }
 
   /**
@@ -43,20 +72,41 @@ public class ShipBoard extends Board {
    * @return whether a Ship could be placed
    */
   public boolean isValidPlacement(Coord coord, ShipOrientation orientation, ShipType type) {
-    Ship toPlace = new Ship(coord, orientation, type);
+    int x = coord.x();
+    int y = coord.y();
+    int size = type.getSize();
     
-    for (Coord c : toPlace.getOccupiedCoords()) {
-      // checks if the coordinate is already occupied on the board
-      if (this.isInvalidCoord(c) 
-          || this.getCellState(c) == CellState.SHIP 
-          || this.getCellState(c) == CellState.HIT) {
+    if (orientation == ShipOrientation.HORIZONTAL) {
+      if (y >= this.getHeight() || x + size > this.getWidth()) {
         return false;
       }
+      // the whole ship fits in one row, so it can be checked against the row at once
+      int shipMask = ((1 << size) - 1) << x;
+      return (this.getOccupiedRow(y) & shipMask) == 0;
     }
     
+    if (x >= this.getWidth() || y + size > this.getHeight()) {
+      return false;
+    }
+    int columnBit = 1 << x;
+    for (int row = y; row < y + size; row++) {
+      if ((this.getOccupiedRow(row) & columnBit) != 0) {
+        return false;
+      }
+    }
     return true;
   }
 
+  /**
+   * Returns the cells of the given row that are occupied by a ship, hit or not
+   *
+   * @param row the row (y coordinate) to get
+   * @return a mask where bit x is set if (x, row) is a SHIP or HIT cell
+   */
+  private int getOccupiedRow(int row) {
+    return this.shipCells.getRow(row) | this.hitCells.getRow(row);
+  }
+
   /**
    * Creates and returns a Ship of the given orientation and type placed
    * at the given Coord on this ShipBoard, if possible.
@@ -74,12 +124,19 @@ public class ShipBoard extends Board {
     
     Ship toPlace = new Ship(coord, orientation, type);
     
-    // update board to ensure that ships are always tracked correctly
-    for (Coord c : toPlace.getOccupiedCoords()) {
-      this.setCellState(c, CellState.SHIP);
+    // update board to ensure that ships are always tracked correctly,
+    // walking along the ship's cells by index
+    int index = this.shipCells.indexOf(coord);
+    int step = orientation == ShipOrientation.VERTICAL ? this.getWidth() : 1;
+    for (int i = 0; i < type.getSize(); i++) {
+      this.shipCells.set(index);
+      this.shipIndex[index] = toPlace;
+      index += step;
     }
     
     this.ships.add(toPlace);
+    this.unsunkTotal++;
+    toPlace.addSinkListener(this::handleSink);
     return toPlace;
   }
 
@@ -91,17 +148,17 @@ public class ShipBoard extends Board {
    * @return whether the shot made at the given coord was a hit
    */
   public boolean receiveShot(Coord coord) {
-    for (Ship s : this.ships) {
-      // receiveShot will return false if it does not hit and true if it does, mutating the Ship
-      if (s.receiveShot(coord)) {
-        this.setCellState(coord, CellState.HIT);
-        // we are safe to return now, since only one ship could be occupying
-        return true;
-      }
+    int index = this.shipCells.indexOf(coord);
+    Ship s = this.shipIndex[index];
+    
+    // receiveShot will return false if it does not hit and true if it does, mutating the Ship
+    if (s != null && s.receiveShot(coord)) {
+      this.setCellState(coord, CellState.HIT);
+      return true;
     }
     
     // it is possible to reach this point by firing a repeat shot, which we do not want to unmark
-    if (this.getCellState(coord) != CellState.HIT) {
+    if (this.getCellState(index) != CellState.HIT) {
       this.setCellState(coord, CellState.MISS);
     }
     return false;
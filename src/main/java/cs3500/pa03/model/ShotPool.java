@@ -0,0 +1,145 @@
+package cs3500.pa03.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents the pool of cells on the opponent's board that have not been fired at yet,
+ * split into parity classes by (x + y) % 3. Any cell can be removed in constant time, and
+ * random cells are drawn from the lowest non-empty parity class first, since shooting one
+ * class covers every ship of length 3 or more before the others have to be tried.
+ */
+class ShotPool {
+  private static final int PARITY_CLASSES = 3;
+
+  private final int width;
+  // the cell indices in each parity class, where only the first sizes[c] entries are in the pool
+  private final int[][] classes;
+  private final int[] sizes;
+  // the position of each cell index within its class array, or -1 if it has been removed
+  private final int[] positions;
+  private int total;
+  // every removal as (cell index, position it was removed from), so removals can be undone
+  private final int[] journal;
+  private int journalSize;
+
+  /**
+   * Constructs a new ShotPool containing every cell of a board of the given height and width
+   *
+   * @param height the height of the board
+   * @param width the width of the board
+   */
+  ShotPool(int height, int width) {
+    this.width = width;
+    this.classes = new int[PARITY_CLASSES][height * width];
+    this.sizes = new int[PARITY_CLASSES];
+    this.positions = new int[height * width];
+
+    // cells are added column by column, so seeded draws only depend on the board size
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
+        int index = y * width + x;
+        int parity = (x + y) % PARITY_CLASSES;
+        this.positions[index] = this.sizes[parity];
+        this.classes[parity][this.sizes[parity]++] = index;
+      }
+    }
+    this.total = height * width;
+    this.journal = new int[2 * height * width];
+    this.journalSize = 0;
+  }
+
+  /**
+   * Returns the number of cells left in this pool
+   *
+   * @return the number of unfired cells
+   */
+  int size() {
+    return this.total;
+  }
+
+  /**
+   * Returns whether the given cell is still in this pool
+   *
+   * @param coord the cell, which must be on the board
+   * @return whether the cell has not been removed
+   */
+  boolean contains(Coord coord) {
+    return this.positions[coord.y() * this.width + coord.x()] >= 0;
+  }
+
+  /**
+   * Removes the given cell from this pool, if it is still in it
+   *
+   * @param coord the cell, which must be on the board
+   * @return whether the cell was in the pool before being removed
+   */
+  boolean remove(Coord coord) {
+    int index = coord.y() * this.width + coord.x();
+    int position = this.positions[index];
+    if (position < 0) {
+      return false;
+    }
+
+    // move the last cell of the class into the removed cell's place
+    int parity = (coord.x() + coord.y()) % PARITY_CLASSES;
+    int last = this.classes[parity][--this.sizes[parity]];
+    this.classes[parity][position] = last;
+    this.positions[last] = position;
+    this.positions[index] = -1;
+    this.total--;
+    this.journal[this.journalSize++] = index;
+    this.journal[this.journalSize++] = position;
+    return true;
+  }
+
+  /**
+   * Removes and returns a random cell from the lowest parity class that still has cells
+   *
+   * @param rand the random generator to choose with
+   * @return the removed cell
+   * @throws IllegalStateException if the pool is empty
+   */
+  Coord removeRandom(RandomGenerator rand) {
+    for (int parity = 0; parity < PARITY_CLASSES; parity++) {
+      if (this.sizes[parity] > 0) {
+        int index = this.classes[parity][rand.nextInt(this.sizes[parity])];
+        Coord coord = Coord.of(index % this.width, index / this.width);
+        this.remove(coord);
+        return coord;
+      }
+    }
+    throw new IllegalStateException("every cell has been fired at");
+  }
+
+  /**
+   * Returns a checkpoint of the removals made so far, which can be rolled back to
+   *
+   * @return the current checkpoint
+   */
+  int checkpoint() {
+    return this.journalSize;
+  }
+
+  /**
+   * Undoes every removal made since the given checkpoint, most recent first, restoring this
+   * pool to exactly the state it was in, so that later random draws are unaffected
+   *
+   * @param checkpoint a checkpoint returned by checkpoint()
+   */
+  void rollback(int checkpoint) {
+    while (this.journalSize > checkpoint) {
+      int position = this.journal[--this.journalSize];
+      int index = this.journal[--this.journalSize];
+      int parity = (index % this.width + index / this.width) % PARITY_CLASSES;
+
+      // the cell that was moved into the removed cell's place goes back to the end
+      int moved = this.classes[parity][position];
+      this.classes[parity][this.sizes[parity]] = moved;
+      this.positions[moved] = this.sizes[parity];
+      this.classes[parity][position] = index;
+      this.positions[index] = position;
+      this.sizes[parity]++;
+      this.total++;
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package cs3500.pa03.model;
+
+/**
+ * Represents a listener that is notified when a Ship in a game of BattleSalvo is sunk
+ */
+@FunctionalInterface
+public interface SinkListener {
+
+  /**
+   * Called once, when the last undamaged segment of the given Ship is hit
+   *
+   * @param ship the Ship that was just sunk
+   */
+  void shipSunk(Ship ship);
+}
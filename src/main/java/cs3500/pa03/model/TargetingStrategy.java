@@ -0,0 +1,68 @@
+package cs3500.pa03.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a strategy an AiPlayer uses to choose where to fire on the opponent's board.
+ * Choosing a volley is split from firing it, so that a volley can be planned ahead of time
+ * and thrown away if it is no longer needed.
+ */
+public interface TargetingStrategy {
+
+  /**
+   * Prepares this strategy for a new game on a board of the given size,
+   * against a fleet of the given specifications
+   *
+   * @param height         the height of the board, range: [6, 15] inclusive
+   * @param width          the width of the board, range: [6, 15] inclusive
+   * @param specifications a map of ship type to the number of occurrences each ship
+   *                       appears on the opponent's board
+   */
+  void setup(int height, int width, Map<ShipType, Integer> specifications);
+
+  /**
+   * Chooses up to volleySize distinct cells that have not been fired at yet, without changing
+   * the state of this strategy (other than by drawing random numbers). Fewer cells are
+   * returned only if fewer are left to fire at.
+   *
+   * @param opponentBoard the opponent's board, with every resolved shot marked HIT or MISS
+   * @param volleySize the number of shots to choose
+   * @param rand the random generator to choose with
+   * @return the chosen cells
+   */
+  List<Coord> planShots(Board opponentBoard, int volleySize, RandomGenerator rand);
+
+  /**
+   * Chooses a volley like planShots, but returns the best volley found by the given deadline.
+   * Strategies that search for better volleys the longer they run should start with a cheap
+   * volley, and stop refining it when the deadline passes. By default, the deadline is
+   * ignored, since most strategies plan quickly.
+   *
+   * @param opponentBoard the opponent's board, with every resolved shot marked HIT or MISS
+   * @param volleySize the number of shots to choose
+   * @param rand the random generator to choose with
+   * @param deadline the System.nanoTime() by which the volley must be chosen
+   * @return the chosen cells
+   */
+  default List<Coord> planShots(Board opponentBoard, int volleySize, RandomGenerator rand,
+      long deadline) {
+    return this.planShots(opponentBoard, volleySize, rand);
+  }
+
+  /**
+   * Records that the given shots (as returned by planShots) were fired
+   *
+   * @param shots the shots that were fired
+   */
+  void shotsFired(List<Coord> shots);
+
+  /**
+   * Records the results of the previous volley, after they have been marked on the board
+   *
+   * @param opponentBoard the opponent's board, with the previous volley marked HIT or MISS
+   * @param hits the shots of the previous volley that hit a ship
+   */
+  void shotsResolved(Board opponentBoard, List<Coord> hits);
+}
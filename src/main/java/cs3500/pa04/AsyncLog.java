@@ -0,0 +1,323 @@
+package cs3500.pa04;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Represents a log that is written in the background. Logging threads check the level first,
+ * so a disabled event costs one comparison and builds no strings. Enabled events go into a
+ * bounded, lock-free ring buffer of preallocated slots, and a single writer thread formats and
+ * writes them, so logging threads never wait on the output's lock. If the buffer is full,
+ * events are dropped and counted rather than blocking the caller.
+ */
+public class AsyncLog implements AutoCloseable {
+  /**
+   * Represents the severity of a log event, where OFF disables every event
+   */
+  public enum Level {
+    DEBUG, INFO, WARN, ERROR, OFF
+  }
+
+  private static AsyncLog standard;
+
+  private final Appendable out;
+  private final Slot[] slots;
+  // the sequence of each slot: equal to a position when the slot is free for that position,
+  // and one past it once an event at that position has been published
+  private final AtomicLongArray sequences;
+  private final int mask;
+  // the next position to publish at, shared by every logging thread
+  private final AtomicLong tail;
+  // the next position to write, only ever changed by the writer
+  private volatile long head;
+  private final AtomicLong dropped;
+  private volatile Level level;
+  private volatile boolean running;
+  private volatile boolean writerParked;
+  private final Thread writer;
+
+  /**
+   * Constructs a new AsyncLog and starts its writer thread
+   *
+   * @param level the lowest level of events to log
+   * @param capacity the number of events the buffer holds, rounded up to a power of two
+   * @param out where events are written, one per line
+   */
+  public AsyncLog(Level level, int capacity, Appendable out) {
+    int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+    this.out = out;
+    this.slots = new Slot[size];
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      this.slots[i] = new Slot();
+      this.sequences.set(i, i);
+    }
+    this.mask = size - 1;
+    this.tail = new AtomicLong();
+    this.head = 0;
+    this.dropped = new AtomicLong();
+    this.level = level;
+    this.running = true;
+    this.writerParked = false;
+    this.writer = new Thread(this::writeLoop, "async-log");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /**
+   * Returns the log shared by every controller that is not given one, which writes to standard
+   * output at the level named by the battlesalvo.log.level system property (INFO by default,
+   * or if the property names no level, which is warned about)
+   *
+   * @return the standard log
+   */
+  public static synchronized AsyncLog standard() {
+    if (standard == null) {
+      String name = System.getProperty("battlesalvo.log.level", "INFO");
+      Level level = parseLevel(name);
+      standard = new AsyncLog(level == null ? Level.INFO : level, 4096, System.out);
+      // the writer is a daemon thread, so anything left is written before the program exits
+      Runtime.getRuntime().addShutdownHook(new Thread(standard::close));
+      if (level == null) {
+        standard.log(Level.WARN, "Unknown battlesalvo.log.level {}, logging at INFO", name);
+      }
+    }
+    return standard;
+  }
+
+  /**
+   * Returns the level with the given name, ignoring case and surrounding whitespace
+   *
+   * @param name the name of a level
+   * @return the level, or null if there is no level with the name
+   */
+  static Level parseLevel(String name) {
+    for (Level level : Level.values()) {
+      if (level.name().equalsIgnoreCase(name.strip())) {
+        return level;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns whether events of the given level are logged
+   *
+   * @param eventLevel the level of an event
+   * @return whether an event of the level would be logged
+   */
+  public boolean isEnabled(Level eventLevel) {
+    return eventLevel != Level.OFF && eventLevel.compareTo(this.level) >= 0;
+  }
+
+  /**
+   * Sets the lowest level of events to log, where OFF disables logging completely
+   *
+   * @param level the new level
+   */
+  public void setLevel(Level level) {
+    this.level = level;
+  }
+
+  /**
+   * Logs the given message at the given level
+   *
+   * @param eventLevel the level of the event
+   * @param message the message
+   */
+  public void log(Level eventLevel, String message) {
+    if (this.isEnabled(eventLevel)) {
+      this.publish(eventLevel, message, null, null);
+    }
+  }
+
+  /**
+   * Logs the given template at the given level, where the writer thread replaces the first {}
+   * with the argument. Since the argument is formatted later, it must not change afterwards.
+   *
+   * @param eventLevel the level of the event
+   * @param template the message, with a {} for the argument
+   * @param arg the argument
+   */
+  public void log(Level eventLevel, String template, Object arg) {
+    if (this.isEnabled(eventLevel)) {
+      this.publish(eventLevel, template, arg, null);
+    }
+  }
+
+  /**
+   * Logs the given template at the given level, where the writer thread replaces the two {}s
+   * with the arguments. Since the arguments are formatted later, they must not change afterwards.
+   *
+   * @param eventLevel the level of the event
+   * @param template the message, with a {} for each argument
+   * @param arg0 the first argument
+   * @param arg1 the second argument
+   */
+  public void log(Level eventLevel, String template, Object arg0, Object arg1) {
+    if (this.isEnabled(eventLevel)) {
+      this.publish(eventLevel, template, arg0, arg1);
+    }
+  }
+
+  /**
+   * Returns the number of events dropped because the buffer was full
+   *
+   * @return the number of dropped events
+   */
+  public long getDropped() {
+    return this.dropped.get();
+  }
+
+  /**
+   * Waits until every event logged before this call has been written
+   */
+  public void flush() {
+    long target = this.tail.get();
+    while (this.head < target && this.writer.isAlive()) {
+      LockSupport.unpark(this.writer);
+      Thread.yield();
+    }
+  }
+
+  /**
+   * Writes every event logged so far, then stops the writer thread
+   */
+  @Override
+  public void close() {
+    this.flush();
+    this.running = false;
+    LockSupport.unpark(this.writer);
+    try {
+      this.writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Claims the next free slot, fills it with the event, and publishes it to the writer,
+   * or drops the event if every slot is full
+   *
+   * @param eventLevel the level of the event
+   * @param template the message
+   * @param arg0 the first argument, if any
+   * @param arg1 the second argument, if any
+   */
+  private void publish(Level eventLevel, String template, Object arg0, Object arg1) {
+    long position = this.tail.get();
+    while (true) {
+      long sequence = this.sequences.get((int) position & this.mask);
+      if (sequence == position) {
+        if (this.tail.compareAndSet(position, position + 1)) {
+          break;
+        }
+        position = this.tail.get();
+      } else if (sequence < position) {
+        // the writer has not freed this slot since the last lap, so the buffer is full
+        this.dropped.incrementAndGet();
+        return;
+      } else {
+        // another thread claimed this position first
+        position = this.tail.get();
+      }
+    }
+
+    int index = (int) position & this.mask;
+    Slot slot = this.slots[index];
+    slot.level = eventLevel;
+    slot.template = template;
+    slot.arg0 = arg0;
+    slot.arg1 = arg1;
+    // the volatile write publishes the slot's fields to the writer
+    this.sequences.set(index, position + 1);
+    if (this.writerParked) {
+      LockSupport.unpark(this.writer);
+    }
+  }
+
+  /**
+   * Writes events in order as they are published, parking whenever there are none
+   */
+  private void writeLoop() {
+    StringBuilder line = new StringBuilder();
+    while (true) {
+      long position = this.head;
+      int index = (int) position & this.mask;
+      if (this.sequences.get(index) != position + 1) {
+        if (!this.running) {
+          return;
+        }
+        this.flushOutput();
+        this.writerParked = true;
+        // checks again after announcing, so that an event published in between is not missed
+        if (this.sequences.get(index) != position + 1 && this.running) {
+          LockSupport.park(this);
+        }
+        this.writerParked = false;
+        continue;
+      }
+
+      Slot slot = this.slots[index];
+      line.setLength(0);
+      this.format(line, slot);
+      slot.template = null;
+      slot.arg0 = null;
+      slot.arg1 = null;
+      // frees the slot for the next lap around the buffer
+      this.sequences.set(index, position + this.slots.length);
+      try {
+        this.out.append(line);
+      } catch (IOException e) {
+        // there is nowhere left to report a failure to write the log
+      }
+      this.head = position + 1;
+    }
+  }
+
+  /**
+   * Formats the event in the given slot as a line, replacing {}s with its arguments
+   *
+   * @param line the builder to format into
+   * @param slot the slot of the event
+   */
+  private void format(StringBuilder line, Slot slot) {
+    line.append(slot.level).append(' ');
+    Object[] args = {slot.arg0, slot.arg1};
+    int used = 0;
+    int from = 0;
+    int at = slot.template.indexOf("{}");
+    while (at >= 0 && used < args.length) {
+      line.append(slot.template, from, at).append(args[used++]);
+      from = at + 2;
+      at = slot.template.indexOf("{}", from);
+    }
+    line.append(slot.template, from, slot.template.length()).append(System.lineSeparator());
+  }
+
+  /**
+   * Flushes the output, if it can be flushed
+   */
+  private void flushOutput() {
+    if (this.out instanceof Flushable flushable) {
+      try {
+        flushable.flush();
+      } catch (IOException e) {
+        // there is nowhere left to report a failure to write the log
+      }
+    }
+  }
+
+  /**
+   * Represents a reusable slot of the ring buffer, holding one event
+   */
+  private static class Slot {
+    private Level level;
+    private String template;
+    private Object arg0;
+    private Object arg1;
+  }
+}
@@ -0,0 +1,286 @@
+package cs3500.pa04;
+
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Ship;
+import cs3500.pa03.model.ShipOrientation;
+import cs3500.pa03.model.ShipType;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a WireCodec of a compact binary format of the protocol. Each message is a byte
+ * for its method, a byte for the kind of its arguments, and then the arguments: a coordinate
+ * is a single byte (x in the high four bits, y in the low four), and a ship is two bytes (its
+ * origin, then its direction in the high bit and its length in the rest). Counts are single
+ * bytes, except for the number of coordinates, which is two.
+ */
+public class BinaryWireCodec implements WireCodec {
+  // the methods of the protocol, in the order of their ids
+  private static final List<String> METHODS = List.of("join", "setup", "take-shots",
+      "report-damage", "successful-hits", "end-game");
+  // the kinds of arguments that can follow the method
+  private static final int NO_ARGUMENTS = 0;
+  private static final int JOIN = 1;
+  private static final int SETUP = 2;
+  private static final int FLEET = 3;
+  private static final int COORDINATES = 4;
+  private static final int END = 5;
+  // the game type byte of a join without one
+  private static final int NO_GAME_TYPE = 0xFF;
+
+  private final DataInputStream in;
+  private final DataOutputStream out;
+  // the method id of the message whose first byte has been read, or -1 if there is none
+  private int pendingMethod;
+
+  /**
+   * Constructs a new BinaryWireCodec over the given streams, which it buffers
+   *
+   * @param in the stream that messages are read from
+   * @param out the stream that messages are written to
+   */
+  public BinaryWireCodec(InputStream in, OutputStream out) {
+    this.in = new DataInputStream(new BufferedInputStream(in));
+    this.out = new DataOutputStream(new BufferedOutputStream(out));
+    this.pendingMethod = -1;
+  }
+
+  /**
+   * Waits until the first byte of the next message has arrived
+   *
+   * @return whether there is another message, or false if the connection has ended
+   * @throws IOException if the input cannot be read
+   */
+  @Override
+  public boolean awaitMessage() throws IOException {
+    if (this.pendingMethod < 0) {
+      this.pendingMethod = this.in.read();
+    }
+    return this.pendingMethod >= 0;
+  }
+
+  /**
+   * Reads the next message
+   *
+   * @return the message, or null if the connection has ended
+   * @throws IOException if the input cannot be read or is not a well-formed message
+   */
+  @Override
+  public WireMessage read() throws IOException {
+    if (!this.awaitMessage()) {
+      return null;
+    }
+    int method = this.pendingMethod;
+    this.pendingMethod = -1;
+    if (method >= METHODS.size()) {
+      throw new StreamCorruptedException("unknown method id " + method);
+    }
+
+    try {
+      Record arguments = switch (this.in.readUnsignedByte()) {
+        case NO_ARGUMENTS -> null;
+        case JOIN -> this.readJoin();
+        case SETUP -> this.readSetup();
+        case FLEET -> this.readFleet();
+        case COORDINATES -> new CoordinatesJson(this.readCoords());
+        case END -> new EndJson(GameResult.values()[this.in.readUnsignedByte()],
+            this.in.readUTF());
+        default -> throw new StreamCorruptedException("unknown kind of arguments");
+      };
+      return new WireMessage(METHODS.get(method), arguments);
+    } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+      // an enum ordinal, ship length or coordinate that is out of range
+      throw new StreamCorruptedException("message is not well-formed");
+    }
+  }
+
+  /**
+   * Writes the given message, and flushes it to the connection
+   *
+   * @param message the message to write
+   * @throws IOException if the output cannot be written
+   * @throws IllegalArgumentException if the message has an unknown method name, arguments
+   *                                  that are not a protocol record, or values that do not
+   *                                  fit in the format
+   */
+  @Override
+  public void write(WireMessage message) throws IOException {
+    int method = METHODS.indexOf(message.methodName());
+    if (method < 0) {
+      throw new IllegalArgumentException("unknown method " + message.methodName());
+    }
+    this.out.writeByte(method);
+
+    Record arguments = message.arguments();
+    if (arguments == null) {
+      this.out.writeByte(NO_ARGUMENTS);
+    } else if (arguments instanceof JoinJson join) {
+      this.out.writeByte(JOIN);
+      this.out.writeUTF(join.name());
+      this.out.writeByte(join.gameType() == null ? NO_GAME_TYPE : join.gameType().ordinal());
+    } else if (arguments instanceof SetupJson setup) {
+      this.out.writeByte(SETUP);
+      this.out.writeByte(checkByte(setup.height()));
+      this.out.writeByte(checkByte(setup.width()));
+      this.out.writeByte(setup.fleetSpec().size());
+      for (Map.Entry<ShipType, Integer> entry : setup.fleetSpec().entrySet()) {
+        this.out.writeByte(entry.getKey().ordinal());
+        this.out.writeByte(checkByte(entry.getValue()));
+      }
+    } else if (arguments instanceof FleetJson fleetJson) {
+      this.out.writeByte(FLEET);
+      this.out.writeByte(checkByte(fleetJson.fleet().size()));
+      for (Ship ship : fleetJson.fleet()) {
+        this.out.writeByte(packCoord(ship.getOriginCoord()));
+        int direction = ship.getOrientation() == ShipOrientation.VERTICAL ? 0x80 : 0;
+        this.out.writeByte(direction | checkLength(ship.getLength()));
+      }
+    } else if (arguments instanceof CoordinatesJson coordinatesJson) {
+      this.out.writeByte(COORDINATES);
+      List<Coord> coords = coordinatesJson.coordinates();
+      if (coords.size() > 0xFFFF) {
+        throw new IllegalArgumentException("too many coordinates");
+      }
+      this.out.writeShort(coords.size());
+      for (Coord c : coords) {
+        this.out.writeByte(packCoord(c));
+      }
+    } else if (arguments instanceof EndJson end) {
+      this.out.writeByte(END);
+      this.out.writeByte(end.result().ordinal());
+      this.out.writeUTF(end.reason() == null ? "" : end.reason());
+    } else {
+      throw new IllegalArgumentException("arguments are not a protocol message");
+    }
+    this.out.flush();
+  }
+
+  /**
+   * Reads the arguments of a join message
+   *
+   * @return the arguments
+   * @throws IOException if the arguments cannot be read
+   */
+  private JoinJson readJoin() throws IOException {
+    String name = this.in.readUTF();
+    int gameType = this.in.readUnsignedByte();
+    return new JoinJson(name, gameType == NO_GAME_TYPE ? null : GameType.values()[gameType]);
+  }
+
+  /**
+   * Reads the arguments of a setup message
+   *
+   * @return the arguments
+   * @throws IOException if the arguments cannot be read
+   */
+  private SetupJson readSetup() throws IOException {
+    int height = this.in.readUnsignedByte();
+    int width = this.in.readUnsignedByte();
+    int types = this.in.readUnsignedByte();
+    Map<ShipType, Integer> fleetSpec = new EnumMap<>(ShipType.class);
+    for (int i = 0; i < types; i++) {
+      ShipType type = ShipType.values()[this.in.readUnsignedByte()];
+      fleetSpec.put(type, this.in.readUnsignedByte());
+    }
+    return new SetupJson(height, width, fleetSpec);
+  }
+
+  /**
+   * Reads the arguments of a fleet message
+   *
+   * @return the arguments
+   * @throws IOException if the arguments cannot be read
+   */
+  private FleetJson readFleet() throws IOException {
+    int count = this.in.readUnsignedByte();
+    List<Ship> fleet = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Coord origin = unpackCoord(this.in.readUnsignedByte());
+      int packed = this.in.readUnsignedByte();
+      ShipOrientation orientation =
+          (packed & 0x80) != 0 ? ShipOrientation.VERTICAL : ShipOrientation.HORIZONTAL;
+      fleet.add(new Ship(origin, orientation, packed & 0x7F));
+    }
+    return new FleetJson(fleet);
+  }
+
+  /**
+   * Reads a count of coordinates followed by the packed coordinates
+   *
+   * @return the coordinates
+   * @throws IOException if the coordinates cannot be read
+   */
+  private List<Coord> readCoords() throws IOException {
+    int count = this.in.readUnsignedShort();
+    byte[] packed = new byte[count];
+    this.in.readFully(packed);
+    List<Coord> coords = new ArrayList<>(count);
+    for (byte b : packed) {
+      coords.add(unpackCoord(b & 0xFF));
+    }
+    return coords;
+  }
+
+  /**
+   * Packs the given Coord into a single byte
+   *
+   * @param c the Coord to pack
+   * @return x in the high four bits and y in the low four bits
+   * @throws IllegalArgumentException if either coordinate does not fit in four bits
+   */
+  private static int packCoord(Coord c) {
+    if (c.x() > 0xF || c.y() > 0xF) {
+      throw new IllegalArgumentException("coordinates must be at most 15 to be packed");
+    }
+    return c.x() << 4 | c.y();
+  }
+
+  /**
+   * Unpacks a Coord packed by packCoord
+   *
+   * @param packed the packed byte, as an unsigned value
+   * @return the shared Coord
+   */
+  private static Coord unpackCoord(int packed) {
+    return Coord.of(packed >>> 4, packed & 0xF);
+  }
+
+  /**
+   * Ensures that the given value fits in an unsigned byte
+   *
+   * @param value the value to check
+   * @return the value
+   * @throws IllegalArgumentException if the value is negative or more than 255
+   */
+  private static int checkByte(int value) {
+    if (value < 0 || value > 0xFF) {
+      throw new IllegalArgumentException("value does not fit in a byte: " + value);
+    }
+    return value;
+  }
+
+  /**
+   * Ensures that the given ship length fits in the seven bits it is packed into
+   *
+   * @param length the length to check
+   * @return the length
+   * @throws IllegalArgumentException if the length is negative or more than 127
+   */
+  private static int checkLength(int length) {
+    if (length < 0 || length > 0x7F) {
+      throw new IllegalArgumentException("ship length does not fit in seven bits");
+    }
+    return length;
+  }
+}
@@ -2,32 +2,133 @@ package cs3500.pa04;
 
 import cs3500.pa03.controller.ManualController;
 import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.GameResult;
 import cs3500.pa03.model.HumanPlayer;
+import cs3500.pa03.model.HuntTargetStrategy;
+import cs3500.pa03.model.MonteCarloTargetStrategy;
 import cs3500.pa03.model.Player;
+import cs3500.pa03.model.RandomSource;
+import cs3500.pa03.model.ShipType;
+import cs3500.pa03.model.TargetingStrategy;
 import cs3500.pa03.view.GameView;
 import cs3500.pa03.view.SalvoView;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This is the main driver of this project.
  */
 public class Driver {
+  // the first command line argument that hosts local games, rather than playing one
+  private static final String REFEREE_FLAG = "--referee";
+  // the flag after a host and port that gives a time limit for each volley, in milliseconds
+  private static final String DEADLINE_FLAG = "--deadline";
+  // with a time limit, as many layouts are sampled for each volley as time allows
+  private static final int DEADLINE_SAMPLE_BUDGET = 1_000_000;
+
   /**
    * Project entry point
    *
-   * @param args - no command line args required
+   * @param args - no command line args for a manual game, host and port for a server game
+   *             (optionally followed by the deadline flag and a time limit for each volley in
+   *             milliseconds, to search for the best volley within that time),
+   *             host, port and a number of games for many server games at once
+   *             (followed by "nio" to multiplex them over a few threads, or by "binary"
+   *             for a server that speaks the binary format),
+   *             the simulate flag followed by its options for a headless simulation,
+   *             the tournament flag followed by its options for a round-robin tournament,
+   *             or the referee flag followed by a port to host games on that port
+   *             (and optionally by "binary" to speak the binary format)
    */
   public static void main(String[] args) {
     // as per Piazza @1119, Driver is not tested directly
     // all it does is initialize / call .run() and handle errors
     
+    // if the simulate flag is provided -> play many AI games with no view
+    if (args.length > 0 && args[0].equals(SimulationCommand.FLAG)) {
+      try {
+        SimulationCommand command = new SimulationCommand(args);
+        System.out.println("Simulating " + command);
+        System.out.print(command.run());
+        if (command.getStatistics() != null) {
+          System.out.print(command.getStatistics());
+        }
+      } catch (IllegalArgumentException e) {
+        System.err.println(e.getMessage());
+        System.err.println("Usage: " + SimulationCommand.USAGE);
+      } catch (Exception e) {
+        System.err.println("An error has occurred");
+      }
+
+    // if the tournament flag is provided -> play every pair of AIs against each other
+    } else if (args.length > 0 && args[0].equals(TournamentCommand.FLAG)) {
+      try {
+        TournamentCommand command = new TournamentCommand(args);
+        System.out.println("Tournament of " + command);
+        System.out.print(command.run());
+      } catch (IllegalArgumentException e) {
+        System.err.println(e.getMessage());
+        System.err.println("Usage: " + TournamentCommand.USAGE);
+      } catch (Exception e) {
+        System.err.println("An error has occurred");
+      }
+
+    // if the referee flag and a port are provided -> host games until the program is stopped
+    } else if ((args.length == 2 || args.length == 3) && args[0].equals(REFEREE_FLAG)) {
+      try {
+        hostGames(Integer.parseInt(args[1]), args.length == 3 ? parseFormat(args[2])
+            : WireFormat.JSON);
+      } catch (IOException e) {
+        System.err.println("Unable to open port");
+      } catch (Exception e) {
+        System.err.println("An error has occurred");
+      }
+
+    // if host, port and a deadline are provided -> start a server game with a time limit
+    } else if (args.length == 4 && args[2].equals(DEADLINE_FLAG)) {
+      try {
+        playServerGame(args[0], Integer.parseInt(args[1]),
+            Duration.ofMillis(Long.parseLong(args[3])));
+      } catch (IOException e) {
+        System.err.println("Unable to connect to server");
+      } catch (Exception e) {
+        System.err.println("An error has occurred");
+      }
+
+    // if host, port, a number of games and "nio" are provided -> multiplex that many games
+    } else if (args.length == 4 && args[3].equals("nio")) {
+      try {
+        System.out.print(playMultiplexedGames(args[0], Integer.parseInt(args[1]),
+            Integer.parseInt(args[2])));
+      } catch (IOException e) {
+        System.err.println("Unable to connect to server");
+      } catch (Exception e) {
+        System.err.println("An error has occurred");
+      }
+
+    // if host, port and a number of games are provided -> play each game on its own thread
+    } else if (args.length == 3 || args.length == 4) {
+      try {
+        SessionLauncher launcher = new SessionLauncher(args[0], Integer.parseInt(args[1]),
+            AiPlayer::new, args.length == 4 ? parseFormat(args[3]) : WireFormat.JSON);
+        System.out.print(launcher.launch(Integer.parseInt(args[2])));
+      } catch (Exception e) {
+        System.err.println("An error has occurred");
+      }
+
     // if host and port are provided -> start a server game
-    if (args.length == 2) {
-      try (Socket server = new Socket(args[0], Integer.parseInt(args[1]))) {
-        Player ai = new AiPlayer();
-        new ProxyController(server, ai).run();
+    } else if (args.length == 2) {
+      try {
+        playServerGame(args[0], Integer.parseInt(args[1]), null);
       } catch (IOException e) {
         System.err.println("Unable to connect to server");
       } catch (Exception e) {
@@ -49,4 +150,102 @@ public class Driver {
       System.err.println("Please enter a valid amount of command line arguments");
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Plays a single game on the server at the given host and port. With a time limit, each
+   * volley is the best found by sampling fleet layouts until the limit; without one, the
+   * player fires at the neighbors of its hits. Either way, each volley is planned while
+   * waiting for the server to ask for it.
+   *
+   * @param host the host of the server
+   * @param port the port of the server
+   * @param limit the time limit of each volley, or null for no limit
+   * @throws IOException if the server cannot be connected to
+   */
+  private static void playServerGame(String host, int port, Duration limit)
+      throws IOException {
+    TargetingStrategy strategy = limit == null ? new HuntTargetStrategy()
+        : new MonteCarloTargetStrategy(DEADLINE_SAMPLE_BUDGET, limit);
+    Player ai = new AiPlayer(RandomSource.global().next(), strategy,
+        ForkJoinPool.commonPool());
+    try (Socket server = new Socket(host, port)) {
+      ProxyController controller = new ProxyController(server, ai);
+      controller.setTimeLimit(limit);
+      controller.run();
+    }
+  }
+
+  /**
+   * Hosts games on a 10x10 board with one of each ship on the given port, against AI players,
+   * printing the results and round trip timings every so often until the program is stopped
+   *
+   * @param port the port to host games on
+   * @param format the format to speak
+   * @throws IOException if the port cannot be opened
+   * @throws InterruptedException if interrupted while hosting
+   */
+  private static void hostGames(int port, WireFormat format)
+      throws IOException, InterruptedException {
+    Map<ShipType, Integer> specifications = new EnumMap<>(ShipType.class);
+    for (ShipType type : ShipType.values()) {
+      specifications.put(type, 1);
+    }
+    try (LocalReferee referee = new LocalReferee(port, format, 10, 10, specifications,
+        AiPlayer::new)) {
+      System.out.println("Hosting games on port " + referee.getPort());
+      int reported = 0;
+      while (true) {
+        // reports after every finished game, but at most once every ten seconds
+        referee.awaitGames(reported + 1, Duration.ofDays(1));
+        Thread.sleep(10_000);
+        reported = referee.getGamesFinished();
+        System.out.printf("Games: %d won, %d lost, %d tied, %d failed by clients%n%s",
+            referee.count(GameResult.WIN), referee.count(GameResult.LOSE),
+            referee.count(GameResult.DRAW), referee.count(null), referee.getTimingSummary());
+      }
+    }
+  }
+
+  /**
+   * Returns the wire format with the given (case-insensitive) name
+   *
+   * @param name the name of the format, such as "binary"
+   * @return the format
+   * @throws IllegalArgumentException if there is no format with that name
+   */
+  private static WireFormat parseFormat(String name) {
+    return WireFormat.valueOf(name.toUpperCase());
+  }
+
+  /**
+   * Plays the given number of server games at once, multiplexed over one event loop per core
+   *
+   * @param host the host of the server
+   * @param port the port of the server
+   * @param games the number of games to play
+   * @return the result and time of every game
+   * @throws IOException if the connections cannot be started
+   */
+  private static SessionResults playMultiplexedGames(String host, int port, int games)
+      throws IOException {
+    InetSocketAddress address = new InetSocketAddress(host, port);
+    SessionResults results = new SessionResults(games);
+
+    try (MultiplexedProxyClient client =
+             new MultiplexedProxyClient(Runtime.getRuntime().availableProcessors())) {
+      List<ProxySession> sessions = new ArrayList<>();
+      for (int i = 0; i < games; i++) {
+        sessions.add(client.connect(address, new AiPlayer()));
+      }
+      for (int i = 0; i < games; i++) {
+        ProxySession session = sessions.get(i);
+        try {
+          results.record(i, session.getResult().join(), session.getElapsedNanos());
+        } catch (CompletionException e) {
+          results.record(i, null, session.getElapsedNanos());
+        }
+      }
+    }
+    return results;
+  }
+}
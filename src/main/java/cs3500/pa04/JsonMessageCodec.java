@@ -0,0 +1,337 @@
+package cs3500.pa04;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Ship;
+import cs3500.pa03.model.ShipOrientation;
+import cs3500.pa03.model.ShipType;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a streaming codec for the JSON messages of the BattleSalvo protocol, which reads
+ * and writes messages token by token, straight into and out of Coords and Ships, without
+ * building a tree. Arguments are recognized by their fields rather than by the method name, so
+ * both the server's requests and the player's responses can be read. A codec reuses its scratch
+ * space between messages, so each one must only be used by one thread at a time.
+ */
+public class JsonMessageCodec {
+  // the fields of the arguments being read, reset before each message
+  private final Map<ShipType, Integer> fleetSpec;
+  private final List<Ship> fleet;
+  private final List<Coord> coordinates;
+  private int height;
+  private int width;
+  private String name;
+  private GameType gameType;
+  private GameResult result;
+  private String reason;
+  private boolean hasFleetSpec;
+  private boolean hasFleet;
+  private boolean hasCoordinates;
+
+  /**
+   * Constructs a new JsonMessageCodec
+   */
+  public JsonMessageCodec() {
+    this.fleetSpec = new EnumMap<>(ShipType.class);
+    this.fleet = new ArrayList<>();
+    this.coordinates = new ArrayList<>();
+  }
+
+  /**
+   * Reads the next message from the given parser
+   *
+   * @param parser the parser to read from, positioned before the message
+   * @return the message, or null if there are no more messages
+   * @throws IOException if the input cannot be read or is not a well-formed message
+   */
+  public WireMessage read(JsonParser parser) throws IOException {
+    if (parser.nextToken() == null) {
+      return null;
+    }
+    return this.readCurrent(parser);
+  }
+
+  /**
+   * Reads the message that starts at the given parser's current token, which allows the caller
+   * to wait for the start of a message separately from reading the rest of it
+   *
+   * @param parser the parser to read from, whose current token is the start of the message
+   * @return the message
+   * @throws IOException if the input cannot be read or is not a well-formed message
+   */
+  public WireMessage readCurrent(JsonParser parser) throws IOException {
+    this.expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    this.reset();
+
+    String methodName = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken token = parser.nextToken();
+      switch (field) {
+        case "method-name" -> methodName = parser.getValueAsString();
+        case "arguments" -> this.readArguments(parser, token);
+        default -> parser.skipChildren();
+      }
+    }
+    if (methodName == null) {
+      throw new JsonParseException(parser, "message has no method-name");
+    }
+    return new WireMessage(methodName, this.decodedArguments());
+  }
+
+  /**
+   * Writes the given message to the given generator, in the same format as MessageJson
+   *
+   * @param generator the generator to write to
+   * @param message the message to write
+   * @throws IOException if the output cannot be written
+   * @throws IllegalArgumentException if the message's arguments are not a protocol record
+   */
+  public void write(JsonGenerator generator, WireMessage message) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("method-name", message.methodName());
+    generator.writeFieldName("arguments");
+    generator.writeStartObject();
+
+    Record arguments = message.arguments();
+    if (arguments instanceof JoinJson join) {
+      generator.writeStringField("name", join.name());
+      generator.writeStringField("game-type", join.gameType().name());
+    } else if (arguments instanceof SetupJson setup) {
+      generator.writeNumberField("height", setup.height());
+      generator.writeNumberField("width", setup.width());
+      generator.writeObjectFieldStart("fleet-spec");
+      for (Map.Entry<ShipType, Integer> entry : setup.fleetSpec().entrySet()) {
+        generator.writeNumberField(entry.getKey().name(), entry.getValue());
+      }
+      generator.writeEndObject();
+    } else if (arguments instanceof FleetJson fleetJson) {
+      generator.writeArrayFieldStart("fleet");
+      for (Ship ship : fleetJson.fleet()) {
+        generator.writeStartObject();
+        generator.writeFieldName("coord");
+        this.writeCoord(generator, ship.getOriginCoord());
+        generator.writeStringField("direction", ship.getOrientation().name());
+        generator.writeNumberField("length", ship.getLength());
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+    } else if (arguments instanceof CoordinatesJson coordinatesJson) {
+      generator.writeArrayFieldStart("coordinates");
+      for (Coord c : coordinatesJson.coordinates()) {
+        this.writeCoord(generator, c);
+      }
+      generator.writeEndArray();
+    } else if (arguments instanceof EndJson end) {
+      generator.writeStringField("result", end.result().name());
+      generator.writeStringField("reason", end.reason());
+    } else if (arguments != null) {
+      throw new IllegalArgumentException("arguments are not a protocol message");
+    }
+
+    generator.writeEndObject();
+    generator.writeEndObject();
+  }
+
+  /**
+   * Writes the given Coord as an object with x and y fields
+   *
+   * @param generator the generator to write to
+   * @param c the Coord to write
+   * @throws IOException if the output cannot be written
+   */
+  private void writeCoord(JsonGenerator generator, Coord c) throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("x", c.x());
+    generator.writeNumberField("y", c.y());
+    generator.writeEndObject();
+  }
+
+  /**
+   * Clears the fields read from the previous message
+   */
+  private void reset() {
+    this.fleetSpec.clear();
+    this.fleet.clear();
+    this.coordinates.clear();
+    this.name = null;
+    this.gameType = null;
+    this.result = null;
+    this.reason = null;
+    this.hasFleetSpec = false;
+    this.hasFleet = false;
+    this.hasCoordinates = false;
+  }
+
+  /**
+   * Reads the fields of the arguments object, keeping the ones of the protocol
+   *
+   * @param parser the parser, at the start of the arguments
+   * @param token the current token
+   * @throws IOException if the arguments cannot be read or are not well-formed
+   */
+  private void readArguments(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return;
+    }
+    this.expect(parser, token, JsonToken.START_OBJECT);
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      token = parser.nextToken();
+      switch (field) {
+        case "height" -> this.height = parser.getIntValue();
+        case "width" -> this.width = parser.getIntValue();
+        case "name" -> this.name = parser.getValueAsString();
+        case "game-type" -> this.gameType = this.readEnum(parser, GameType.class,
+            parser.getValueAsString());
+        case "result" -> this.result = this.readEnum(parser, GameResult.class,
+            parser.getValueAsString());
+        case "reason" -> this.reason = parser.getValueAsString();
+        case "fleet-spec" -> {
+          this.expect(parser, token, JsonToken.START_OBJECT);
+          this.hasFleetSpec = true;
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            ShipType type = this.readEnum(parser, ShipType.class, parser.currentName());
+            parser.nextToken();
+            this.fleetSpec.put(type, parser.getIntValue());
+          }
+        }
+        case "fleet" -> {
+          this.expect(parser, token, JsonToken.START_ARRAY);
+          this.hasFleet = true;
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            this.fleet.add(this.readShip(parser));
+          }
+        }
+        case "coordinates" -> {
+          this.expect(parser, token, JsonToken.START_ARRAY);
+          this.hasCoordinates = true;
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            this.coordinates.add(this.readCoord(parser));
+          }
+        }
+        default -> parser.skipChildren();
+      }
+    }
+  }
+
+  /**
+   * Reads a Ship object with coord, direction and length fields
+   *
+   * @param parser the parser, at the start of the Ship
+   * @return the Ship that was read
+   * @throws IOException if the Ship cannot be read or is not well-formed
+   */
+  private Ship readShip(JsonParser parser) throws IOException {
+    this.expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    Coord coord = null;
+    ShipOrientation direction = null;
+    int length = 0;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "coord" -> coord = this.readCoord(parser);
+        case "direction" -> direction = this.readEnum(parser, ShipOrientation.class,
+            parser.getValueAsString());
+        case "length" -> length = parser.getIntValue();
+        default -> parser.skipChildren();
+      }
+    }
+    if (coord == null || direction == null) {
+      throw new JsonParseException(parser, "ship must have a coord and direction");
+    }
+    return new Ship(coord, direction, length);
+  }
+
+  /**
+   * Reads a Coord object with x and y fields
+   *
+   * @param parser the parser, at the start of the Coord
+   * @return the shared Coord that was read
+   * @throws IOException if the Coord cannot be read or is not well-formed
+   */
+  private Coord readCoord(JsonParser parser) throws IOException {
+    this.expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    int x = -1;
+    int y = -1;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "x" -> x = parser.getIntValue();
+        case "y" -> y = parser.getIntValue();
+        default -> parser.skipChildren();
+      }
+    }
+    try {
+      return Coord.of(x, y);
+    } catch (IllegalArgumentException e) {
+      throw new JsonParseException(parser, "coordinates must be non-negative");
+    }
+  }
+
+  /**
+   * Converts the given name into the constant of the given enum with that name
+   *
+   * @param parser the parser, for the location of any error
+   * @param type the enum to convert into
+   * @param name the name of the constant, or null if the value was not a string
+   * @param <E> the type of the enum
+   * @return the constant with the given name
+   * @throws JsonParseException if the enum has no constant with the given name
+   */
+  private <E extends Enum<E>> E readEnum(JsonParser parser, Class<E> type, String name)
+      throws JsonParseException {
+    try {
+      return Enum.valueOf(type, name);
+    } catch (IllegalArgumentException | NullPointerException e) {
+      throw new JsonParseException(parser, "unknown " + type.getSimpleName() + ": " + name);
+    }
+  }
+
+  /**
+   * Returns the record matching the fields read from the last message's arguments
+   *
+   * @return the decoded arguments, or null if they had none of the protocol's fields
+   */
+  private Record decodedArguments() {
+    if (this.hasFleetSpec) {
+      return new SetupJson(this.height, this.width, new EnumMap<>(this.fleetSpec));
+    } else if (this.hasFleet) {
+      return new FleetJson(List.copyOf(this.fleet));
+    } else if (this.hasCoordinates) {
+      return new CoordinatesJson(new ArrayList<>(this.coordinates));
+    } else if (this.result != null) {
+      return new EndJson(this.result, this.reason);
+    } else if (this.name != null) {
+      return new JoinJson(this.name, this.gameType);
+    }
+    return null;
+  }
+
+  /**
+   * Ensures that the given token is the expected one
+   *
+   * @param parser the parser the token is from
+   * @param actual the token that was read
+   * @param expected the token that should have been read
+   * @throws JsonParseException if the tokens differ
+   */
+  private void expect(JsonParser parser, JsonToken actual, JsonToken expected)
+      throws JsonParseException {
+    if (actual != expected) {
+      throw new JsonParseException(parser, "expected " + expected + " but found " + actual);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package cs3500.pa04;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Represents a WireCodec of the protocol's JSON format, with each message on its own line,
+ * which streams each message through a JsonMessageCodec
+ */
+public class JsonWireCodec implements WireCodec {
+  // factories are thread-safe, and are expensive enough to be worth sharing between connections
+  private static final JsonFactory FACTORY = new JsonFactory();
+
+  private final InputStream in;
+  private final JsonGenerator generator;
+  private final JsonMessageCodec codec;
+  private JsonParser parser;
+  // whether the start of the next message has been read, but not the rest of it
+  private boolean pending;
+
+  /**
+   * Constructs a new JsonWireCodec over the given streams
+   *
+   * @param in the stream that messages are read from
+   * @param out the stream that messages are written to
+   * @throws IOException if the output stream cannot be used
+   */
+  public JsonWireCodec(InputStream in, OutputStream out) throws IOException {
+    this.in = in;
+    this.generator = FACTORY.createGenerator(out);
+    // each message is on its own line, rather than separated by the default space
+    this.generator.setRootValueSeparator(null);
+    this.codec = new JsonMessageCodec();
+    this.parser = null;
+    this.pending = false;
+  }
+
+  /**
+   * Waits until the first token of the next message has arrived
+   *
+   * @return whether there is another message, or false if the connection has ended
+   * @throws IOException if the input cannot be read
+   */
+  @Override
+  public boolean awaitMessage() throws IOException {
+    if (!this.pending) {
+      // a parser reads ahead to detect the encoding as soon as it is created, so it is only
+      // created once a message is expected, or the side that speaks first would never start
+      if (this.parser == null) {
+        this.parser = FACTORY.createParser(this.in);
+      }
+      this.pending = this.parser.nextToken() != null;
+    }
+    return this.pending;
+  }
+
+  /**
+   * Reads the next message
+   *
+   * @return the message, or null if the connection has ended
+   * @throws IOException if the input cannot be read or is not a well-formed message
+   */
+  @Override
+  public WireMessage read() throws IOException {
+    if (!this.awaitMessage()) {
+      return null;
+    }
+    this.pending = false;
+    return this.codec.readCurrent(this.parser);
+  }
+
+  /**
+   * Writes the given message on its own line, and flushes it to the connection
+   *
+   * @param message the message to write
+   * @throws IOException if the output cannot be written
+   * @throws IllegalArgumentException if the message's arguments are not a protocol record
+   */
+  @Override
+  public void write(WireMessage message) throws IOException {
+    this.codec.write(this.generator, message);
+    this.generator.writeRaw(System.lineSeparator());
+    this.generator.flush();
+  }
+}
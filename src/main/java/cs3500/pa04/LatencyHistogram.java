@@ -0,0 +1,100 @@
+package cs3500.pa04;
+
+import cs3500.pa03.controller.LogLinearBuckets;
+
+/**
+ * Represents a fixed-size histogram of latencies in nanoseconds. Latencies under 16ns are
+ * counted exactly; larger ones go into one of 8 buckets per power of two, so any recorded
+ * value is known to within 12.5%. Recording is a few arithmetic operations and never allocates.
+ * A histogram is not thread-safe, so each one must only be recorded into by one thread.
+ */
+public class LatencyHistogram {
+  // values below 16 are each their own bucket, and larger ones share 8 per power of two
+  static final LogLinearBuckets BUCKETS = new LogLinearBuckets(16, 3);
+
+  private final long[] counts;
+  private long count;
+  private long total;
+  private long min;
+  private long max;
+
+  /**
+   * Constructs a new, empty LatencyHistogram
+   */
+  public LatencyHistogram() {
+    this.counts = new long[BUCKETS.count()];
+    this.count = 0;
+    this.total = 0;
+    this.min = Long.MAX_VALUE;
+    this.max = 0;
+  }
+
+  /**
+   * Records the given latency, where negative latencies are recorded as 0
+   *
+   * @param nanos the latency in nanoseconds
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    this.counts[BUCKETS.bucketOf(value)]++;
+    this.count++;
+    this.total += value;
+    this.min = Math.min(this.min, value);
+    this.max = Math.max(this.max, value);
+  }
+
+  /**
+   * Returns the number of recorded latencies
+   *
+   * @return the number of recorded latencies
+   */
+  public long getCount() {
+    return this.count;
+  }
+
+  /**
+   * Returns the smallest recorded latency
+   *
+   * @return the smallest latency in nanoseconds, or 0 if none were recorded
+   */
+  public long getMin() {
+    return this.count == 0 ? 0 : this.min;
+  }
+
+  /**
+   * Returns the largest recorded latency
+   *
+   * @return the largest latency in nanoseconds, or 0 if none were recorded
+   */
+  public long getMax() {
+    return this.max;
+  }
+
+  /**
+   * Returns the mean of the recorded latencies, which is exact
+   *
+   * @return the mean latency in nanoseconds, or 0 if none were recorded
+   */
+  public double getMean() {
+    return this.count == 0 ? 0 : (double) this.total / this.count;
+  }
+
+  /**
+   * Returns an upper bound of the latency at the given percentile, which is within 12.5% of
+   * the true value and never more than the largest recorded latency
+   *
+   * @param percentile the percentile, in [0, 100]
+   * @return the latency at the percentile in nanoseconds, or 0 if none were recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    long target = Math.max(1, (long) Math.ceil(percentile / 100 * this.count));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS.count(); bucket++) {
+      seen += this.counts[bucket];
+      if (seen >= target) {
+        return Math.min(BUCKETS.upperBoundOf(bucket), this.max);
+      }
+    }
+    return this.max;
+  }
+}
@@ -0,0 +1,234 @@
+package cs3500.pa04;
+
+import cs3500.pa03.controller.HeadlessGame;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.ShipType;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Represents a local stand-in for the BattleSalvo server: it listens on a loopback port and
+ * plays a full game of the protocol, in either wire format, against every client that
+ * connects, each against its own Player and on its own thread, so many games are hosted at
+ * once. Results are counted from the clients' point of view, and the round trip of every
+ * message is timed, which allows ProxyController to be benchmarked end to end without the
+ * course server.
+ */
+public class LocalReferee implements AutoCloseable {
+  // a client that takes longer than this to respond is treated as disconnected
+  private static final int RESPONSE_TIMEOUT_MILLIS = 30_000;
+
+  private final int height;
+  private final int width;
+  private final Map<ShipType, Integer> specifications;
+  private final Supplier<Player> opponents;
+  private final ServerSocket server;
+  private final ExecutorService games;
+  private final WireFormat format;
+  private final MessageTimings timings;
+  // the number of finished games with each client result, and of games that failed
+  private final Map<GameResult, Integer> results;
+  private int failed;
+
+  /**
+   * Constructs a new LocalReferee that speaks JSON on a free loopback port, and starts
+   * accepting clients
+   *
+   * @param height the height of every game's board, range: [6, 15] inclusive
+   * @param width the width of every game's board, range: [6, 15] inclusive
+   * @param specifications a map of ship type to the number of occurrences each ship should
+   *                       appear on the board
+   * @param opponents creates the referee's player for each game
+   * @throws IOException if the port cannot be opened
+   */
+  public LocalReferee(int height, int width, Map<ShipType, Integer> specifications,
+      Supplier<Player> opponents) throws IOException {
+    this(0, WireFormat.JSON, height, width, specifications, opponents);
+  }
+
+  /**
+   * Constructs a new LocalReferee that speaks the given format on the given loopback port,
+   * and starts accepting clients
+   *
+   * @param port the port to listen on, or 0 for any free port
+   * @param format the format every client speaks
+   * @param height the height of every game's board, range: [6, 15] inclusive
+   * @param width the width of every game's board, range: [6, 15] inclusive
+   * @param specifications a map of ship type to the number of occurrences each ship should
+   *                       appear on the board
+   * @param opponents creates the referee's player for each game
+   * @throws IOException if the port cannot be opened
+   */
+  public LocalReferee(int port, WireFormat format, int height, int width,
+      Map<ShipType, Integer> specifications, Supplier<Player> opponents) throws IOException {
+    this.height = height;
+    this.width = width;
+    this.specifications = new EnumMap<>(specifications);
+    this.opponents = opponents;
+    this.server = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    this.games = SessionLauncher.newSessionExecutor();
+    this.format = format;
+    this.timings = new MessageTimings();
+    this.results = new EnumMap<>(GameResult.class);
+    this.failed = 0;
+
+    Thread acceptor = new Thread(this::acceptClients, "referee-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  /**
+   * Returns the port this referee is listening on
+   *
+   * @return the local port
+   */
+  public int getPort() {
+    return this.server.getLocalPort();
+  }
+
+  /**
+   * Returns the number of finished games with the given result for the client
+   *
+   * @param result the result to count, or null to count games that failed
+   * @return the number of games with the result
+   */
+  public synchronized int count(GameResult result) {
+    return result == null ? this.failed : this.results.getOrDefault(result, 0);
+  }
+
+  /**
+   * Returns the number of games that have finished, including those that failed
+   *
+   * @return the number of finished games
+   */
+  public synchronized int getGamesFinished() {
+    int finished = this.failed;
+    for (int count : this.results.values()) {
+      finished += count;
+    }
+    return finished;
+  }
+
+  /**
+   * Waits until at least the given number of games have finished
+   *
+   * @param games the number of games to wait for
+   * @param timeout the longest time to wait
+   * @return whether that many games finished in time
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public synchronized boolean awaitGames(int games, Duration timeout)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    while (this.getGamesFinished() < games) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return false;
+      }
+      this.wait(Math.max(1, remaining / 1_000_000));
+    }
+    return true;
+  }
+
+  /**
+   * Returns a summary of the round trip of each message sent so far, by method name
+   *
+   * @return a multi-line table of the round trip latencies
+   */
+  public String getTimingSummary() {
+    synchronized (this.timings) {
+      return this.timings.toString();
+    }
+  }
+
+  /**
+   * Returns the histogram of the round trips of messages with the given method name, which
+   * should only be read once the games it covers have finished
+   *
+   * @param methodName the method name of the messages
+   * @return the histogram of the round trips
+   */
+  public LatencyHistogram getHistogram(String methodName) {
+    synchronized (this.timings) {
+      return this.timings.getHistogram(methodName, MessageTimings.Phase.REPLY);
+    }
+  }
+
+  /**
+   * Stops accepting clients and ends the games in progress
+   *
+   * @throws IOException if the port cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    this.server.close();
+    this.games.shutdownNow();
+  }
+
+  /**
+   * Accepts clients until this referee is closed, hosting a game for each one
+   */
+  private void acceptClients() {
+    while (!this.server.isClosed()) {
+      try {
+        Socket client = this.server.accept();
+        this.games.execute(() -> this.host(client));
+      } catch (IOException e) {
+        // the referee was closed
+      } catch (RuntimeException e) {
+        // the games were shut down while a client was connecting
+      }
+    }
+  }
+
+  /**
+   * Hosts a single game against the given client, counting its result
+   *
+   * @param client the connection to the client
+   */
+  private void host(Socket client) {
+    GameResult result = null;
+    try (client) {
+      client.setSoTimeout(RESPONSE_TIMEOUT_MILLIS);
+      client.setTcpNoDelay(true);
+      WireCodec codec = this.format.open(client.getInputStream(), client.getOutputStream());
+      Player remote = new RemotePlayer(codec, this.timings);
+      remote.name();
+      // the referee's player goes first, so that the client is told of the damage it took
+      // before its hits, in the same order as the course server
+      HeadlessGame game = new HeadlessGame(this.opponents.get(), remote, this.height,
+          this.width, this.specifications);
+      game.run();
+      result = switch (game.getResult()) {
+        case WIN -> GameResult.LOSE;
+        case LOSE -> GameResult.WIN;
+        case DRAW -> GameResult.DRAW;
+      };
+    } catch (IOException | RuntimeException e) {
+      // the client disconnected or broke the protocol, so the game is counted as failed
+    }
+    this.finish(result);
+  }
+
+  /**
+   * Counts a finished game, waking any thread waiting for games
+   *
+   * @param result the client's result, or null if the game failed
+   */
+  private synchronized void finish(GameResult result) {
+    if (result == null) {
+      this.failed++;
+    } else {
+      this.results.merge(result, 1, Integer::sum);
+    }
+    this.notifyAll();
+  }
+}
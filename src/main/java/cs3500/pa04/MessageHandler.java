@@ -0,0 +1,173 @@
+package cs3500.pa04;
+
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.Ship;
+import java.util.List;
+
+/**
+ * Represents the handling of the messages of one server game for a Player, independent of how
+ * the messages are sent and received: each decoded message from the server is turned into a
+ * response, which is encoded by the caller.
+ */
+public class MessageHandler {
+  private final Player player;
+  private final AsyncLog log;
+  private GameResult result;
+
+  /**
+   * Constructs a new MessageHandler for the given player, which logs to the given log
+   *
+   * @param player the player that is playing on the server
+   * @param log the log of the messages and the result of the game
+   */
+  public MessageHandler(Player player, AsyncLog log) {
+    this.player = player;
+    this.log = log;
+    this.result = null;
+  }
+
+  /**
+   * Constructs a new MessageHandler for the given player, which logs to the standard log
+   *
+   * @param player the player that is playing on the server
+   */
+  public MessageHandler(Player player) {
+    this(player, AsyncLog.standard());
+  }
+
+  /**
+   * Determines the type of request the server has sent and delegates
+   * to the corresponding helper method with the message arguments
+   *
+   * @param message the message sent by the server
+   * @return the response to send to the server
+   * @throws IllegalArgumentException if the message has an unknown method name,
+   *                                  or does not have the arguments of its method
+   */
+  public WireMessage handle(WireMessage message) {
+    String name = message.methodName();
+    this.log.log(AsyncLog.Level.DEBUG, "Received message named {}", name);
+    Record arguments = message.arguments();
+
+    return switch (name) {
+      case "join" -> this.handleJoin();
+      case "setup" -> this.handleSetup(this.argumentsAs(arguments, SetupJson.class));
+      case "take-shots" -> this.handleTakeShots();
+      case "report-damage" ->
+          this.handleReportDamage(this.argumentsAs(arguments, CoordinatesJson.class));
+      case "successful-hits" ->
+          this.handleSuccessfulHits(this.argumentsAs(arguments, CoordinatesJson.class));
+      case "end-game" -> this.handleEndGame(this.argumentsAs(arguments, EndJson.class));
+      default -> throw new IllegalArgumentException("JSON is not well-formed");
+    };
+  }
+
+  /**
+   * Returns whether the server has ended the game
+   *
+   * @return whether an end-game message has been handled
+   */
+  public boolean isGameOver() {
+    return this.result != null;
+  }
+
+  /**
+   * Returns the result of the game that the server sent
+   *
+   * @return the player's result, or null if the game has not ended
+   */
+  public GameResult getResult() {
+    return this.result;
+  }
+
+  /**
+   * Handles a response to join a game
+   *
+   * @return the join response
+   */
+  private WireMessage handleJoin() {
+    // as per Piazza, hard-coded to be a single player game for the time being
+    JoinJson response = new JoinJson(this.player.name(), GameType.MULTI);
+    return new WireMessage("join", response);
+  }
+
+  /**
+   * Handles a response to set up a game with the given arguments
+   *
+   * @param parsed the setup arguments
+   * @return the setup response
+   */
+  private WireMessage handleSetup(SetupJson parsed) {
+    List<Ship> setupShips = this.player.setup(parsed.height(), parsed.width(), parsed.fleetSpec());
+
+    FleetJson response = new FleetJson(setupShips);
+    return new WireMessage("setup", response);
+  }
+
+  /**
+   * Handles a response to take shots
+   *
+   * @return the take-shots response
+   */
+  private WireMessage handleTakeShots() {
+    CoordinatesJson response = new CoordinatesJson(this.player.takeShots());
+    return new WireMessage("take-shots", response);
+  }
+
+  /**
+   * Handles a response to report damage
+   *
+   * @param parsed the coordinates the opponent fired at
+   * @return the report-damage response
+   */
+  private WireMessage handleReportDamage(CoordinatesJson parsed) {
+    List<Coord> coords = this.player.reportDamage(parsed.coordinates());
+
+    CoordinatesJson response = new CoordinatesJson(coords);
+    return new WireMessage("report-damage", response);
+  }
+
+  /**
+   * Handles a response to report successful hits
+   *
+   * @param parsed the coordinates of this player's shots that hit
+   * @return the successful-hits response
+   */
+  private WireMessage handleSuccessfulHits(CoordinatesJson parsed) {
+    this.player.successfulHits(parsed.coordinates());
+
+    return new WireMessage("successful-hits", null);
+  }
+
+  /**
+   * Handles a response to end a game with the given arguments
+   *
+   * @param parsed the result of the game
+   * @return the end-game response
+   */
+  private WireMessage handleEndGame(EndJson parsed) {
+    this.player.endGame(parsed.result(), parsed.reason());
+    this.result = parsed.result();
+
+    this.log.log(AsyncLog.Level.INFO, "{}: {}", parsed.result(), parsed.reason());
+    return new WireMessage("end-game", null);
+  }
+
+  /**
+   * Returns the given arguments as the given type of record
+   *
+   * @param arguments the decoded arguments of a message
+   * @param type the type of arguments the message's method takes
+   * @param <T> the type of arguments
+   * @return the arguments as the given type
+   * @throws IllegalArgumentException if the arguments are not of the given type
+   */
+  private <T extends Record> T argumentsAs(Record arguments, Class<T> type) {
+    if (!type.isInstance(arguments)) {
+      throw new IllegalArgumentException("JSON is not well-formed");
+    }
+    return type.cast(arguments);
+  }
+}
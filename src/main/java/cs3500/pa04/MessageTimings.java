@@ -0,0 +1,111 @@
+package cs3500.pa04;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the latencies of the messages of a server game, kept in a LatencyHistogram for
+ * each method name and each phase of handling a message. Like its histograms, it must only be
+ * recorded into by one thread.
+ */
+public class MessageTimings {
+  /**
+   * Represents the phases of handling a single message
+   */
+  public enum Phase {
+    /**
+     * Reading and decoding the message, once its first byte has arrived
+     */
+    PARSE,
+    /**
+     * The player choosing its response
+     */
+    COMPUTE,
+    /**
+     * Encoding the response and writing it to the server
+     */
+    WRITE,
+    /**
+     * As seen by a server, sending the message until the player's response has been read
+     */
+    REPLY
+  }
+
+  // the methods of the protocol, in the order they are summarized
+  private static final List<String> METHODS = List.of("join", "setup", "take-shots",
+      "report-damage", "successful-hits", "end-game");
+
+  private final Map<String, LatencyHistogram[]> histograms;
+
+  /**
+   * Constructs a new, empty MessageTimings
+   */
+  public MessageTimings() {
+    this.histograms = new LinkedHashMap<>();
+    for (String method : METHODS) {
+      this.histograms.put(method, this.newHistograms());
+    }
+  }
+
+  /**
+   * Records a latency of the given phase of a message with the given method name
+   *
+   * @param methodName the method name of the message
+   * @param phase the phase that was timed
+   * @param nanos the latency in nanoseconds
+   */
+  public void record(String methodName, Phase phase, long nanos) {
+    this.histograms.computeIfAbsent(methodName, m -> this.newHistograms())[phase.ordinal()]
+        .record(nanos);
+  }
+
+  /**
+   * Returns the histogram of the given phase of messages with the given method name
+   *
+   * @param methodName the method name of the messages
+   * @param phase the phase of the messages
+   * @return the histogram of the phase, which is empty if no such messages were handled
+   */
+  public LatencyHistogram getHistogram(String methodName, Phase phase) {
+    LatencyHistogram[] phases = this.histograms.get(methodName);
+    return phases == null ? new LatencyHistogram() : phases[phase.ordinal()];
+  }
+
+  /**
+   * Returns a table of the count, mean, median, 99th percentile and maximum latency of each
+   * phase of each method that has been handled, in microseconds
+   *
+   * @return a multi-line summary of these timings
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(String.format("%-16s %-8s %6s %9s %9s %9s %9s%n",
+        "method", "phase", "count", "mean(us)", "p50(us)", "p99(us)", "max(us)"));
+    for (Map.Entry<String, LatencyHistogram[]> entry : this.histograms.entrySet()) {
+      for (Phase phase : Phase.values()) {
+        LatencyHistogram h = entry.getValue()[phase.ordinal()];
+        if (h.getCount() > 0) {
+          sb.append(String.format("%-16s %-8s %6d %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(),
+              phase.name().toLowerCase(), h.getCount(), h.getMean() / 1e3,
+              h.getValueAtPercentile(50) / 1e3, h.getValueAtPercentile(99) / 1e3,
+              h.getMax() / 1e3));
+        }
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns a new, empty histogram for each phase
+   *
+   * @return the histograms, indexed by phase ordinal
+   */
+  private LatencyHistogram[] newHistograms() {
+    LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+    for (int i = 0; i < phases.length; i++) {
+      phases[i] = new LatencyHistogram();
+    }
+    return phases;
+  }
+}
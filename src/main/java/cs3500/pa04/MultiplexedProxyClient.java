@@ -0,0 +1,182 @@
+package cs3500.pa04;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import cs3500.pa03.model.Player;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents a client that plays many server games at once over non-blocking sockets, using a
+ * small, fixed number of event loop threads instead of one thread per game. Each game is a
+ * ProxySession, and sessions are spread evenly over the event loops.
+ */
+public class MultiplexedProxyClient implements AutoCloseable {
+  private final EventLoop[] loops;
+  private final AtomicInteger nextLoop;
+  // factories are thread-safe once configured, so every session shares one
+  private final JsonFactory factory;
+  private volatile boolean closed;
+
+  /**
+   * Constructs a new MultiplexedProxyClient and starts its event loop threads
+   *
+   * @param eventLoops the number of event loop threads
+   * @throws IOException if a selector cannot be opened
+   * @throws IllegalArgumentException if eventLoops is not positive
+   */
+  public MultiplexedProxyClient(int eventLoops) throws IOException {
+    if (eventLoops <= 0) {
+      throw new IllegalArgumentException("there must be at least one event loop");
+    }
+    this.loops = new EventLoop[eventLoops];
+    this.nextLoop = new AtomicInteger();
+    this.factory = new JsonFactory();
+    this.closed = false;
+    for (int i = 0; i < eventLoops; i++) {
+      this.loops[i] = new EventLoop(Selector.open(), "proxy-loop-" + i);
+    }
+  }
+
+  /**
+   * Connects to the server at the given address and plays a game on it with the given player
+   *
+   * @param address the address of the server
+   * @param player the player that is playing on the server
+   * @return the session of the game
+   * @throws IOException if the connection cannot be started
+   * @throws IllegalStateException if this client has been closed
+   */
+  public ProxySession connect(SocketAddress address, Player player) throws IOException {
+    if (this.closed) {
+      throw new IllegalStateException("client is closed");
+    }
+    SocketChannel channel = SocketChannel.open();
+    channel.configureBlocking(false);
+    // responses are single small messages, which should not wait to be combined
+    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    ProxySession session = new ProxySession(channel, new MessageHandler(player), this.factory);
+    channel.connect(address);
+
+    int loop = Math.floorMod(this.nextLoop.getAndIncrement(), this.loops.length);
+    try {
+      this.loops[loop].add(session);
+    } catch (IllegalStateException e) {
+      // the client was closed while connecting, so no loop will ever handle the channel
+      channel.close();
+      throw e;
+    }
+    return session;
+  }
+
+  /**
+   * Stops every event loop, failing any session that has not finished. No more sessions can
+   * be connected afterward.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    for (EventLoop loop : this.loops) {
+      loop.shutdown();
+    }
+  }
+
+  /**
+   * Represents a single thread that selects over the channels of its sessions and handles
+   * every one that is ready
+   */
+  private static class EventLoop implements Runnable {
+    private final Selector selector;
+    private final Thread thread;
+    // sessions are registered on the loop's own thread, since registering blocks while selecting
+    private final Queue<ProxySession> pending;
+    private volatile boolean running;
+
+    /**
+     * Constructs and starts a new EventLoop
+     *
+     * @param selector the selector of the loop
+     * @param name the name of the loop's thread
+     */
+    EventLoop(Selector selector, String name) {
+      this.selector = selector;
+      this.pending = new ConcurrentLinkedQueue<>();
+      this.running = true;
+      this.thread = new Thread(this, name);
+      this.thread.setDaemon(true);
+      this.thread.start();
+    }
+
+    /**
+     * Hands the given session to this loop
+     *
+     * @param session the session to add
+     * @throws IllegalStateException if this loop has stopped and did not take the session
+     */
+    void add(ProxySession session) {
+      this.pending.add(session);
+      this.selector.wakeup();
+      // a stopping loop fails what it finds pending, so only a session it missed is taken back
+      if (!this.running && this.pending.remove(session)) {
+        throw new IllegalStateException("client is closed");
+      }
+    }
+
+    /**
+     * Stops this loop and waits for its thread to finish
+     */
+    void shutdown() {
+      this.running = false;
+      this.selector.wakeup();
+      try {
+        this.thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (this.running) {
+          this.selector.select();
+          ProxySession added = this.pending.poll();
+          while (added != null) {
+            added.register(this.selector);
+            added = this.pending.poll();
+          }
+
+          Iterator<SelectionKey> selected = this.selector.selectedKeys().iterator();
+          while (selected.hasNext()) {
+            SelectionKey key = selected.next();
+            selected.remove();
+            ((ProxySession) key.attachment()).handle(key);
+          }
+        }
+      } catch (IOException | ClosedSelectorException e) {
+        // falls through to fail every session that is left
+      }
+
+      IOException closed = new IOException("client was closed before the game ended");
+      for (SelectionKey key : this.selector.keys()) {
+        ((ProxySession) key.attachment()).fail(closed);
+      }
+      for (ProxySession session : this.pending) {
+        session.fail(closed);
+      }
+      try {
+        this.selector.close();
+      } catch (IOException e) {
+        // nothing is left to clean up
+      }
+    }
+  }
+}
@@ -1,17 +1,11 @@
 package cs3500.pa04;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import cs3500.pa03.controller.GameController;
-import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
 import cs3500.pa03.model.Player;
-import cs3500.pa03.model.Ship;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintStream;
 import java.net.Socket;
-import java.util.List;
+import java.time.Duration;
 
 /**
  * Represents a ProxyController in a game of BattleSalvo, allowing
@@ -19,43 +13,93 @@ import java.util.List;
  */
 public class ProxyController implements GameController {
   private final Socket server;
-  private final InputStream in;
-  private final PrintStream out;
+  private final WireCodec codec;
   private final Player player;
-  private final ObjectMapper mapper;
+  private final MessageHandler handler;
+  private final MessageTimings timings;
+  private final AsyncLog log;
 
   /**
-   * Constructs a new ProxyController using the given socket, player, and GameType
+   * Constructs a new ProxyController using the given socket, player, log, and wire format
    *
    * @param server the server to connect to
    * @param player the player that is playing on the server
+   * @param log the log of the messages, result, and timings of the game
+   * @param format the format the server speaks
    * @throws IOException if there is an error with the Socket
    */
-  public ProxyController(Socket server, Player player) throws IOException {
+  public ProxyController(Socket server, Player player, AsyncLog log, WireFormat format)
+      throws IOException {
     this.server = server;
-    this.in = server.getInputStream();
-    this.out = new PrintStream(server.getOutputStream());
+    this.codec = format.open(server.getInputStream(), server.getOutputStream());
     this.player = player;
-    this.mapper = new ObjectMapper();
+    this.handler = new MessageHandler(player, log);
+    this.timings = new MessageTimings();
+    this.log = log;
+  }
+
+  /**
+   * Constructs a new ProxyController using the given socket, player, and log, for a server
+   * that speaks JSON
+   *
+   * @param server the server to connect to
+   * @param player the player that is playing on the server
+   * @param log the log of the messages, result, and timings of the game
+   * @throws IOException if there is an error with the Socket
+   */
+  public ProxyController(Socket server, Player player, AsyncLog log) throws IOException {
+    this(server, player, log, WireFormat.JSON);
+  }
+
+  /**
+   * Constructs a new ProxyController using the given socket and player, for a server that
+   * speaks JSON, which logs to the standard log
+   *
+   * @param server the server to connect to
+   * @param player the player that is playing on the server
+   * @throws IOException if there is an error with the Socket
+   */
+  public ProxyController(Socket server, Player player) throws IOException {
+    this(server, player, AsyncLog.standard());
   }
 
   /**
    * Begins and runs game of BattleSalvo, starting the gameplay loop. Listens to the
    * server to receive JSON messages, then parses, processes, and sends responses
-   * using the behavior of the Player.
+   * using the behavior of the Player. Each message is timed, and the timings are
+   * logged once the game ends.
    *
    * @throws RuntimeException if the server's input cannot be received and parsed
    */
   @Override
   public void run() {
     try {
-      JsonParser parser = this.mapper.getFactory().createParser(this.in);
-      
       while (!this.server.isClosed()) {
+        // waiting for the server to send the next message does not count against any phase
+        if (!this.codec.awaitMessage()) {
+          throw new IOException("server closed the connection before the game ended");
+        }
+        long parseStart = System.nanoTime();
         // note that we do not have to check if it is well-formed,
-        // since we can assume that the server always sends appropriate MessageJson
-        MessageJson message = parser.readValueAs(MessageJson.class);
-        this.delegateMessage(message);
+        // since we can assume that the server always sends appropriate messages
+        WireMessage message = this.codec.read();
+        long computeStart = System.nanoTime();
+        WireMessage response = this.handler.handle(message);
+        long writeStart = System.nanoTime();
+        this.codec.write(response);
+        long end = System.nanoTime();
+
+        String name = message.methodName();
+        this.timings.record(name, MessageTimings.Phase.PARSE, computeStart - parseStart);
+        this.timings.record(name, MessageTimings.Phase.COMPUTE, writeStart - computeStart);
+        this.timings.record(name, MessageTimings.Phase.WRITE, end - writeStart);
+        
+        if (this.handler.isGameOver()) {
+          // the timings are not recorded into after the game ends, so they can be logged as is
+          this.log.log(AsyncLog.Level.INFO, "Message timings:{}{}", System.lineSeparator(),
+              this.timings);
+          this.server.close();
+        }
       }
     } catch (IOException e) {
       throw new RuntimeException(e.getMessage());
@@ -63,122 +107,30 @@ public class ProxyController implements GameController {
   }
 
   /**
-   * Determines the type of request the server has sent and delegates
-   * to the corresponding helper method with the message arguments
-   *
-   * @param message the MessageJson sent by the server
-   */
-  private void delegateMessage(MessageJson message) throws IOException {
-    String name = message.methodName();
-    System.out.println("Received message named " + name);
-    JsonNode arguments = message.arguments();
-
-    switch (name) {
-      case "join" -> this.handleJoin();
-      case "setup" -> this.handleSetup(arguments);
-      case "take-shots" -> this.handleTakeShots();
-      case "report-damage" -> this.handleReportDamage(arguments);
-      case "successful-hits" -> this.handleSuccessfulHits(arguments);
-      case "end-game" -> this.handleEndGame(arguments);
-      default -> throw new IllegalArgumentException("JSON is not well-formed");
-    }
-  }
-  
-  /**
-   * Handles a response to join a game
-   */
-  private void handleJoin() {
-    // as per Piazza, hard-coded to be a single player game for the time being
-    JoinJson response = new JoinJson(this.player.name(), GameType.MULTI);
-    this.outputMessage("join", response);
-  }
-
-  /**
-   * Handles a response to set up a game with the given arguments
+   * Sets the longest time the player should take to choose each volley in this game, which
+   * should leave room for the server's time limit to also cover the network and the messages
    *
-   * @param arguments the arguments to be parsed into SetupJson
-   */
-  private void handleSetup(JsonNode arguments) {
-    SetupJson parsed = this.mapper.convertValue(arguments, SetupJson.class);
-    List<Ship> setupShips = this.player.setup(parsed.height(), parsed.width(), parsed.fleetSpec());
-    
-    FleetJson response = new FleetJson(setupShips);
-    this.outputMessage("setup", response);
-  }
-
-  /**
-   * Handles a response to take shots
+   * @param limit the time limit of each volley, or null for no limit
    */
-  private void handleTakeShots() {
-    CoordinatesJson response = new CoordinatesJson(this.player.takeShots());
-    this.outputMessage("take-shots", response);
-  }
-
-  /**
-   * Handles a response to report damage
-   *
-   * @param arguments the arguments to be parsed into CoordinatesJson
-   */
-  private void handleReportDamage(JsonNode arguments) {
-    CoordinatesJson parsed = this.mapper.convertValue(arguments, CoordinatesJson.class);
-    List<Coord> coords = this.player.reportDamage(parsed.coordinates());
-
-    CoordinatesJson response = new CoordinatesJson(coords);
-    this.outputMessage("report-damage", response);
+  public void setTimeLimit(Duration limit) {
+    this.player.setTimeLimit(limit);
   }
 
   /**
-   * Handles a response to report successful hits
+   * Returns the result of the game that the server sent
    *
-   * @param arguments the arguments to be parsed into CoordinatesJson
+   * @return the player's result, or null if the game has not ended
    */
-  private void handleSuccessfulHits(JsonNode arguments) {
-    CoordinatesJson parsed = this.mapper.convertValue(arguments, CoordinatesJson.class);
-    this.player.successfulHits(parsed.coordinates());
-    
-    this.outputNullMessage("successful-hits");
-  }
-
-  /**
-   * Handles a response to end a game with the given arguments
-   *
-   * @param arguments the arguments to be parsed into EndJson
-   */
-  private void handleEndGame(JsonNode arguments) throws IOException {
-    EndJson parsed = this.mapper.convertValue(arguments, EndJson.class);
-    this.player.endGame(parsed.result(), parsed.reason());
-
-    this.outputNullMessage("end-game");
-    
-    System.out.println(parsed.result());
-    System.out.println(parsed.reason());
-    this.server.close();
-  }
-
-  /**
-   * Create a MessageJson for some name and arguments, 
-   * then print it to the output
-   *
-   * @param methodName the method name of the message
-   * @param messageObject object to embed in the MessageJson
-   */
-  private void outputMessage(String methodName, Record messageObject) {
-    // convert given record to MessageJson record
-    MessageJson message = new MessageJson(methodName,
-        this.mapper.convertValue(messageObject, JsonNode.class));
-
-    // convert MessageJson record to JsonNode and print
-    this.out.println(mapper.convertValue(message, JsonNode.class));
+  public GameResult getResult() {
+    return this.handler.getResult();
   }
 
   /**
-   * Create a MessageJson with null arguments for some method name,
-   * then print it to the output
+   * Returns the latencies of every message handled so far, by method name and phase
    *
-   * @param methodName the method name of the message
+   * @return the timings of this controller's messages
    */
-  private void outputNullMessage(String methodName) {
-    MessageJson message = new MessageJson(methodName, this.mapper.createObjectNode());
-    this.out.println(this.mapper.convertValue(message, JsonNode.class));
+  public MessageTimings getTimings() {
+    return this.timings;
   }
 }
@@ -0,0 +1,230 @@
+package cs3500.pa04;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import cs3500.pa03.model.GameResult;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents one server game played over a non-blocking SocketChannel, driven by the event loop
+ * of a MultiplexedProxyClient. Bytes are fed to a non-blocking JSON parser as they arrive, so a
+ * message can be split across reads or share a read with other messages. A session is only ever
+ * touched by its event loop's thread, so its Player does not need to be thread-safe.
+ */
+public class ProxySession {
+  // the size of the buffer that each read from the server goes into
+  private static final int READ_BUFFER_SIZE = 8192;
+
+  private final SocketChannel channel;
+  private final MessageHandler handler;
+  private final JsonMessageCodec codec;
+  private final ByteBuffer readBuffer;
+  private final JsonParser parser;
+  private final ByteArrayFeeder feeder;
+  // the tokens of the message being parsed, and how deeply nested the parser is within it
+  private TokenBuffer tokens;
+  private int depth;
+  // responses are encoded into the same buffer, then copied out to be written
+  private final ByteArrayOutputStream encoded;
+  private final JsonGenerator generator;
+  private final Deque<ByteBuffer> outbound;
+  private final CompletableFuture<GameResult> result;
+  private SelectionKey key;
+  private final long startNanos;
+  private volatile long elapsedNanos;
+
+  /**
+   * Constructs a new ProxySession over the given channel, which is connecting to the server
+   *
+   * @param channel the non-blocking channel to the server
+   * @param handler the handler of the messages of the game
+   * @param factory the factory of the JSON parser and generator
+   * @throws IOException if the JSON parser or generator cannot be created
+   */
+  ProxySession(SocketChannel channel, MessageHandler handler, JsonFactory factory)
+      throws IOException {
+    this.channel = channel;
+    this.handler = handler;
+    this.codec = new JsonMessageCodec();
+    this.readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    this.parser = factory.createNonBlockingByteArrayParser();
+    this.feeder = (ByteArrayFeeder) this.parser.getNonBlockingInputFeeder();
+    this.tokens = new TokenBuffer(this.parser);
+    this.depth = 0;
+    this.encoded = new ByteArrayOutputStream();
+    this.generator = factory.createGenerator(this.encoded);
+    // each message is on its own line, rather than separated by the default space
+    this.generator.setRootValueSeparator(null);
+    this.outbound = new ArrayDeque<>();
+    this.result = new CompletableFuture<>();
+    this.key = null;
+    this.startNanos = System.nanoTime();
+    this.elapsedNanos = 0;
+  }
+
+  /**
+   * Returns the result of this session's game, which completes when the server ends the game,
+   * or completes exceptionally if the connection fails or a message cannot be handled
+   *
+   * @return the future result of the game for the player
+   */
+  public CompletableFuture<GameResult> getResult() {
+    return this.result;
+  }
+
+  /**
+   * Returns how long this session took from connecting to ending, once its result is complete
+   *
+   * @return the time this session took, in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  /**
+   * Registers this session's channel with the given selector, on the event loop's thread
+   *
+   * @param selector the selector of the event loop
+   */
+  void register(Selector selector) {
+    try {
+      int ops = this.channel.isConnectionPending() ? SelectionKey.OP_CONNECT : SelectionKey.OP_READ;
+      this.key = this.channel.register(selector, ops, this);
+    } catch (IOException e) {
+      this.fail(e);
+    }
+  }
+
+  /**
+   * Handles whatever the given key is ready for: finishing the connection, reading messages,
+   * or writing responses that did not fit in the socket's buffer earlier
+   *
+   * @param readyKey the selected key of this session
+   */
+  void handle(SelectionKey readyKey) {
+    try {
+      if (readyKey.isConnectable() && this.channel.finishConnect()) {
+        readyKey.interestOps(SelectionKey.OP_READ);
+      }
+      if (readyKey.isValid() && readyKey.isReadable()) {
+        this.read();
+      }
+      if (readyKey.isValid() && readyKey.isWritable()) {
+        this.flush();
+      }
+    } catch (IOException | RuntimeException e) {
+      this.fail(e);
+    }
+  }
+
+  /**
+   * Reads what is available from the server and handles every message it completes
+   *
+   * @throws IOException if the channel cannot be read, or closes before the game ends
+   */
+  private void read() throws IOException {
+    this.readBuffer.clear();
+    int read = this.channel.read(this.readBuffer);
+    if (read < 0) {
+      throw new EOFException("server closed the connection before the game ended");
+    }
+    // the parser only holds on to the array until every token in it has been read below
+    this.feeder.feedInput(this.readBuffer.array(), 0, read);
+
+    JsonToken token = this.parser.nextToken();
+    while (token != null && token != JsonToken.NOT_AVAILABLE && !this.handler.isGameOver()) {
+      this.tokens.copyCurrentEvent(this.parser);
+      if (token.isStructStart()) {
+        this.depth++;
+      } else if (token.isStructEnd()) {
+        this.depth--;
+      }
+
+      // back at the top level means the message is complete
+      if (this.depth == 0) {
+        WireMessage message = this.codec.read(this.tokens.asParser());
+        this.tokens = new TokenBuffer(this.parser);
+        this.send(this.handler.handle(message));
+      }
+      token = this.parser.nextToken();
+    }
+  }
+
+  /**
+   * Queues the given response to be written to the server, and writes as much as possible
+   *
+   * @param response the response to send
+   * @throws IOException if the channel cannot be written to
+   */
+  private void send(WireMessage response) throws IOException {
+    this.encoded.reset();
+    this.codec.write(this.generator, response);
+    this.generator.writeRaw(System.lineSeparator());
+    this.generator.flush();
+    this.outbound.add(ByteBuffer.wrap(this.encoded.toByteArray()));
+    this.flush();
+  }
+
+  /**
+   * Writes queued responses until they are all written or the socket's buffer is full,
+   * in which case the rest are written once the channel is writable again
+   *
+   * @throws IOException if the channel cannot be written to
+   */
+  private void flush() throws IOException {
+    while (!this.outbound.isEmpty()) {
+      ByteBuffer next = this.outbound.peek();
+      this.channel.write(next);
+      if (next.hasRemaining()) {
+        this.key.interestOps(this.key.interestOps() | SelectionKey.OP_WRITE);
+        return;
+      }
+      this.outbound.poll();
+    }
+    this.key.interestOps(this.key.interestOps() & ~SelectionKey.OP_WRITE);
+
+    // the end-game response has been written, so the game is over
+    if (this.handler.isGameOver()) {
+      this.close();
+      this.elapsedNanos = System.nanoTime() - this.startNanos;
+      this.result.complete(this.handler.getResult());
+    }
+  }
+
+  /**
+   * Ends this session because of the given exception
+   *
+   * @param e the exception that ended the session
+   */
+  void fail(Exception e) {
+    this.close();
+    if (!this.result.isDone()) {
+      this.elapsedNanos = System.nanoTime() - this.startNanos;
+    }
+    this.result.completeExceptionally(e);
+  }
+
+  /**
+   * Closes this session's channel, which also cancels its key
+   */
+  private void close() {
+    try {
+      this.channel.close();
+    } catch (IOException e) {
+      // the session is over either way
+    }
+  }
+}
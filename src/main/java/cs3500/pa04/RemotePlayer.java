@@ -0,0 +1,205 @@
+package cs3500.pa04;
+
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.Ship;
+import cs3500.pa03.model.ShipBoard;
+import cs3500.pa03.model.ShipType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a Player on the other end of a connection to a LocalReferee: each call is sent to
+ * the client as a protocol message, and returns once the client has responded. The referee
+ * keeps its own board of the client's fleet, so the client's fleet and shots are checked, and
+ * damage is judged by the referee rather than taken on trust.
+ */
+class RemotePlayer implements Player {
+  private final WireCodec codec;
+  // shared between every game of the referee, so it is only recorded into while locked
+  private final MessageTimings timings;
+  private ShipBoard board;
+
+  /**
+   * Constructs a new RemotePlayer for the client on the given connection
+   *
+   * @param codec the codec of the connection to the client
+   * @param timings the timings to record the round trip of each message into
+   */
+  RemotePlayer(WireCodec codec, MessageTimings timings) {
+    this.codec = codec;
+    this.timings = timings;
+    this.board = null;
+  }
+
+  /**
+   * Asks the client to join the game
+   *
+   * @return the client's name
+   * @throws IllegalStateException if the client does not respond with its name
+   */
+  @Override
+  public String name() {
+    return this.send(new WireMessage("join", null), JoinJson.class).name();
+  }
+
+  /**
+   * Asks the client to place its fleet, and places the same fleet on the referee's board
+   *
+   * @param height         the height of the board, range: [6, 15] inclusive
+   * @param width          the width of the board, range: [6, 15] inclusive
+   * @param specifications a map of ship type to the number of occurrences each ship should
+   *                       appear on the board
+   * @return the client's ships, as placed on the referee's board
+   * @throws IllegalStateException if the client's fleet does not match the specifications
+   *                               or does not fit on the board
+   */
+  @Override
+  public List<Ship> setup(int height, int width, Map<ShipType, Integer> specifications) {
+    SetupJson setup = new SetupJson(height, width, specifications);
+    List<Ship> fleet = this.send(new WireMessage("setup", setup), FleetJson.class).fleet();
+
+    this.board = new ShipBoard(height, width);
+    Map<ShipType, Integer> placed = new EnumMap<>(ShipType.class);
+    List<Ship> ships = new ArrayList<>();
+    try {
+      for (Ship ship : fleet) {
+        ShipType type = typeOfLength(ship.getLength());
+        placed.merge(type, 1, Integer::sum);
+        ships.add(this.board.createAndPlaceShip(ship.getOriginCoord(), ship.getOrientation(),
+            type));
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("client's fleet does not fit on the board", e);
+    }
+    for (ShipType type : ShipType.values()) {
+      if (!placed.getOrDefault(type, 0).equals(specifications.getOrDefault(type, 0))) {
+        throw new IllegalStateException("client's fleet does not match the fleet spec");
+      }
+    }
+    return ships;
+  }
+
+  /**
+   * Asks the client for its volley
+   *
+   * @return the client's shots
+   * @throws IllegalStateException if the client fires more shots than it has ships left,
+   *                               or fires off of the board
+   */
+  @Override
+  public List<Coord> takeShots() {
+    List<Coord> shots =
+        this.send(new WireMessage("take-shots", null), CoordinatesJson.class).coordinates();
+    if (shots.size() > this.board.getUnsunkShipTotal()) {
+      throw new IllegalStateException("client fired more shots than it has ships");
+    }
+    for (Coord c : shots) {
+      if (c.x() >= this.board.getWidth() || c.y() >= this.board.getHeight()) {
+        throw new IllegalStateException("client fired off of the board");
+      }
+    }
+    return shots;
+  }
+
+  /**
+   * Tells the client where the opponent fired, and judges the damage on the referee's board
+   *
+   * @param opponentShotsOnBoard the opponent's shots on the client's board
+   * @return the shots that hit one of the client's ships
+   * @throws IllegalStateException if the client reports different damage
+   */
+  @Override
+  public List<Coord> reportDamage(List<Coord> opponentShotsOnBoard) {
+    List<Coord> reported = this.send(new WireMessage("report-damage",
+        new CoordinatesJson(opponentShotsOnBoard)), CoordinatesJson.class).coordinates();
+
+    List<Coord> hits = opponentShotsOnBoard.stream().filter(this.board::receiveShot).toList();
+    if (!new HashSet<>(hits).equals(new HashSet<>(reported))) {
+      throw new IllegalStateException("client reported the wrong damage");
+    }
+    return hits;
+  }
+
+  /**
+   * Tells the client which of its shots hit
+   *
+   * @param shotsThatHitOpponentShips the client's shots that hit the opponent's ships
+   */
+  @Override
+  public void successfulHits(List<Coord> shotsThatHitOpponentShips) {
+    this.send(new WireMessage("successful-hits",
+        new CoordinatesJson(shotsThatHitOpponentShips)), null);
+  }
+
+  /**
+   * Tells the client that the game is over
+   *
+   * @param result the client's result
+   * @param reason the reason for the game ending
+   */
+  @Override
+  public void endGame(GameResult result, String reason) {
+    this.send(new WireMessage("end-game", new EndJson(result, reason)), null);
+  }
+
+  /**
+   * Sends the given message to the client and waits for its response, which must have the same
+   * method name and arguments of the given type
+   *
+   * @param message the message to send
+   * @param type the type of the response's arguments, or null if the response has none
+   * @param <T> the type of the response's arguments
+   * @return the response's arguments, or null if it has none
+   * @throws UncheckedIOException if the connection fails or the response cannot be read
+   * @throws IllegalStateException if the response is not to the given message
+   */
+  private <T extends Record> T send(WireMessage message, Class<T> type) {
+    WireMessage response;
+    long start = System.nanoTime();
+    try {
+      this.codec.write(message);
+      response = this.codec.read();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    long nanos = System.nanoTime() - start;
+    synchronized (this.timings) {
+      this.timings.record(message.methodName(), MessageTimings.Phase.REPLY, nanos);
+    }
+
+    if (response == null || !response.methodName().equals(message.methodName())) {
+      throw new IllegalStateException("client did not respond to " + message.methodName());
+    }
+    if (type == null) {
+      return null;
+    }
+    if (!type.isInstance(response.arguments())) {
+      throw new IllegalStateException("client's response to " + message.methodName()
+          + " is not well-formed");
+    }
+    return type.cast(response.arguments());
+  }
+
+  /**
+   * Returns the type of ship with the given length
+   *
+   * @param length the length of the ship
+   * @return the type of ship of that length
+   * @throws IllegalArgumentException if no type of ship has that length
+   */
+  private static ShipType typeOfLength(int length) {
+    for (ShipType type : ShipType.values()) {
+      if (type.getSize() == length) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("no ship has length " + length);
+  }
+}
@@ -0,0 +1,131 @@
+package cs3500.pa04;
+
+import cs3500.pa03.model.Player;
+import java.lang.reflect.Method;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Represents a launcher of many concurrent server games, each played by a blocking
+ * ProxyController with its own Player on its own thread. Virtual threads are used when the
+ * running Java version has them, so thousands of sessions are cheap; otherwise each session
+ * gets a platform thread.
+ */
+public class SessionLauncher {
+  private final String host;
+  private final int port;
+  private final Supplier<Player> players;
+  private final WireFormat format;
+  private final AsyncLog log;
+
+  /**
+   * Constructs a new SessionLauncher for the server at the given host and port, which speaks
+   * the given format and logs to the given log
+   *
+   * @param host the host of the server
+   * @param port the port of the server
+   * @param players creates a new player for each session
+   * @param format the format the server speaks
+   * @param log the log for every session, and for why any session failed
+   */
+  public SessionLauncher(String host, int port, Supplier<Player> players, WireFormat format,
+                         AsyncLog log) {
+    this.host = host;
+    this.port = port;
+    this.players = players;
+    this.format = format;
+    this.log = log;
+  }
+
+  /**
+   * Constructs a new SessionLauncher for the server at the given host and port, which speaks
+   * the given format and logs to the standard log
+   *
+   * @param host the host of the server
+   * @param port the port of the server
+   * @param players creates a new player for each session
+   * @param format the format the server speaks
+   */
+  public SessionLauncher(String host, int port, Supplier<Player> players, WireFormat format) {
+    this(host, port, players, format, AsyncLog.standard());
+  }
+
+  /**
+   * Constructs a new SessionLauncher for the server at the given host and port, which speaks
+   * JSON
+   *
+   * @param host the host of the server
+   * @param port the port of the server
+   * @param players creates a new player for each session
+   */
+  public SessionLauncher(String host, int port, Supplier<Player> players) {
+    this(host, port, players, WireFormat.JSON);
+  }
+
+  /**
+   * Plays the given number of sessions at once, and waits for all of them to finish
+   *
+   * @param sessions the number of sessions
+   * @return the result and time of every session
+   * @throws IllegalStateException if interrupted while waiting for the sessions
+   */
+  public SessionResults launch(int sessions) {
+    SessionResults results = new SessionResults(sessions);
+    ExecutorService executor = newSessionExecutor();
+    for (int i = 0; i < sessions; i++) {
+      int session = i;
+      executor.execute(() -> this.playSession(session, results));
+    }
+
+    // waiting for termination also makes every recorded result visible to this thread
+    executor.shutdown();
+    try {
+      while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        // sessions can take as long as the server lets them
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("interrupted while waiting for sessions", e);
+    }
+    return results;
+  }
+
+  /**
+   * Plays a single session, recording its result, or that it failed, along with its time
+   *
+   * @param session the index of the session
+   * @param results the results to record into
+   */
+  private void playSession(int session, SessionResults results) {
+    long start = System.nanoTime();
+    try (Socket server = new Socket(this.host, this.port)) {
+      ProxyController controller = new ProxyController(server, this.players.get(),
+          this.log, this.format);
+      controller.run();
+      results.record(session, controller.getResult(), System.nanoTime() - start);
+    } catch (Exception e) {
+      this.log.log(AsyncLog.Level.WARN, "Session {} failed: {}", session, e);
+      results.record(session, null, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Returns an executor that runs each task on a new virtual thread if the running Java version
+   * has them, or on a platform thread otherwise
+   *
+   * @return an executor with one thread per task
+   */
+  static ExecutorService newSessionExecutor() {
+    // this project targets Java 17, so virtual threads (Java 21+) can only be found at runtime
+    try {
+      Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) virtual.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newCachedThreadPool();
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package cs3500.pa04;
+
+import cs3500.pa03.model.GameResult;
+import java.util.Arrays;
+
+/**
+ * Represents the results of many server games played at once: each session's result, or that
+ * it failed, and how long it took. Each session is recorded by index, so sessions may be
+ * recorded from different threads as long as the results are read after they all finish.
+ */
+public class SessionResults {
+  // null for a session that failed
+  private final GameResult[] results;
+  private final long[] elapsedNanos;
+
+  /**
+   * Constructs a new SessionResults for the given number of sessions, all of which are
+   * failed until they are recorded
+   *
+   * @param sessions the number of sessions
+   */
+  public SessionResults(int sessions) {
+    this.results = new GameResult[sessions];
+    this.elapsedNanos = new long[sessions];
+  }
+
+  /**
+   * Records the outcome of the given session
+   *
+   * @param session the index of the session
+   * @param result the result of the session's game, or null if it failed
+   * @param nanos how long the session took, in nanoseconds
+   */
+  public void record(int session, GameResult result, long nanos) {
+    this.results[session] = result;
+    this.elapsedNanos[session] = nanos;
+  }
+
+  /**
+   * Returns the number of sessions with the given result
+   *
+   * @param result the result to count, or null to count failed sessions
+   * @return the number of sessions with the result
+   */
+  public int count(GameResult result) {
+    int count = 0;
+    for (GameResult r : this.results) {
+      if (r == result) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the result of the given session
+   *
+   * @param session the index of the session
+   * @return the result of the session's game, or null if it failed
+   */
+  public GameResult getResult(int session) {
+    return this.results[session];
+  }
+
+  /**
+   * Returns how long the given session took
+   *
+   * @param session the index of the session
+   * @return how long the session took, in nanoseconds
+   */
+  public long getElapsedNanos(int session) {
+    return this.elapsedNanos[session];
+  }
+
+  /**
+   * Returns a summary of these results: the total of each result, the spread of session
+   * times, and then each session's result and time
+   *
+   * @return a multi-line summary of these results
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("Sessions: %d won, %d lost, %d tied, %d failed%n",
+        this.count(GameResult.WIN), this.count(GameResult.LOSE), this.count(GameResult.DRAW),
+        this.count(null)));
+
+    if (this.elapsedNanos.length > 0) {
+      long[] sorted = this.elapsedNanos.clone();
+      Arrays.sort(sorted);
+      sb.append(String.format("Time: min %.1fms, mean %.1fms, median %.1fms, max %.1fms%n",
+          sorted[0] / 1e6, Arrays.stream(sorted).average().orElse(0) / 1e6,
+          sorted[sorted.length / 2] / 1e6, sorted[sorted.length - 1] / 1e6));
+    }
+    for (int i = 0; i < this.results.length; i++) {
+      sb.append(String.format("  session %d: %s in %.1fms%n", i,
+          this.results[i] == null ? "FAILED" : this.results[i], this.elapsedNanos[i] / 1e6));
+    }
+    return sb.toString();
+  }
+}
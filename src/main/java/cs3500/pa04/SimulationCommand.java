@@ -0,0 +1,207 @@
+package cs3500.pa04;
+
+import cs3500.pa03.controller.GameLogWriter;
+import cs3500.pa03.controller.GameRecorder;
+import cs3500.pa03.controller.GameStatistics;
+import cs3500.pa03.controller.Simulation;
+import cs3500.pa03.controller.SimulationReport;
+import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.DensityTargetStrategy;
+import cs3500.pa03.model.MonteCarloTargetStrategy;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.SalvoTargetStrategy;
+import cs3500.pa03.model.ShipType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents the command line options of a headless simulation, which plays many games between
+ * two AI players and reports the results. Options are given as flag-value pairs after the
+ * simulate flag, and any option that is left out keeps its default.
+ */
+public class SimulationCommand {
+  /**
+   * The first command line argument that selects a simulation
+   */
+  public static final String FLAG = "--simulate";
+
+  /**
+   * A description of every option, to show when the options are invalid
+   */
+  public static final String USAGE = FLAG + " [--games N] [--height H] [--width W]"
+      + " [--fleet CARRIER,BATTLESHIP,DESTROYER,SUBMARINE] [--seed S] [--threads T]"
+      + " [--player1 NAME] [--player2 NAME] [--log FILE] [--stats true|false]\n"
+      + "  where NAME is one of hunt, density, salvo, montecarlo";
+
+  private int games;
+  private int height;
+  private int width;
+  private final Map<ShipType, Integer> specifications;
+  private long seed;
+  private int threads;
+  private String player1;
+  private String player2;
+  // the path of the log to record every game into, or null to not record them
+  private String log;
+  private boolean stats;
+  // the running statistics of the last run, or null if statistics are not kept
+  private GameStatistics statistics;
+
+  /**
+   * Constructs a new SimulationCommand from the given command line arguments
+   *
+   * @param args the command line arguments, starting with the simulate flag
+   * @throws IllegalArgumentException if the arguments are not valid options
+   */
+  public SimulationCommand(String[] args) {
+    this.games = 10000;
+    this.height = 10;
+    this.width = 10;
+    this.specifications = new EnumMap<>(ShipType.class);
+    for (ShipType type : ShipType.values()) {
+      this.specifications.put(type, 1);
+    }
+    this.seed = System.nanoTime();
+    this.threads = Runtime.getRuntime().availableProcessors();
+    this.player1 = "hunt";
+    this.player2 = "hunt";
+    this.log = null;
+    this.stats = false;
+    this.statistics = null;
+
+    if (args.length == 0 || !args[0].equals(FLAG) || args.length % 2 == 0) {
+      throw new IllegalArgumentException("options must be flag-value pairs after " + FLAG);
+    }
+    for (int i = 1; i < args.length; i += 2) {
+      this.parseOption(args[i], args[i + 1]);
+    }
+    // checks the names now, rather than after the simulation has started
+    playerFactory(this.player1);
+    playerFactory(this.player2);
+  }
+
+  /**
+   * Runs the simulation described by these options
+   *
+   * @return the report of the simulation
+   * @throws IllegalArgumentException if the board and fleet are not valid
+   * @throws UncheckedIOException if the log cannot be written
+   */
+  public SimulationReport run() {
+    Simulation simulation = new Simulation(this.height, this.width, this.specifications,
+        playerFactory(this.player1), playerFactory(this.player2));
+    List<GameRecorder> recorders = new ArrayList<>();
+    if (this.stats) {
+      this.statistics = new GameStatistics();
+      recorders.add(this.statistics);
+    }
+    if (this.log == null) {
+      return simulation.run(this.games, this.seed, this.threads,
+          recorders.toArray(new GameRecorder[0]));
+    }
+    try (GameLogWriter writer = new GameLogWriter(Path.of(this.log))) {
+      recorders.add(writer);
+      return simulation.run(this.games, this.seed, this.threads,
+          recorders.toArray(new GameRecorder[0]));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns the running statistics of the last run
+   *
+   * @return the statistics, or null if statistics are not kept or nothing has been run
+   */
+  public GameStatistics getStatistics() {
+    return this.statistics;
+  }
+
+  /**
+   * Returns a one-line description of these options, including the seed, so that any
+   * simulation can be repeated
+   *
+   * @return a description of these options
+   */
+  @Override
+  public String toString() {
+    return String.format("%s vs %s on %dx%d, fleet %s, seed %d, %d threads",
+        this.player1, this.player2, this.height, this.width, this.specifications.values(),
+        this.seed, this.threads);
+  }
+
+  /**
+   * Returns a factory for the AI player with the given name. Players have no time limit, so
+   * every volley, and so every headless game, only depends on the player's random generator.
+   *
+   * @param name the name of the player: hunt, density, salvo or montecarlo
+   * @return a function that creates a new player from a random generator
+   * @throws IllegalArgumentException if there is no player with the given name
+   */
+  public static Function<RandomGenerator, Player> playerFactory(String name) {
+    return switch (name) {
+      case "hunt" -> AiPlayer::new;
+      case "density" -> rand -> new AiPlayer(rand, new DensityTargetStrategy());
+      case "salvo" -> rand -> new AiPlayer(rand, new SalvoTargetStrategy());
+      case "montecarlo" -> rand -> new AiPlayer(rand, new MonteCarloTargetStrategy(2000));
+      default -> throw new IllegalArgumentException("unknown player: " + name);
+    };
+  }
+
+  /**
+   * Parses the value of a fleet option, which has a count of each type of ship in the same
+   * order as the manual game's prompt: carriers, battleships, destroyers, then submarines
+   *
+   * @param value the comma-separated counts of each type of ship
+   * @return the fleet specifications
+   * @throws IllegalArgumentException if there are not exactly four counts
+   * @throws NumberFormatException if a count is not a number
+   */
+  static Map<ShipType, Integer> parseFleet(String value) {
+    String[] counts = value.split(",");
+    ShipType[] order = {ShipType.CARRIER, ShipType.BATTLESHIP, ShipType.DESTROYER,
+        ShipType.SUBMARINE};
+    if (counts.length != order.length) {
+      throw new IllegalArgumentException("fleet must have exactly four counts");
+    }
+    Map<ShipType, Integer> specifications = new EnumMap<>(ShipType.class);
+    for (int i = 0; i < order.length; i++) {
+      specifications.put(order[i], Integer.parseInt(counts[i].trim()));
+    }
+    return specifications;
+  }
+
+  /**
+   * Sets the option with the given flag to the given value
+   *
+   * @param flag the flag of the option
+   * @param value the value of the option
+   * @throws IllegalArgumentException if the flag is unknown or the value is invalid
+   */
+  private void parseOption(String flag, String value) {
+    try {
+      switch (flag) {
+        case "--games" -> this.games = Integer.parseInt(value);
+        case "--height" -> this.height = Integer.parseInt(value);
+        case "--width" -> this.width = Integer.parseInt(value);
+        case "--seed" -> this.seed = Long.parseLong(value);
+        case "--threads" -> this.threads = Integer.parseInt(value);
+        case "--player1" -> this.player1 = value;
+        case "--player2" -> this.player2 = value;
+        case "--log" -> this.log = value;
+        case "--stats" -> this.stats = Boolean.parseBoolean(value);
+        case "--fleet" -> this.specifications.putAll(parseFleet(value));
+        default -> throw new IllegalArgumentException("unknown option: " + flag);
+      }
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("invalid number for " + flag + ": " + value);
+    }
+  }
+}
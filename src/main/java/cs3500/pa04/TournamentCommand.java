@@ -0,0 +1,137 @@
+package cs3500.pa04;
+
+import cs3500.pa03.controller.Tournament;
+import cs3500.pa03.controller.TournamentReport;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.ShipType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents the command line options of a round-robin tournament between named AI players,
+ * which plays every pair of them on square boards of each of the given sizes. Options are
+ * given as flag-value pairs after the tournament flag, like those of a SimulationCommand.
+ */
+public class TournamentCommand {
+  /**
+   * The first command line argument that selects a tournament
+   */
+  public static final String FLAG = "--tournament";
+
+  /**
+   * A description of every option, to show when the options are invalid
+   */
+  public static final String USAGE = FLAG + " [--players NAME,NAME,...] [--games N]"
+      + " [--sizes SIZE,SIZE,...] [--fleet CARRIER,BATTLESHIP,DESTROYER,SUBMARINE]"
+      + " [--seed S] [--threads T]\n"
+      + "  where each NAME is a different one of hunt, density, salvo, montecarlo,"
+      + " and N is the number of games of each pairing on each size";
+
+  private final List<String> players;
+  private int games;
+  private final List<Integer> sizes;
+  private final Map<ShipType, Integer> specifications;
+  private long seed;
+  private int threads;
+
+  /**
+   * Constructs a new TournamentCommand from the given command line arguments
+   *
+   * @param args the command line arguments, starting with the tournament flag
+   * @throws IllegalArgumentException if the arguments are not valid options
+   */
+  public TournamentCommand(String[] args) {
+    this.players = new ArrayList<>(List.of("hunt", "density", "salvo"));
+    this.games = 100;
+    this.sizes = new ArrayList<>(List.of(6, 10, 15));
+    this.specifications = new EnumMap<>(ShipType.class);
+    for (ShipType type : ShipType.values()) {
+      this.specifications.put(type, 1);
+    }
+    this.seed = System.nanoTime();
+    this.threads = Runtime.getRuntime().availableProcessors();
+
+    if (args.length == 0 || !args[0].equals(FLAG) || args.length % 2 == 0) {
+      throw new IllegalArgumentException("options must be flag-value pairs after " + FLAG);
+    }
+    for (int i = 1; i < args.length; i += 2) {
+      this.parseOption(args[i], args[i + 1]);
+    }
+    // checks the names now, rather than after the tournament has started
+    this.players.forEach(SimulationCommand::playerFactory);
+  }
+
+  /**
+   * Runs the tournament described by these options
+   *
+   * @return the report of the tournament
+   * @throws IllegalArgumentException if there are fewer than two players, or the boards and
+   *                                  fleet are not valid
+   */
+  public TournamentReport run() {
+    Map<String, Function<RandomGenerator, Player>> entrants = new LinkedHashMap<>();
+    for (String name : this.players) {
+      entrants.put(name, SimulationCommand.playerFactory(name));
+    }
+    List<Tournament.Arena> arenas = new ArrayList<>();
+    for (int size : this.sizes) {
+      arenas.add(new Tournament.Arena(size, size, this.specifications));
+    }
+    return new Tournament(entrants, arenas).run(this.games, this.seed, this.threads);
+  }
+
+  /**
+   * Returns a one-line description of these options, including the seed, so that any
+   * tournament can be repeated
+   *
+   * @return a description of these options
+   */
+  @Override
+  public String toString() {
+    return String.format("%s on sizes %s, fleet %s, %d games each, seed %d, %d threads",
+        String.join(", ", this.players), this.sizes, this.specifications.values(), this.games,
+        this.seed, this.threads);
+  }
+
+  /**
+   * Sets the option with the given flag to the given value
+   *
+   * @param flag the flag of the option
+   * @param value the value of the option
+   * @throws IllegalArgumentException if the flag is unknown or the value is invalid
+   */
+  private void parseOption(String flag, String value) {
+    try {
+      switch (flag) {
+        case "--games" -> this.games = Integer.parseInt(value);
+        case "--seed" -> this.seed = Long.parseLong(value);
+        case "--threads" -> this.threads = Integer.parseInt(value);
+        case "--players" -> {
+          this.players.clear();
+          for (String name : value.split(",")) {
+            // entrants are told apart by name, so a repeated one would silently not play
+            if (this.players.contains(name.trim())) {
+              throw new IllegalArgumentException("duplicate player: " + name.trim());
+            }
+            this.players.add(name.trim());
+          }
+        }
+        case "--sizes" -> {
+          this.sizes.clear();
+          for (String size : value.split(",")) {
+            this.sizes.add(Integer.parseInt(size.trim()));
+          }
+        }
+        case "--fleet" -> this.specifications.putAll(SimulationCommand.parseFleet(value));
+        default -> throw new IllegalArgumentException("unknown option: " + flag);
+      }
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("invalid number for " + flag + ": " + value);
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package cs3500.pa04;
+
+import java.io.IOException;
+
+/**
+ * Represents the encoding of the messages of the BattleSalvo protocol over one connection,
+ * which reads messages from and writes messages to the connection's streams. A codec keeps the
+ * state of its connection, so each one must only be used by one thread at a time.
+ */
+public interface WireCodec {
+  /**
+   * Waits until the next message has started to arrive, without reading the rest of it, which
+   * allows the caller to wait for a message separately from reading it
+   *
+   * @return whether there is another message, or false if the connection has ended
+   * @throws IOException if the input cannot be read
+   */
+  boolean awaitMessage() throws IOException;
+
+  /**
+   * Reads the next message
+   *
+   * @return the message, or null if the connection has ended
+   * @throws IOException if the input cannot be read or is not a well-formed message
+   */
+  WireMessage read() throws IOException;
+
+  /**
+   * Writes the given message, and flushes it to the connection
+   *
+   * @param message the message to write
+   * @throws IOException if the output cannot be written
+   * @throws IllegalArgumentException if the message cannot be encoded
+   */
+  void write(WireMessage message) throws IOException;
+}
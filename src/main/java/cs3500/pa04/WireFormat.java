@@ -0,0 +1,40 @@
+package cs3500.pa04;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Represents the formats that the BattleSalvo protocol can be spoken in. Both ends of a
+ * connection must use the same format; the course server only speaks JSON.
+ */
+public enum WireFormat {
+  /**
+   * The protocol's own format, with each message as a line of JSON
+   */
+  JSON {
+    @Override
+    public WireCodec open(InputStream in, OutputStream out) throws IOException {
+      return new JsonWireCodec(in, out);
+    }
+  },
+  /**
+   * A compact binary format, with each coordinate packed into a byte and each ship into two
+   */
+  BINARY {
+    @Override
+    public WireCodec open(InputStream in, OutputStream out) {
+      return new BinaryWireCodec(in, out);
+    }
+  };
+
+  /**
+   * Returns a new codec of this format over the given streams of a connection
+   *
+   * @param in the stream that messages are read from
+   * @param out the stream that messages are written to
+   * @return the codec of the connection
+   * @throws IOException if the streams cannot be used
+   */
+  public abstract WireCodec open(InputStream in, OutputStream out) throws IOException;
+}
@@ -0,0 +1,11 @@
+package cs3500.pa04;
+
+/**
+ * Represents a message of the BattleSalvo protocol, sent to or by a server, with its arguments
+ * already decoded into the record that matches them (such as SetupJson or CoordinatesJson)
+ *
+ * @param methodName the name of the relevant method
+ * @param arguments the arguments/results of the relevant method, or null if they are empty
+ */
+public record WireMessage(String methodName, Record arguments) {
+}
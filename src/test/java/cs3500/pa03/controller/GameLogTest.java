@@ -0,0 +1,194 @@
+package cs3500.pa03.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.Fixtures;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Ship;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test GameLogWriter, GameLogReader and GameRecord
+ */
+class GameLogTest {
+  /**
+   * Represents an observer that keeps every move it is told of, to compare with the log
+   */
+  private static class Recorder implements GameObserver {
+    private final GameObserver log;
+    private List<List<Ship>> fleets;
+    private final List<List<List<Coord>>> volleys = List.of(new ArrayList<>(),
+        new ArrayList<>());
+    private final List<List<List<Coord>>> hits = List.of(new ArrayList<>(), new ArrayList<>());
+    private GameResult result;
+
+    /**
+     * Constructs a new Recorder that also passes every move on to the given log
+     *
+     * @param log the observer of the log
+     */
+    Recorder(GameObserver log) {
+      this.log = log;
+    }
+
+    @Override
+    public void fleetsPlaced(int height, int width, List<Ship> fleet, List<Ship> oppoFleet) {
+      this.fleets = List.of(fleet, oppoFleet);
+      this.log.fleetsPlaced(height, width, fleet, oppoFleet);
+    }
+
+    @Override
+    public void turnPlayed(List<Coord> shots, List<Coord> hits, List<Coord> oppoShots,
+        List<Coord> oppoHits) {
+      this.volleys.get(0).add(shots);
+      this.hits.get(0).add(hits);
+      this.volleys.get(1).add(oppoShots);
+      this.hits.get(1).add(oppoHits);
+      this.log.turnPlayed(shots, hits, oppoShots, oppoHits);
+    }
+
+    @Override
+    public void gameEnded(GameResult result) {
+      this.result = result;
+      this.log.gameEnded(result);
+    }
+  }
+
+  /**
+   * Tests that every move of a game is read back as it was played, including after a
+   * second writer appends to the same log
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    Path path = Files.createTempFile("games", ".log");
+    Files.delete(path);
+    try {
+      List<Recorder> recorders = new ArrayList<>();
+      for (int writer = 0; writer < 2; writer++) {
+        try (GameLogWriter log = new GameLogWriter(path)) {
+          for (int seed = 0; seed < 3; seed++) {
+            HeadlessGame game = new HeadlessGame(new AiPlayer(new Random(seed)),
+                new AiPlayer(new Random(seed + 10)), 15, 9 + seed, Fixtures.ofEach(seed + 1));
+            Recorder recorder = new Recorder(log.newGame());
+            game.setObserver(recorder);
+            game.run();
+            recorders.add(recorder);
+          }
+          assertEquals(3, log.getGames());
+        }
+      }
+
+      // a window smaller than a record maps a new window for every record
+      for (long window : new long[] {1 << 20, 16}) {
+        try (GameLogReader reader = new GameLogReader(path, window)) {
+          Iterator<GameRecord> records = reader.iterator();
+          for (int i = 0; i < recorders.size(); i++) {
+            Recorder expected = recorders.get(i);
+            assertTrue(records.hasNext());
+            GameRecord record = records.next();
+            assertEquals(expected.result, record.getResult());
+            assertEquals(expected.volleys.get(0).size(), record.getTurns());
+            assertEquals(15, record.getHeight());
+            assertEquals(9 + i % 3, record.getWidth());
+            for (int player = 0; player < 2; player++) {
+              assertEquals(expected.volleys.get(player), record.getVolleys(player));
+              assertEquals(expected.hits.get(player), record.getHits(player));
+              List<Ship> fleet = record.getFleet(player);
+              assertEquals(4 * (i % 3 + 1), fleet.size());
+              for (int s = 0; s < fleet.size(); s++) {
+                assertEquals(expected.fleets.get(player).get(s).getOccupiedCoords(),
+                    fleet.get(s).getOccupiedCoords());
+              }
+            }
+            assertThrows(IllegalArgumentException.class, () -> record.getVolleys(2));
+          }
+          assertFalse(records.hasNext());
+        }
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  /**
+   * Tests that a record cut off at the end of the log ends the iteration, and that files that
+   * are not logs are rejected
+   */
+  @Test
+  public void testDamagedLog() throws IOException {
+    Path path = Files.createTempFile("games", ".log");
+    Files.delete(path);
+    try {
+      try (GameLogWriter log = new GameLogWriter(path)) {
+        for (int seed = 0; seed < 2; seed++) {
+          HeadlessGame game = new HeadlessGame(new AiPlayer(new Random(seed)),
+              new AiPlayer(new Random(seed + 1)), 10, 10, Fixtures.ofEach(1));
+          game.setObserver(log.newGame());
+          game.run();
+        }
+      }
+      // the second record loses its last byte
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        channel.truncate(channel.size() - 1);
+      }
+      int games = 0;
+      try (GameLogReader reader = new GameLogReader(path)) {
+        for (GameRecord record : reader) {
+          assertTrue(record.getSize() > 10);
+          games++;
+        }
+      }
+      assertEquals(1, games);
+
+      Files.write(path, new byte[] {'n', 'o', 't', ' ', 'a', ' ', 'l', 'o', 'g'});
+      assertThrows(StreamCorruptedException.class, () -> new GameLogReader(path));
+      assertThrows(StreamCorruptedException.class, () -> new GameLogWriter(path));
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  /**
+   * Tests that a simulation records every game it plays
+   */
+  @Test
+  public void testSimulationLog() throws IOException {
+    Path path = Files.createTempFile("games", ".log");
+    Files.delete(path);
+    try {
+      Simulation simulation = new Simulation(8, 8, Fixtures.ofEach(1), AiPlayer::new,
+          AiPlayer::new);
+      SimulationReport report;
+      try (GameLogWriter log = new GameLogWriter(path)) {
+        report = simulation.run(50, 1, 4, log);
+      }
+      int wins = 0;
+      int games = 0;
+      try (GameLogReader reader = new GameLogReader(path)) {
+        for (GameRecord record : reader) {
+          games++;
+          wins += record.getResult() == GameResult.WIN ? 1 : 0;
+        }
+      }
+      assertEquals(50, games);
+      assertEquals(report.getWins(), wins);
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package cs3500.pa03.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.Fixtures;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.SalvoTargetStrategy;
+import cs3500.pa03.model.Ship;
+import cs3500.pa03.model.ShipOrientation;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test GameStatistics
+ */
+class GameStatisticsTest {
+  /**
+   * Tests the statistics of two games told to their observers by hand
+   */
+  @Test
+  public void testStatistics() {
+    GameStatistics stats = new GameStatistics();
+    assertEquals(0, stats.getMeanTurns(), 0.0001);
+    assertEquals(0, stats.getTurnVariance(), 0.0001);
+    assertThrows(IllegalArgumentException.class, () -> stats.getHitRate(2, 1));
+
+    // a game of one turn, where the first player sinks a ship of length one
+    GameObserver first = stats.newGame();
+    Ship ship = new Ship(Coord.of(2, 3), ShipOrientation.HORIZONTAL, 1);
+    first.fleetsPlaced(6, 6, List.of(new Ship(Coord.of(0, 0), ShipOrientation.VERTICAL, 3)),
+        List.of(ship));
+    ship.receiveShot(Coord.of(2, 3));
+    first.turnPlayed(List.of(Coord.of(1, 1), Coord.of(2, 3)), List.of(Coord.of(2, 3)),
+        List.of(Coord.of(5, 5)), List.of());
+    first.gameEnded(GameResult.WIN);
+
+    // a game of three turns, where neither player hits until the last
+    GameObserver second = stats.newGame();
+    second.fleetsPlaced(8, 7, List.of(), List.of());
+    second.turnPlayed(List.of(Coord.of(0, 0)), List.of(), List.of(Coord.of(0, 0)), List.of());
+    second.turnPlayed(List.of(Coord.of(1, 0)), List.of(), List.of(Coord.of(1, 0)), List.of());
+    second.turnPlayed(List.of(Coord.of(2, 0)), List.of(), List.of(Coord.of(6, 7)),
+        List.of(Coord.of(6, 7)));
+    second.gameEnded(GameResult.DRAW);
+
+    assertEquals(2, stats.getGames());
+    assertEquals(1, stats.count(GameResult.WIN));
+    assertEquals(0, stats.count(GameResult.LOSE));
+    assertEquals(2, stats.getMeanTurns(), 0.0001);
+    assertEquals(2, stats.getTurnVariance(), 0.0001);
+    assertEquals(3, stats.getTurnQuantile(1));
+
+    assertEquals(1 / 3.0, stats.getHitRate(0, 1), 0.0001);
+    assertEquals(0, stats.getHitRate(0, 2), 0.0001);
+    assertEquals(1, stats.getHitRate(1, 3), 0.0001);
+    assertEquals(0, stats.getHitRate(1, 4), 0.0001);
+    assertEquals(5 / 4.0, stats.getMeanVolleySize(0), 0.0001);
+    assertEquals(1, stats.getFirstHits(0)[3][2]);
+    assertEquals(1, stats.getFirstHits(1)[7][6]);
+    assertEquals(0, stats.getFirstHits(1)[0][0]);
+
+    assertEquals(1, stats.getSinks(0));
+    assertEquals(1, stats.getSinkTurnQuantile(0, 0.5));
+    assertEquals(0, stats.getSinks(1));
+    assertTrue(stats.toString().startsWith("Games: 2 (1 wins, 0 losses, 1 draws for seat 0)"));
+  }
+
+  /**
+   * Tests that statistics kept by many threads match those kept by one
+   */
+  @Test
+  public void testSimulation() {
+    Simulation simulation = new Simulation(10, 10, Fixtures.oneOfEach(),
+        rand -> new AiPlayer(rand, new SalvoTargetStrategy()), AiPlayer::new);
+    GameStatistics single = new GameStatistics();
+    GameStatistics parallel = new GameStatistics();
+    SimulationReport report = simulation.run(200, 9, 1, single);
+    simulation.run(200, 9, 4, parallel, new GameStatistics());
+
+    assertEquals(200, single.getGames());
+    assertEquals(report.getWins(), single.count(GameResult.WIN));
+    assertEquals(report.getMeanTurns(), single.getMeanTurns(), 0.0001);
+    assertEquals(single.getTurnVariance(), parallel.getTurnVariance(), 0.0001);
+    assertEquals(single.getSinks(0), parallel.getSinks(0));
+    for (int turn = 1; turn < 10; turn++) {
+      assertEquals(single.getHitRate(1, turn), parallel.getHitRate(1, turn), 0.0001);
+    }
+    // every ship that is sunk by a winner is counted, so a win is four sinks
+    assertTrue(single.getSinks(0) >= 4 * single.count(GameResult.WIN));
+  }
+}
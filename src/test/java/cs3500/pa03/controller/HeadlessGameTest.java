@@ -0,0 +1,54 @@
+package cs3500.pa03.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.Fixtures;
+import cs3500.pa03.model.GameResult;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test HeadlessGame
+ */
+class HeadlessGameTest {
+  /**
+   * Tests that a game between two identically seeded AIs is a tie
+   */
+  @Test
+  public void testTieGame() {
+    HeadlessGame game = new HeadlessGame(new AiPlayer(new Random(1)),
+        new AiPlayer(new Random(1)), 6, 6, Fixtures.oneOfEach());
+    assertThrows(IllegalStateException.class, game::getResult);
+
+    game.run();
+    assertEquals(GameResult.DRAW, game.getResult());
+    assertTrue(game.getTurns() > 0);
+  }
+
+  /**
+   * Tests that games with the same seeds play out the same, and that the result is from
+   * the first player's point of view
+   */
+  @Test
+  public void testRepeatable() {
+    HeadlessGame first = new HeadlessGame(new AiPlayer(new Random(1)),
+        new AiPlayer(new Random(2)), 6, 6, Fixtures.oneOfEach());
+    HeadlessGame second = new HeadlessGame(new AiPlayer(new Random(1)),
+        new AiPlayer(new Random(2)), 6, 6, Fixtures.oneOfEach());
+    HeadlessGame swapped = new HeadlessGame(new AiPlayer(new Random(2)),
+        new AiPlayer(new Random(1)), 6, 6, Fixtures.oneOfEach());
+    first.run();
+    second.run();
+    swapped.run();
+
+    // the same matchup as in ManualControllerTest, which player 1 loses
+    assertEquals(GameResult.LOSE, first.getResult());
+    assertEquals(GameResult.LOSE, second.getResult());
+    assertEquals(first.getTurns(), second.getTurns());
+    assertEquals(GameResult.WIN, swapped.getResult());
+    assertEquals(first.getTurns(), swapped.getTurns());
+  }
+}
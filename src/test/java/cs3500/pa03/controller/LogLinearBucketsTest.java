@@ -0,0 +1,44 @@
+package cs3500.pa03.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test LogLinearBuckets
+ */
+class LogLinearBucketsTest {
+  /**
+   * Tests that buckets cannot be made with a linear limit that is not a power of two, or that
+   * is too small for its sub-buckets
+   */
+  @Test
+  public void testInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> new LogLinearBuckets(24, 3));
+    assertThrows(IllegalArgumentException.class, () -> new LogLinearBuckets(4, 3));
+    assertThrows(IllegalArgumentException.class, () -> new LogLinearBuckets(16, -1));
+  }
+
+  /**
+   * Tests that the buckets are contiguous and cover every non-negative long, for a linear
+   * limit that is larger than it needs to be
+   */
+  @Test
+  public void testBuckets() {
+    LogLinearBuckets buckets = new LogLinearBuckets(64, 2);
+    assertEquals(64 + (63 - 6) * 4, buckets.count());
+    assertEquals(63, buckets.upperBoundOf(buckets.bucketOf(63)));
+    // 64 to 79 is the first quarter of its power of two
+    assertEquals(64, buckets.bucketOf(64));
+    assertEquals(79, buckets.upperBoundOf(64));
+    assertEquals(65, buckets.bucketOf(80));
+
+    for (int bucket = 1; bucket < buckets.count(); bucket++) {
+      long start = buckets.upperBoundOf(bucket - 1) + 1;
+      assertEquals(bucket, buckets.bucketOf(start));
+      assertEquals(bucket, buckets.bucketOf(buckets.upperBoundOf(bucket)));
+    }
+    assertEquals(Long.MAX_VALUE, buckets.upperBoundOf(buckets.count() - 1));
+  }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.Fixtures;
+import cs3500.pa03.model.GameResult;
 import cs3500.pa03.model.HumanPlayer;
 import cs3500.pa03.model.Player;
 import cs3500.pa03.view.GameView;
@@ -91,4 +93,25 @@ class ManualControllerTest {
       fail();
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests that an observer of a manual game is told of the same moves as one of a HeadlessGame
+   * between the same players
+   */
+  @Test
+  public void testObserver() {
+    GameView view = new SalvoView(new StringReader("6 6\n 1 1 1 1"), new StringBuilder());
+    ManualController controller = new ManualController(new AiPlayer(new Random(1)),
+        new AiPlayer(new Random(2)), view);
+    GameStatistics statistics = new GameStatistics();
+    controller.setObserver(statistics.newGame());
+    controller.run();
+
+    HeadlessGame headless = new HeadlessGame(new AiPlayer(new Random(1)),
+        new AiPlayer(new Random(2)), 6, 6, Fixtures.oneOfEach());
+    headless.run();
+    assertEquals(1, statistics.getGames());
+    assertEquals(1, statistics.count(GameResult.LOSE));
+    assertEquals(headless.getTurns(), statistics.getMeanTurns(), 0.0001);
+  }
+}
@@ -0,0 +1,65 @@
+package cs3500.pa03.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test QuantileSketch
+ */
+class QuantileSketchTest {
+  /**
+   * Tests that every value falls in a bucket whose upper bound is within 6.25% of it
+   */
+  @Test
+  public void testBuckets() {
+    long[] values = {0, 1, 31, 32, 33, 100, 1000, 123456789, Long.MAX_VALUE / 3};
+    for (long value : values) {
+      int bucket = QuantileSketch.BUCKETS.bucketOf(value);
+      long upper = QuantileSketch.BUCKETS.upperBoundOf(bucket);
+      assertTrue(upper >= value);
+      assertTrue(upper - value <= value / 16);
+      // the bucket before ends just before this one starts
+      if (bucket > 0) {
+        assertTrue(QuantileSketch.BUCKETS.upperBoundOf(bucket - 1) < value);
+      }
+    }
+    assertEquals(QuantileSketch.BUCKETS.bucketOf(32), QuantileSketch.BUCKETS.bucketOf(33));
+    assertEquals(31, QuantileSketch.BUCKETS.upperBoundOf(31));
+  }
+
+  /**
+   * Tests that quantiles are found, including of values recorded from many threads at once
+   */
+  @Test
+  public void testQuantiles() throws InterruptedException {
+    QuantileSketch sketch = new QuantileSketch();
+    assertEquals(0, sketch.getQuantile(0.5));
+
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        for (int i = 1; i <= 1000; i++) {
+          sketch.record(i);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    sketch.record(-3);
+
+    assertEquals(4001, sketch.getCount());
+    assertEquals(0, sketch.getQuantile(0));
+    assertEquals(1000, sketch.getQuantile(1));
+    long median = sketch.getQuantile(0.5);
+    assertTrue(median >= 500 && median <= 500 * 17 / 16);
+    // small values are exact
+    assertEquals(20, sketch.getQuantile(0.02));
+  }
+}
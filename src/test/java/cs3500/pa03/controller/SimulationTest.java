@@ -0,0 +1,69 @@
+package cs3500.pa03.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.Fixtures;
+import cs3500.pa03.model.SalvoTargetStrategy;
+import cs3500.pa03.model.ShipType;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test Simulation and SimulationReport
+ */
+class SimulationTest {
+  /**
+   * Tests that invalid simulations are not allowed
+   */
+  @Test
+  public void testInvalid() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new Simulation(5, 6, Fixtures.ofEach(1), AiPlayer::new, AiPlayer::new));
+    assertThrows(IllegalArgumentException.class,
+        () -> new Simulation(6, 6, Fixtures.ofEach(0), AiPlayer::new, AiPlayer::new));
+    Map<ShipType, Integer> negative = Fixtures.ofEach(1);
+    negative.put(ShipType.CARRIER, -1);
+    assertThrows(IllegalArgumentException.class,
+        () -> new Simulation(6, 6, negative, AiPlayer::new, AiPlayer::new));
+
+    Simulation simulation = new Simulation(6, 6, Fixtures.ofEach(1), AiPlayer::new, AiPlayer::new);
+    assertThrows(IllegalArgumentException.class, () -> simulation.run(-1, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> simulation.run(10, 0, 0));
+  }
+
+  /**
+   * Tests that every game is counted, and that the results only depend on the seed
+   */
+  @Test
+  public void testResults() {
+    Simulation simulation = new Simulation(8, 8, Fixtures.ofEach(1),
+        rand -> new AiPlayer(rand, new SalvoTargetStrategy()), AiPlayer::new);
+    SimulationReport single = simulation.run(200, 5, 1);
+    SimulationReport parallel = simulation.run(200, 5, 4);
+
+    assertEquals(200, single.getGames());
+    assertEquals(200, single.getWins() + single.getLosses() + single.getDraws());
+    assertEquals(200, Arrays.stream(single.getTurnCounts()).sum());
+    assertEquals(single.getWins(), parallel.getWins());
+    assertEquals(single.getDraws(), parallel.getDraws());
+    assertTrue(Arrays.equals(single.getTurnCounts(), parallel.getTurnCounts()));
+    // the joint salvo strategy beats hunting neighbors most of the time
+    assertTrue(single.getWins() > single.getLosses());
+
+    // every game has at least as many turns as the smallest ship's length
+    assertTrue(single.getTurnPercentile(Double.MIN_VALUE) >= 3);
+    assertTrue(single.getTurnPercentile(0.5) <= single.getTurnPercentile(1));
+    assertTrue(single.getMeanTurns() >= single.getTurnPercentile(Double.MIN_VALUE));
+    assertTrue(single.getGamesPerSecond() > 0);
+    assertTrue(single.toString().startsWith("Games: 200 in "));
+
+    SimulationReport empty = simulation.run(0, 5, 2);
+    assertEquals(0, empty.getGames());
+    assertEquals(0, empty.getMeanTurns(), 0.0001);
+    assertEquals(0, empty.getTurnPercentile(0.5));
+  }
+}
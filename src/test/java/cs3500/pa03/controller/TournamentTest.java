@@ -0,0 +1,99 @@
+package cs3500.pa03.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.Fixtures;
+import cs3500.pa03.model.Player;
+import cs3500.pa03.model.SalvoTargetStrategy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test Tournament and TournamentReport
+ */
+class TournamentTest {
+  /**
+   * Returns three entrants: two that hunt around hits, and one that fires joint salvos
+   *
+   * @return the entrants, in order
+   */
+  private Map<String, Function<RandomGenerator, Player>> entrants() {
+    Map<String, Function<RandomGenerator, Player>> entrants = new LinkedHashMap<>();
+    entrants.put("hunt", AiPlayer::new);
+    entrants.put("salvo", rand -> new AiPlayer(rand, new SalvoTargetStrategy()));
+    entrants.put("hunt2", AiPlayer::new);
+    return entrants;
+  }
+
+  /**
+   * Tests that invalid tournaments are not allowed
+   */
+  @Test
+  public void testInvalid() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new Tournament.Arena(6, 16, Fixtures.ofEach(1)));
+    assertThrows(IllegalArgumentException.class,
+        () -> new Tournament.Arena(6, 6, Fixtures.ofEach(0)));
+    List<Tournament.Arena> arenas = List.of(new Tournament.Arena(6, 6, Fixtures.ofEach(1)));
+    assertThrows(IllegalArgumentException.class,
+        () -> new Tournament(Map.of("hunt", AiPlayer::new), arenas));
+    assertThrows(IllegalArgumentException.class,
+        () -> new Tournament(this.entrants(), List.of()));
+
+    Tournament tournament = new Tournament(this.entrants(), arenas);
+    assertThrows(IllegalArgumentException.class, () -> tournament.run(-1, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> tournament.run(1, 0, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> tournament.run(1, 0, 1).getElo("human"));
+  }
+
+  /**
+   * Tests that every pairing plays in every arena, and that the results only depend on the
+   * seed
+   */
+  @Test
+  public void testResults() {
+    Tournament tournament = new Tournament(this.entrants(), List.of(
+        new Tournament.Arena(8, 8, Fixtures.ofEach(1)),
+        new Tournament.Arena(10, 6, Fixtures.ofEach(2))));
+    TournamentReport single = tournament.run(20, 3, 1);
+    TournamentReport parallel = tournament.run(20, 3, 4);
+
+    // three pairings in two arenas, twenty times each
+    assertEquals(120, single.getGames());
+    assertEquals(List.of("hunt", "salvo", "hunt2"), single.getEntrants());
+    for (String name : single.getEntrants()) {
+      assertEquals(80, single.getWins(name) + single.getLosses(name) + single.getDraws(name));
+      assertEquals(single.getWins(name), parallel.getWins(name));
+      assertEquals(single.getElo(name), parallel.getElo(name), 0.0001);
+
+      double[] interval = single.getConfidenceInterval(name);
+      assertTrue(interval[0] < single.getScore(name) && single.getScore(name) < interval[1]);
+      assertTrue(interval[0] >= 0 && interval[1] <= 1);
+    }
+
+    // ratings are zero-sum, and the joint salvo strategy beats hunting neighbors
+    double total = 0;
+    for (String name : single.getEntrants()) {
+      total += single.getElo(name);
+    }
+    assertEquals(3 * TournamentReport.INITIAL_ELO, total, 0.0001);
+    assertTrue(single.getElo("salvo") > single.getElo("hunt"));
+    assertTrue(single.getElo("salvo") > single.getElo("hunt2"));
+    assertTrue(single.getScore("salvo") > 0.5);
+    assertEquals(1, single.getHeadToHead("salvo", "hunt")
+        + single.getHeadToHead("hunt", "salvo"), 0.0001);
+    assertEquals(0.5, single.getHeadToHead("salvo", "salvo"), 0.0001);
+
+    assertTrue(single.getGamesPerSecond() > 0);
+    assertTrue(single.toString().startsWith("Games: 120 in 2 arenas in "));
+    assertTrue(single.toString().contains(System.lineSeparator() + "salvo "));
+  }
+}
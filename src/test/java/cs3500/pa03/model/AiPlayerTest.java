@@ -3,13 +3,19 @@ package cs3500.pa03.model;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.Test;
 
 class AiPlayerTest {
@@ -67,18 +73,19 @@ class AiPlayerTest {
     
     // tests that takeShots generates a random list of shots among possible targets
     // since we use a seeded random, it will always be this list of shots
-    List<Coord> shotsTaken1 = new ArrayList<>(Arrays.asList(new Coord(4, 2), new Coord(3, 3), 
-        new Coord(3, 0), new Coord(0, 0), new Coord(1, 2)));
+    // every shot has (x + y) % 3 == 0, since those cells are preferred while they are left
+    List<Coord> shotsTaken1 = new ArrayList<>(Arrays.asList(new Coord(2, 4), new Coord(0, 3), 
+        new Coord(2, 1), new Coord(5, 1), new Coord(3, 3)));
 
     assertEquals(shotsTaken1, ai.takeShots());
     // update some of those shots to be hits (3, 3) and some to be misses (everything else)
     ai.successfulHits(List.of(new Coord(3, 3)));
 
     // none of these shots taken will be the same as the shots taken above
-    // note that the shots here are neighboring to (3, 3)
-    // also, (3, 2) is not shot at, even though it is neighboring, since it has been hit before
+    // note that the first four shots are the neighbors of (3, 3),
+    // and only the last shot is random
     List<Coord> shotsTaken2 = new ArrayList<>(Arrays.asList(new Coord(4, 3), new Coord(3, 4),
-        new Coord(2, 3), new Coord(3, 2), new Coord(1, 5)));
+        new Coord(2, 3), new Coord(3, 2), new Coord(3, 0)));
     
     assertEquals(shotsTaken2, ai.takeShots());
     // mark all of those shots as misses, to clear internal state
@@ -94,7 +101,7 @@ class AiPlayerTest {
     
     // at this point, there is only one coordinate left that has not been shot at
     // since we seeded the random generator, we know it will always be this coord:
-    assertEquals(List.of(new Coord(5, 0)), ai.takeShots());
+    assertEquals(List.of(new Coord(3, 5)), ai.takeShots());
   }
 
   /**
@@ -121,4 +128,128 @@ class AiPlayerTest {
     assertDoesNotThrow(() -> ai.successfulHits(List.of()));
     assertDoesNotThrow(() -> ai.endGame(GameResult.WIN, "win"));
   }
-}
\ No newline at end of file
+
+  /**
+   * Plays a few volleys of a seeded AiPlayer on the given player and returns its shots, with
+   * the first shot of each volley reported as a hit
+   *
+   * @param ai the player to play with
+   * @param sinkBetween whether to sink one of the player's ships between hits and shots
+   * @return every volley the player took
+   */
+  private List<List<Coord>> playVolleys(Player ai, boolean sinkBetween) {
+    List<Ship> ships = ai.setup(8, 8, Fixtures.oneOfEach());
+    List<List<Coord>> volleys = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      List<Coord> shots = ai.takeShots();
+      volleys.add(shots);
+      ai.successfulHits(shots.subList(0, 1));
+      if (sinkBetween) {
+        ai.reportDamage(new ArrayList<>(ships.get(i).getOccupiedCoords()));
+      }
+    }
+    ai.endGame(GameResult.DRAW, "done");
+    return volleys;
+  }
+
+  /**
+   * Tests that planning volleys ahead of time chooses the same volleys as planning them when
+   * they are asked for, whether or not the plans get to run first
+   */
+  @Test
+  public void testSpeculation() {
+    List<List<Coord>> expected = this.playVolleys(new AiPlayer(new Random(4)), false);
+
+    // plans that run as soon as the hits are known are used as they are
+    assertEquals(expected, this.playVolleys(new AiPlayer(new Random(4),
+        new HuntTargetStrategy(), Runnable::run), false));
+
+    // plans that never get to run are cancelled, and the volley is planned when asked for
+    List<Runnable> queued = new ArrayList<>();
+    assertEquals(expected, this.playVolleys(new AiPlayer(new Random(4),
+        new HuntTargetStrategy(), queued::add), false));
+    assertEquals(4, queued.size());
+    // running the cancelled plans afterwards does nothing
+    queued.forEach(Runnable::run);
+  }
+
+  /**
+   * Tests that a plan for a volley is replaced when one of the player's ships sinks before
+   * the volley is asked for
+   */
+  @Test
+  public void testSpeculationSink() {
+    List<List<Coord>> volleys = this.playVolleys(new AiPlayer(new Random(4),
+        new HuntTargetStrategy(), Runnable::run), true);
+    for (int i = 0; i < volleys.size(); i++) {
+      assertEquals(4 - i, volleys.get(i).size());
+    }
+
+    // plans run on another thread are waited for before the strategy is used again
+    ExecutorService speculator = Executors.newSingleThreadExecutor();
+    try {
+      for (int seed = 0; seed < 20; seed++) {
+        volleys = this.playVolleys(new AiPlayer(new Random(seed), new HuntTargetStrategy(),
+            speculator), true);
+        Set<Coord> fired = new HashSet<>();
+        for (int i = 0; i < volleys.size(); i++) {
+          assertEquals(4 - i, volleys.get(i).size());
+          for (Coord c : volleys.get(i)) {
+            assertTrue(fired.add(c));
+          }
+        }
+      }
+    } finally {
+      speculator.shutdown();
+    }
+  }
+
+  /**
+   * Tests that a plan which started and was then replaced after a sink draws nothing from the
+   * player's generator, so the volleys are those of a player that plans when asked for
+   */
+  @Test
+  public void testSpeculationSinkRepeatable() {
+    for (int seed = 0; seed < 20; seed++) {
+      List<List<Coord>> expected = this.playVolleys(new AiPlayer(new Random(seed)), true);
+
+      // each plan runs as soon as the hits are known, so each sink replaces a finished plan
+      assertEquals(expected, this.playVolleys(new AiPlayer(new Random(seed),
+          new HuntTargetStrategy(), Runnable::run), true));
+
+      ExecutorService speculator = Executors.newSingleThreadExecutor();
+      try {
+        assertEquals(expected, this.playVolleys(new AiPlayer(new Random(seed),
+            new HuntTargetStrategy(), speculator), true));
+      } finally {
+        speculator.shutdown();
+      }
+    }
+  }
+
+  /**
+   * Tests that a time limit bounds how long a player searches for each volley, whether the
+   * volley is planned when asked for or ahead of time
+   */
+  @Test
+  public void testTimeLimit() {
+    // without a limit, this many samples would take far longer than the test allows
+    AiPlayer ai = new AiPlayer(new Random(2),
+        new MonteCarloTargetStrategy(100_000_000, Duration.ofMinutes(1)));
+    ai.setTimeLimit(Duration.ofMillis(20));
+    long start = System.nanoTime();
+    List<List<Coord>> volleys = this.playVolleys(ai, false);
+    assertTrue(System.nanoTime() - start < 2_000_000_000L);
+    assertEquals(4, volleys.size());
+
+    AiPlayer speculating = new AiPlayer(new Random(2),
+        new MonteCarloTargetStrategy(100_000_000, Duration.ofMinutes(1)), Runnable::run);
+    speculating.setTimeLimit(Duration.ofMillis(20));
+    start = System.nanoTime();
+    volleys = this.playVolleys(speculating, false);
+    assertTrue(System.nanoTime() - start < 2_000_000_000L);
+    for (List<Coord> volley : volleys) {
+      assertEquals(4, volley.size());
+    }
+  }
+}
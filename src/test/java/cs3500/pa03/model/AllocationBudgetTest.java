@@ -0,0 +1,164 @@
+package cs3500.pa03.model;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test that the hot paths of AiPlayer stay within budgets of bytes
+ * allocated per call, and that a live game stays within a budget of retained heap. The budgets
+ * are about twice what each path allocates now, so that they only fail on real regressions.
+ */
+class AllocationBudgetTest {
+  // the games played before measuring, so that the measured calls are compiled
+  private static final int WARMUP_GAMES = 50;
+  private static final int MEASURED_GAMES = 100;
+
+  // the mean bytes allocated per call on a 10 x 10 board with two of each ship
+  private static final long SETUP_BUDGET = 8 * 1024;
+  private static final long HUNT_SHOTS_BUDGET = 512;
+  private static final long DENSITY_SHOTS_BUDGET = 1024;
+  private static final long SALVO_SHOTS_BUDGET = 2048;
+  private static final long SUCCESSFUL_HITS_BUDGET = 256;
+  private static final long REPORT_DAMAGE_BUDGET = 768;
+  // the retained bytes of both players of a game on a 10 x 10 board
+  private static final long GAME_RETAINED_BUDGET = 16 * 1024;
+
+  private final Map<ShipType, Integer> specs = Fixtures.ofEach(2);
+
+  /**
+   * Represents the bytes allocated by each of a player's methods, over all of its calls
+   */
+  private static class Tally {
+    private final long[] bytes = new long[Method.values().length];
+    private final long[] calls = new long[Method.values().length];
+
+    /**
+     * Represents the measured methods of a player
+     */
+    enum Method {
+      SETUP, TAKE_SHOTS, SUCCESSFUL_HITS, REPORT_DAMAGE
+    }
+
+    /**
+     * Adds a call of the given method
+     *
+     * @param method the method that was called
+     * @param since the bytes the thread had allocated when the call started
+     */
+    void add(Method method, long since) {
+      this.bytes[method.ordinal()] += AllocationMeter.allocatedBytes() - since;
+      this.calls[method.ordinal()]++;
+    }
+
+    /**
+     * Ensures that the given method allocated no more than the given budget per call
+     *
+     * @param method the method to check
+     * @param budget the most bytes the method may allocate per call, on average
+     */
+    void assertWithin(Method method, long budget) {
+      long mean = this.bytes[method.ordinal()] / Math.max(1, this.calls[method.ordinal()]);
+      assertTrue(mean <= budget,
+          method + " allocated " + mean + " bytes per call, over its budget of " + budget);
+    }
+  }
+
+  /**
+   * Plays games between players made by the given factory and hunting opponents, and tallies
+   * the bytes allocated by each call to the first player, once the warmup games are over
+   *
+   * @param factory makes the measured player from a random number generator
+   * @return the tally of the measured games
+   */
+  private Tally play(Function<RandomGenerator, AiPlayer> factory) {
+    Tally tally = new Tally();
+    for (int game = 0; game < WARMUP_GAMES + MEASURED_GAMES; game++) {
+      boolean measured = game >= WARMUP_GAMES;
+      Tally target = measured ? tally : new Tally();
+      AiPlayer player = factory.apply(new Random(game));
+      AiPlayer opponent = new AiPlayer(new Random(-game));
+
+      long start = AllocationMeter.allocatedBytes();
+      List<Ship> ships = player.setup(10, 10, this.specs);
+      target.add(Tally.Method.SETUP, start);
+      List<Ship> oppoShips = opponent.setup(10, 10, this.specs);
+
+      while (ships.stream().anyMatch(s -> !s.isSunk())
+          && oppoShips.stream().anyMatch(s -> !s.isSunk())) {
+        start = AllocationMeter.allocatedBytes();
+        List<Coord> shots = player.takeShots();
+        target.add(Tally.Method.TAKE_SHOTS, start);
+        List<Coord> hits = opponent.reportDamage(shots);
+        start = AllocationMeter.allocatedBytes();
+        player.successfulHits(hits);
+        target.add(Tally.Method.SUCCESSFUL_HITS, start);
+
+        List<Coord> oppoShots = opponent.takeShots();
+        start = AllocationMeter.allocatedBytes();
+        List<Coord> oppoHits = player.reportDamage(oppoShots);
+        target.add(Tally.Method.REPORT_DAMAGE, start);
+        opponent.successfulHits(oppoHits);
+      }
+    }
+    return tally;
+  }
+
+  /**
+   * Tests that each method of the default AiPlayer stays within its budget
+   */
+  @Test
+  public void testHuntBudgets() {
+    assumeTrue(AllocationMeter.isSupported());
+    Tally tally = this.play(AiPlayer::new);
+    tally.assertWithin(Tally.Method.SETUP, SETUP_BUDGET);
+    tally.assertWithin(Tally.Method.TAKE_SHOTS, HUNT_SHOTS_BUDGET);
+    tally.assertWithin(Tally.Method.SUCCESSFUL_HITS, SUCCESSFUL_HITS_BUDGET);
+    tally.assertWithin(Tally.Method.REPORT_DAMAGE, REPORT_DAMAGE_BUDGET);
+  }
+
+  /**
+   * Tests that taking shots with the other strategies stays within their budgets
+   */
+  @Test
+  public void testStrategyBudgets() {
+    assumeTrue(AllocationMeter.isSupported());
+    this.play(rand -> new AiPlayer(rand, new DensityTargetStrategy()))
+        .assertWithin(Tally.Method.TAKE_SHOTS, DENSITY_SHOTS_BUDGET);
+    this.play(rand -> new AiPlayer(rand, new SalvoTargetStrategy()))
+        .assertWithin(Tally.Method.TAKE_SHOTS, SALVO_SHOTS_BUDGET);
+  }
+
+  /**
+   * Tests that the boards, ships and strategies of a live game stay within their budget,
+   * leaving out what every game shares, and that the estimate counts them at all
+   */
+  @Test
+  public void testRetainedSize() {
+    Player[] game = {new AiPlayer(new Random(1)), new AiPlayer(new Random(2))};
+    Player[] other = {new AiPlayer(new Random(3)), new AiPlayer(new Random(4))};
+    for (Player p : game) {
+      p.setup(10, 10, this.specs);
+      // a volley is in flight partway through a turn
+      p.takeShots();
+    }
+    for (Player p : other) {
+      p.setup(10, 10, this.specs);
+    }
+
+    long retained = AllocationMeter.retainedBytes(game, other);
+    // each player has its own board and its opponent's, each a bitboard of the ship, hit and
+    // miss cells, and every bitboard has a bit for each cell of the largest board
+    long bitBoardBytes = (BattleSalvoConfig.MAX_HEIGHT * BattleSalvoConfig.MAX_WIDTH + 7) / 8;
+    assertTrue(retained >= 2 * 2 * 3 * bitBoardBytes,
+        "retained size of " + retained + " is too small");
+    assertTrue(retained <= GAME_RETAINED_BUDGET,
+        "a game retains " + retained + " bytes, over its budget of " + GAME_RETAINED_BUDGET);
+  }
+}
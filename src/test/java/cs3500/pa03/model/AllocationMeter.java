@@ -0,0 +1,191 @@
+package cs3500.pa03.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the measurements that allocation-budget tests are made of: the bytes the current
+ * thread allocates while running some code, as counted by the JVM's per-thread allocation
+ * counters, and an estimate of the bytes of heap an object graph keeps alive.
+ */
+class AllocationMeter {
+  // the estimated sizes of an object header and a reference, with compressed pointers
+  private static final int HEADER_SIZE = 12;
+  private static final int ARRAY_HEADER_SIZE = 16;
+  private static final int REFERENCE_SIZE = 4;
+
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  /**
+   * Returns whether this JVM counts the bytes allocated by each thread, without which no
+   * allocations can be measured
+   *
+   * @return whether allocations can be measured
+   */
+  static boolean isSupported() {
+    return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+  }
+
+  /**
+   * Returns the total number of bytes the current thread has allocated so far
+   *
+   * @return the bytes allocated by the current thread
+   */
+  static long allocatedBytes() {
+    return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Estimates the bytes of heap kept alive by the first root that are not also reachable from
+   * the second, such as one game compared with another of the same size, which leaves out the
+   * tables and Coords that every game shares. Every object is sized as if by a 64-bit JVM with
+   * compressed pointers. The fields of the JDK's own objects are not followed, except for the
+   * elements of collections and maps.
+   *
+   * @param root the object graph to size
+   * @param other a similar object graph, which is only used to find what is shared
+   * @return the estimated retained size of the first root, in bytes
+   */
+  static long retainedBytes(Object root, Object other) {
+    Set<Object> shared = reachable(other);
+    long total = 0;
+    for (Object o : reachable(root)) {
+      if (!shared.contains(o)) {
+        total += shallowBytes(o);
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Returns every object reachable from the given root through instance fields, array
+   * elements, and the elements of collections and maps
+   *
+   * @param root the root of the object graph
+   * @return the reachable objects, compared by identity
+   */
+  private static Set<Object> reachable(Object root) {
+    Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<Object> pending = new ArrayDeque<>();
+    pending.push(root);
+    while (!pending.isEmpty()) {
+      Object o = pending.pop();
+      // enums and classes are never owned by a single game
+      if (o instanceof Enum<?> || o instanceof Class<?> || !seen.add(o)) {
+        continue;
+      }
+      for (Object child : children(o)) {
+        if (child != null) {
+          pending.push(child);
+        }
+      }
+    }
+    return seen;
+  }
+
+  /**
+   * Returns the objects the given object refers to directly
+   *
+   * @param o the object
+   * @return the objects it refers to, which may include nulls
+   */
+  private static List<Object> children(Object o) {
+    List<Object> children = new ArrayList<>();
+    Class<?> type = o.getClass();
+    if (type.isArray()) {
+      if (!type.getComponentType().isPrimitive()) {
+        for (int i = 0; i < Array.getLength(o); i++) {
+          children.add(Array.get(o, i));
+        }
+      }
+    } else if (!type.getName().startsWith("java.") && !type.getName().startsWith("jdk.")) {
+      for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+        for (Field f : c.getDeclaredFields()) {
+          if (!Modifier.isStatic(f.getModifiers()) && !f.getType().isPrimitive()) {
+            try {
+              f.setAccessible(true);
+              children.add(f.get(o));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+              // fields that cannot be read are left out of the estimate
+            }
+          }
+        }
+      }
+    } else if (o instanceof Collection<?> collection) {
+      children.addAll(collection);
+    } else if (o instanceof Map<?, ?> map) {
+      map.forEach((k, v) -> {
+        children.add(k);
+        children.add(v);
+      });
+    }
+    return children;
+  }
+
+  /**
+   * Estimates the bytes taken by the given object itself, not counting the objects it refers
+   * to. Collections and maps of the JDK are sized by their elements, since their fields
+   * cannot be read.
+   *
+   * @param o the object
+   * @return the estimated size of the object, in bytes
+   */
+  private static long shallowBytes(Object o) {
+    Class<?> type = o.getClass();
+    long size;
+    if (type.isArray()) {
+      Class<?> component = type.getComponentType();
+      size = ARRAY_HEADER_SIZE + (long) Array.getLength(o) * sizeOf(component);
+    } else if (o instanceof Collection<?> collection) {
+      // a backing array, or a node for each element
+      size = HEADER_SIZE + 4 * REFERENCE_SIZE + ARRAY_HEADER_SIZE
+          + (long) collection.size() * 2 * REFERENCE_SIZE;
+    } else if (o instanceof Map<?, ?> map) {
+      // a table of buckets, and an entry of a hash, key, value and next entry for each element
+      size = HEADER_SIZE + 4 * REFERENCE_SIZE + ARRAY_HEADER_SIZE
+          + (long) map.size() * (2 * REFERENCE_SIZE + HEADER_SIZE + 4 + 3 * REFERENCE_SIZE);
+    } else {
+      size = HEADER_SIZE;
+      for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+        for (Field f : c.getDeclaredFields()) {
+          if (!Modifier.isStatic(f.getModifiers())) {
+            size += sizeOf(f.getType());
+          }
+        }
+      }
+    }
+    // objects are aligned to 8 bytes
+    return (size + 7) / 8 * 8;
+  }
+
+  /**
+   * Returns the bytes taken by a field or array element of the given type
+   *
+   * @param type the type of the field or element
+   * @return its size, in bytes
+   */
+  private static int sizeOf(Class<?> type) {
+    if (type == long.class || type == double.class) {
+      return 8;
+    } else if (type == int.class || type == float.class) {
+      return 4;
+    } else if (type == short.class || type == char.class) {
+      return 2;
+    } else if (type == byte.class || type == boolean.class) {
+      return 1;
+    }
+    return REFERENCE_SIZE;
+  }
+}
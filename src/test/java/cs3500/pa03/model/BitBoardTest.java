@@ -0,0 +1,104 @@
+package cs3500.pa03.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test BitBoard
+ */
+class BitBoardTest {
+  /**
+   * Tests setting, clearing, and indexing individual cells
+   */
+  @Test
+  public void testCells() {
+    assertThrows(IllegalArgumentException.class, () -> new BitBoard(5, 6));
+    assertThrows(IllegalArgumentException.class, () -> new BitBoard(6, 16));
+
+    BitBoard b = new BitBoard(15, 15);
+    assertEquals(225, b.size());
+    assertTrue(b.isEmpty());
+
+    // cells are stored row by row
+    assertEquals(0, b.indexOf(new Coord(0, 0)));
+    assertEquals(16, b.indexOf(new Coord(1, 1)));
+    assertEquals(224, b.indexOf(new Coord(14, 14)));
+    assertEquals(new Coord(14, 14), b.coordOf(224));
+    assertThrows(IllegalArgumentException.class, () -> b.indexOf(new Coord(15, 0)));
+
+    // the last cell is in the fourth word
+    b.set(224);
+    b.set(63);
+    b.set(64);
+    assertTrue(b.get(224));
+    assertTrue(b.get(63));
+    assertFalse(b.get(62));
+    assertEquals(3, b.cardinality());
+
+    b.clear(63);
+    assertFalse(b.get(63));
+    assertEquals(2, b.cardinality());
+  }
+
+  /**
+   * Tests the set operations between BitBoards
+   */
+  @Test
+  public void testSetOperations() {
+    BitBoard a = new BitBoard(6, 6);
+    BitBoard b = new BitBoard(6, 6);
+    a.set(1);
+    a.set(2);
+    b.set(2);
+    b.set(35);
+
+    assertTrue(a.intersects(b));
+    assertEquals(3, new BitBoard(a).or(b).cardinality());
+    assertEquals(1, new BitBoard(a).and(b).cardinality());
+    assertEquals(1, new BitBoard(a).andNot(b).cardinality());
+    // copies do not affect the original
+    assertEquals(2, a.cardinality());
+
+    // complements only contain cells that are on the board
+    assertEquals(34, new BitBoard(a).not().cardinality());
+    assertEquals(36, new BitBoard(6, 6).fill().cardinality());
+    assertTrue(new BitBoard(a).clearAll().isEmpty());
+    assertEquals(new BitBoard(a), new BitBoard(a));
+
+    // operations between different dimensions are not allowed
+    assertThrows(IllegalArgumentException.class, () -> a.or(new BitBoard(7, 6)));
+    assertThrows(IllegalArgumentException.class, () -> a.intersects(new BitBoard(6, 7)));
+  }
+
+  /**
+   * Tests iterating over set cells and reading and writing whole rows
+   */
+  @Test
+  public void testIterationAndRows() {
+    BitBoard b = new BitBoard(15, 15);
+    b.set(3);
+    b.set(70);
+    b.set(200);
+
+    List<Integer> indices = new ArrayList<>();
+    for (int i = b.nextSetBit(0); i >= 0; i = b.nextSetBit(i + 1)) {
+      indices.add(i);
+    }
+    assertEquals(List.of(3, 70, 200), indices);
+    assertEquals(-1, b.nextSetBit(201));
+
+    // row 4 spans bits 60 to 74, which straddles the first and second words
+    // and already contains (10, 4) from above
+    b.orRow(4, 0b111100000000001);
+    assertEquals(0b111110000000001, b.getRow(4));
+    assertTrue(b.get(60));
+    assertTrue(b.get(74));
+    assertEquals(0, b.getRow(5));
+  }
+}
@@ -1,5 +1,8 @@
 package cs3500.pa03.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -14,4 +17,19 @@ class CoordTest {
     assertThrows(IllegalArgumentException.class, () -> new Coord(0, -1));
     assertThrows(IllegalArgumentException.class, () -> new Coord(-1, 0));
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests that Coords on the largest board are shared, and are equal to constructed Coords
+   */
+  @Test
+  public void testCoordCache() {
+    assertSame(Coord.of(3, 4), Coord.of(3, 4));
+    assertSame(Coord.of(14, 14), Coord.of(14, 14));
+    assertEquals(new Coord(3, 4), Coord.of(3, 4));
+
+    // coords off of every board can still be made, but are not shared
+    assertEquals(new Coord(15, 0), Coord.of(15, 0));
+    assertNotSame(Coord.of(15, 0), Coord.of(15, 0));
+    assertThrows(IllegalArgumentException.class, () -> Coord.of(-1, 0));
+  }
+}
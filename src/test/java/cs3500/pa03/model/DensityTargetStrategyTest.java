@@ -0,0 +1,81 @@
+package cs3500.pa03.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test DensityTargetStrategy
+ */
+class DensityTargetStrategyTest {
+  /**
+   * Tests that cells are scored by how many placements cover them
+   */
+  @Test
+  public void testScores() {
+    DensityTargetStrategy strategy = new DensityTargetStrategy();
+    strategy.setup(6, 6, Fixtures.submarines(1));
+    Board board = new Board(6, 6);
+
+    strategy.planShots(board, 1, new Random(1));
+    int[] scores = strategy.getScores();
+    // a corner is covered by one horizontal and one vertical submarine,
+    // while (2, 2) is covered by three of each
+    assertEquals(2, scores[0]);
+    assertEquals(6, scores[2 * 6 + 2]);
+
+    // a miss removes every placement through it
+    board.setCellState(new Coord(1, 0), CellState.MISS);
+    strategy.planShots(board, 1, new Random(1));
+    scores = strategy.getScores();
+    assertEquals(1, scores[0]);
+    assertEquals(0, scores[1]);
+  }
+
+  /**
+   * Tests that shots follow up on hits, and never repeat a cell that was already fired at
+   */
+  @Test
+  public void testTargeting() {
+    DensityTargetStrategy strategy = new DensityTargetStrategy();
+    strategy.setup(6, 6, Fixtures.submarines(2));
+    Board board = new Board(6, 6);
+
+    // a hit with misses above and below can only belong to a horizontal ship
+    board.setCellState(new Coord(2, 2), CellState.HIT);
+    board.setCellState(new Coord(2, 1), CellState.MISS);
+    board.setCellState(new Coord(2, 3), CellState.MISS);
+    List<Coord> shots = strategy.planShots(board, 2, new Random(1));
+    assertEquals(Set.of(new Coord(1, 2), new Coord(3, 2)), new HashSet<>(shots));
+
+    // planning does not change anything, but firing does
+    assertEquals(shots, strategy.planShots(board, 2, new Random(1)));
+    strategy.shotsFired(shots);
+    List<Coord> next = strategy.planShots(board, 2, new Random(1));
+    assertFalse(next.contains(new Coord(1, 2)));
+    assertFalse(next.contains(new Coord(3, 2)));
+  }
+
+  /**
+   * Tests that a volley of no shots is empty, as it is once every ship has sunk
+   */
+  @Test
+  public void testEmptyVolley() {
+    DensityTargetStrategy strategy = new DensityTargetStrategy();
+    strategy.setup(6, 6, Fixtures.submarines(1));
+    assertEquals(List.of(), strategy.planShots(new Board(6, 6), 0, new Random(1)));
+  }
+
+  /**
+   * Tests that an AiPlayer using the strategy fires at every cell exactly once
+   */
+  @Test
+  public void testFullGame() {
+    Fixtures.assertFiresEveryCellOnce(new DensityTargetStrategy(), 6, Fixtures.submarines(5));
+  }
+}
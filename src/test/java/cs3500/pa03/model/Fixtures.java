@@ -0,0 +1,85 @@
+package cs3500.pa03.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Represents the fixtures shared between tests: fleet specifications, and the checks that
+ * every targeting strategy must pass
+ */
+public final class Fixtures {
+  /**
+   * Prevents this class of static helpers from being constructed
+   */
+  private Fixtures() {
+  }
+
+  /**
+   * Returns fleet specifications with the given number of each type of ship
+   *
+   * @param count the number of each type of ship
+   * @return the fleet specifications, which may be changed by the caller
+   */
+  public static Map<ShipType, Integer> ofEach(int count) {
+    Map<ShipType, Integer> specs = new EnumMap<>(ShipType.class);
+    for (ShipType type : ShipType.values()) {
+      specs.put(type, count);
+    }
+    return specs;
+  }
+
+  /**
+   * Returns fleet specifications with one ship of each type
+   *
+   * @return the fleet specifications, which may be changed by the caller
+   */
+  public static Map<ShipType, Integer> oneOfEach() {
+    return ofEach(1);
+  }
+
+  /**
+   * Returns fleet specifications with only the given number of submarines
+   *
+   * @param submarines the number of submarines
+   * @return the fleet specifications, which may be changed by the caller
+   */
+  public static Map<ShipType, Integer> submarines(int submarines) {
+    Map<ShipType, Integer> specs = ofEach(0);
+    specs.put(ShipType.SUBMARINE, submarines);
+    return specs;
+  }
+
+  /**
+   * Ensures that an AiPlayer using the given strategy, whose shots all miss, fires at every
+   * cell of a square board exactly once, and then has nothing left to fire at
+   *
+   * @param strategy the strategy to check
+   * @param size the height and width of the board
+   * @param specs the fleet of the game
+   */
+  static void assertFiresEveryCellOnce(TargetingStrategy strategy, int size,
+      Map<ShipType, Integer> specs) {
+    Player ai = new AiPlayer(new Random(1), strategy);
+    ai.setup(size, size, specs);
+    Set<Coord> fired = new HashSet<>();
+
+    while (fired.size() < size * size) {
+      List<Coord> shots = ai.takeShots();
+      // an empty volley before the board is covered would never finish it
+      assertFalse(shots.isEmpty());
+      for (Coord c : shots) {
+        assertTrue(fired.add(c));
+      }
+      ai.successfulHits(List.of());
+    }
+    assertEquals(List.of(), ai.takeShots());
+  }
+}
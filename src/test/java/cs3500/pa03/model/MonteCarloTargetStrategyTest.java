@@ -0,0 +1,113 @@
+package cs3500.pa03.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test MonteCarloTargetStrategy
+ */
+class MonteCarloTargetStrategyTest {
+  // long enough that only the sample budget limits sampling
+  private static final Duration NO_LIMIT = Duration.ofMinutes(1);
+
+  /**
+   * Tests that shots follow up on hits using the sampled layouts
+   */
+  @Test
+  public void testTargeting() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new MonteCarloTargetStrategy(0, NO_LIMIT));
+
+    MonteCarloTargetStrategy strategy = new MonteCarloTargetStrategy(2000, NO_LIMIT);
+    strategy.setup(8, 8, Fixtures.oneOfEach());
+    Board board = new Board(8, 8);
+
+    // a hit with misses above and below can only belong to a horizontal ship
+    board.setCellState(new Coord(3, 3), CellState.HIT);
+    board.setCellState(new Coord(3, 2), CellState.MISS);
+    board.setCellState(new Coord(3, 4), CellState.MISS);
+    List<Coord> shots = strategy.planShots(board, 2, new Random(1));
+    assertEquals(Set.of(new Coord(2, 3), new Coord(4, 3)), new HashSet<>(shots));
+    assertTrue(strategy.getLastSampleCount() >= 1000);
+  }
+
+  /**
+   * Tests that with only a sample budget, the shots only depend on the seed and not on how
+   * many threads sample
+   */
+  @Test
+  public void testDeterministicAcrossPools() {
+    ForkJoinPool single = new ForkJoinPool(1);
+    ForkJoinPool quad = new ForkJoinPool(4);
+    try {
+      MonteCarloTargetStrategy a = new MonteCarloTargetStrategy(1000, NO_LIMIT, single);
+      MonteCarloTargetStrategy b = new MonteCarloTargetStrategy(1000, NO_LIMIT, quad);
+      a.setup(10, 10, Fixtures.oneOfEach());
+      b.setup(10, 10, Fixtures.oneOfEach());
+      Board board = new Board(10, 10);
+      board.setCellState(new Coord(5, 5), CellState.HIT);
+      board.setCellState(new Coord(1, 1), CellState.MISS);
+
+      assertEquals(a.planShots(board, 4, new Random(7)), b.planShots(board, 4, new Random(7)));
+      assertEquals(a.getLastSampleCount(), b.getLastSampleCount());
+    } finally {
+      single.shutdown();
+      quad.shutdown();
+    }
+  }
+
+  /**
+   * Tests that a deadline cuts sampling short, and that a deadline that has already passed
+   * falls back to the shots of the density strategy without sampling
+   */
+  @Test
+  public void testDeadline() {
+    MonteCarloTargetStrategy strategy = new MonteCarloTargetStrategy(100_000_000, NO_LIMIT);
+    strategy.setup(10, 10, Fixtures.oneOfEach());
+    Board board = new Board(10, 10);
+    board.setCellState(new Coord(5, 5), CellState.HIT);
+
+    long start = System.nanoTime();
+    List<Coord> shots = strategy.planShots(board, 4, new Random(1), start + 20_000_000L);
+    assertTrue(System.nanoTime() - start < 1_000_000_000L);
+    assertEquals(4, new HashSet<>(shots).size());
+    assertTrue(strategy.getLastSampleCount() < 100_000_000);
+
+    DensityTargetStrategy density = new DensityTargetStrategy();
+    density.setup(10, 10, Fixtures.oneOfEach());
+    assertEquals(density.planShots(board, 4, new Random(1)),
+        strategy.planShots(board, 4, new Random(1), System.nanoTime() - 1));
+    assertEquals(0, strategy.getLastSampleCount());
+  }
+
+  /**
+   * Tests that a volley of no shots is empty, whether it is sampled or falls back to the
+   * density strategy
+   */
+  @Test
+  public void testEmptyVolley() {
+    MonteCarloTargetStrategy strategy = new MonteCarloTargetStrategy(200, NO_LIMIT);
+    strategy.setup(6, 6, Fixtures.oneOfEach());
+    Board board = new Board(6, 6);
+    assertEquals(List.of(), strategy.planShots(board, 0, new Random(1)));
+    assertEquals(List.of(), strategy.planShots(board, 0, new Random(1), System.nanoTime() - 1));
+  }
+
+  /**
+   * Tests that an AiPlayer using the strategy fires at every cell exactly once
+   */
+  @Test
+  public void testFullGame() {
+    Fixtures.assertFiresEveryCellOnce(new MonteCarloTargetStrategy(200, NO_LIMIT), 6,
+        Fixtures.oneOfEach());
+  }
+}
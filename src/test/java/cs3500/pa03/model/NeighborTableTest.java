@@ -0,0 +1,43 @@
+package cs3500.pa03.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test NeighborTable
+ */
+class NeighborTableTest {
+  /**
+   * Tests that neighbors are listed in order and that cells on the edge skip off-board neighbors
+   */
+  @Test
+  public void testNeighbors() {
+    NeighborTable table = NeighborTable.forSize(6, 8);
+
+    // neighbors are right, down, left, up
+    assertEquals(List.of(new Coord(3, 2), new Coord(2, 3), new Coord(1, 2), new Coord(2, 1)),
+        table.neighborsOf(new Coord(2, 2)));
+    // the top left corner only has neighbors to the right and below
+    assertEquals(List.of(new Coord(1, 0), new Coord(0, 1)), table.neighborsOf(new Coord(0, 0)));
+    // the bottom right corner only has neighbors to the left and above
+    assertEquals(List.of(new Coord(6, 5), new Coord(7, 4)), table.neighborsOf(new Coord(7, 5)));
+
+    assertThrows(IllegalArgumentException.class, () -> table.neighborsOf(new Coord(8, 0)));
+    assertThrows(IllegalArgumentException.class, () -> NeighborTable.forSize(5, 8));
+  }
+
+  /**
+   * Tests that tables are shared between boards of the same size
+   */
+  @Test
+  public void testSharedTables() {
+    assertSame(NeighborTable.forSize(10, 10), NeighborTable.forSize(10, 10));
+    // (5, 0) is a corner on a board 6 wide, but not on a board 10 wide
+    assertEquals(2, NeighborTable.forSize(10, 6).neighborsOf(new Coord(5, 0)).size());
+    assertEquals(3, NeighborTable.forSize(6, 10).neighborsOf(new Coord(5, 0)).size());
+  }
+}
@@ -0,0 +1,84 @@
+package cs3500.pa03.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test PlacementTable and Placement
+ */
+class PlacementTableTest {
+  /**
+   * Tests that the table contains exactly the placements that fit on the board
+   */
+  @Test
+  public void testPlacements() {
+    PlacementTable table = PlacementTable.forSize(6, 8);
+
+    // a carrier (length 6) fits in 3 columns of each of 6 rows horizontally,
+    // and in only the top row of each of 8 columns vertically
+    assertEquals(6 * 3 + 8, table.getPlacements(ShipType.CARRIER).size());
+    // a submarine (length 3) fits in 6 * 6 horizontal and 4 * 8 vertical places
+    assertEquals(6 * 6 + 4 * 8, table.getPlacements(ShipType.SUBMARINE).size());
+
+    Placement p = table.getPlacement(ShipType.DESTROYER, 4, 2, ShipOrientation.HORIZONTAL);
+    assertEquals(new Coord(4, 2), p.getOrigin());
+    assertEquals(ShipOrientation.HORIZONTAL, p.getOrientation());
+    assertEquals(ShipType.DESTROYER, p.getType());
+    assertEquals(4, p.getCells().cardinality());
+    assertEquals(0b11110000, p.getCells().getRow(2));
+
+    // placements that would run off of the board do not exist
+    assertNull(table.getPlacement(ShipType.DESTROYER, 5, 2, ShipOrientation.HORIZONTAL));
+    assertNull(table.getPlacement(ShipType.DESTROYER, 0, 3, ShipOrientation.VERTICAL));
+
+    assertSame(table, PlacementTable.forSize(6, 8));
+    assertThrows(IllegalArgumentException.class, () -> PlacementTable.forSize(6, 16));
+  }
+
+  /**
+   * Tests checking placements against occupied cells
+   */
+  @Test
+  public void testOccupancy() {
+    PlacementTable table = PlacementTable.forSize(6, 6);
+    BitBoard occupied = new BitBoard(6, 6);
+
+    Placement across = table.getPlacement(ShipType.CARRIER, 0, 0, ShipOrientation.HORIZONTAL);
+    Placement down = table.getPlacement(ShipType.CARRIER, 3, 0, ShipOrientation.VERTICAL);
+    Placement below = table.getPlacement(ShipType.CARRIER, 0, 1, ShipOrientation.HORIZONTAL);
+    assertFalse(across.intersects(occupied));
+
+    across.addTo(occupied);
+    assertTrue(down.intersects(occupied));
+    assertFalse(below.intersects(occupied));
+    assertEquals(6, occupied.cardinality());
+  }
+
+  /**
+   * Tests that crowded fleets can always be set up, and that impossible fleets are rejected
+   */
+  @Test
+  public void testCrowdedSetup() {
+    // six carriers only fit on a 6 x 6 board if they all face the same way
+    Player ai = new AiPlayer();
+    Map<ShipType, Integer> specs = new EnumMap<>(ShipType.class);
+    specs.put(ShipType.CARRIER, 6);
+    specs.put(ShipType.BATTLESHIP, 0);
+    specs.put(ShipType.DESTROYER, 0);
+    specs.put(ShipType.SUBMARINE, 0);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(6, ai.setup(6, 6, specs).size());
+    }
+
+    specs.put(ShipType.SUBMARINE, 1);
+    assertThrows(IllegalArgumentException.class, () -> ai.setup(6, 6, specs));
+  }
+}
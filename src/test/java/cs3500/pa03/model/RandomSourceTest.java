@@ -0,0 +1,57 @@
+package cs3500.pa03.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test RandomSource
+ */
+class RandomSourceTest {
+  /**
+   * Tests that children only depend on the seed and their indices
+   */
+  @Test
+  public void testDerive() {
+    RandomSource source = new RandomSource(42);
+    assertEquals(42, source.getSeed());
+    assertEquals(source.derive(7).getSeed(), new RandomSource(42).derive(7).getSeed());
+    assertEquals(source.derive(3).derive(1).generator().nextLong(),
+        new RandomSource(42).derive(3).derive(1).generator().nextLong());
+    assertNotEquals(source.derive(7).getSeed(), new RandomSource(43).derive(7).getSeed());
+
+    // nearby indices, and the same index at different depths, give different seeds
+    Set<Long> seeds = new HashSet<>();
+    for (int game = 0; game < 1000; game++) {
+      RandomSource child = source.derive(game);
+      seeds.add(child.getSeed());
+      seeds.add(child.derive(0).getSeed());
+      seeds.add(child.derive(1).getSeed());
+    }
+    assertEquals(3000, seeds.size());
+  }
+
+  /**
+   * Tests that every generator is a new one, and that next hands out children in order
+   */
+  @Test
+  public void testGenerators() {
+    RandomSource source = new RandomSource(5);
+    SplittableRandom a = source.generator();
+    SplittableRandom b = source.generator();
+    assertNotSame(a, b);
+    assertEquals(a.nextLong(), b.nextLong());
+
+    List<Long> expected = List.of(source.derive(0).generator().nextLong(),
+        source.derive(1).generator().nextLong());
+    assertEquals(expected, List.of(source.next().nextLong(), source.next().nextLong()));
+    assertSame(RandomSource.global(), RandomSource.global());
+  }
+}
@@ -0,0 +1,79 @@
+package cs3500.pa03.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test SalvoTargetStrategy
+ */
+class SalvoTargetStrategyTest {
+  /**
+   * Tests that the shots of a volley are chosen together, so that no two shots could
+   * hit the same ship
+   */
+  @Test
+  public void testJointVolley() {
+    SalvoTargetStrategy strategy = new SalvoTargetStrategy();
+    strategy.setup(6, 6, Fixtures.submarines(1));
+    List<Coord> shots = strategy.planShots(new Board(6, 6), 4, new Random(1));
+    assertEquals(4, new HashSet<>(shots).size());
+
+    // every pair of shots is far enough apart that no single submarine covers both
+    PlacementTable table = PlacementTable.forSize(6, 6);
+    for (Placement p : table.getPlacements(ShipType.SUBMARINE)) {
+      BitBoard cells = p.getCells();
+      int covered = 0;
+      for (Coord c : shots) {
+        if (cells.get(cells.indexOf(c))) {
+          covered++;
+        }
+      }
+      assertTrue(covered <= 1);
+    }
+  }
+
+  /**
+   * Tests that shots follow up on hits, and never repeat a cell that was already fired at
+   */
+  @Test
+  public void testTargeting() {
+    SalvoTargetStrategy strategy = new SalvoTargetStrategy();
+    strategy.setup(6, 6, Fixtures.submarines(2));
+    Board board = new Board(6, 6);
+
+    // a hit with misses above and below can only belong to a horizontal ship, and the two
+    // shots together hit every submarine that could be there
+    board.setCellState(new Coord(2, 2), CellState.HIT);
+    board.setCellState(new Coord(2, 1), CellState.MISS);
+    board.setCellState(new Coord(2, 3), CellState.MISS);
+    List<Coord> shots = strategy.planShots(board, 2, new Random(1));
+    PlacementTable table = PlacementTable.forSize(6, 6);
+    for (int x = 0; x <= 2; x++) {
+      BitBoard cells = table.getPlacement(ShipType.SUBMARINE, x, 2, ShipOrientation.HORIZONTAL)
+          .getCells();
+      assertTrue(shots.stream().anyMatch(c -> cells.get(cells.indexOf(c))));
+    }
+
+    // planning does not change anything, but firing does
+    assertEquals(shots, strategy.planShots(board, 2, new Random(1)));
+    strategy.shotsFired(shots);
+    List<Coord> next = strategy.planShots(board, 2, new Random(1));
+    for (Coord c : shots) {
+      assertFalse(next.contains(c));
+    }
+  }
+
+  /**
+   * Tests that an AiPlayer using the strategy fires at every cell exactly once
+   */
+  @Test
+  public void testFullGame() {
+    Fixtures.assertFiresEveryCellOnce(new SalvoTargetStrategy(), 6, Fixtures.submarines(5));
+  }
+}
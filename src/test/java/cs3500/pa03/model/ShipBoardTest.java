@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -83,4 +85,43 @@ class ShipBoardTest {
     assertFalse(smallBoard.isValidPlacement(new Coord(0, 0), ShipOrientation.VERTICAL,
         ShipType.CARRIER));
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests that sink events are published by ships and forwarded by the board
+   */
+  @Test
+  public void testSinkEvents() {
+    ShipBoard sb = new ShipBoard(6, 6);
+    List<Ship> boardSinks = new ArrayList<>();
+    sb.addSinkListener(boardSinks::add);
+
+    Ship sub = sb.createAndPlaceShip(new Coord(0, 0), ShipOrientation.VERTICAL, ShipType.SUBMARINE);
+    Ship carrier = sb.createAndPlaceShip(new Coord(0, 5), ShipOrientation.HORIZONTAL,
+        ShipType.CARRIER);
+    List<Ship> subSinks = new ArrayList<>();
+    sub.addSinkListener(subSinks::add);
+    assertEquals(2, sb.getUnsunkShipTotal());
+
+    // hitting part of a ship does not sink it
+    sb.receiveShot(new Coord(0, 0));
+    sb.receiveShot(new Coord(0, 1));
+    assertEquals(List.of(), boardSinks);
+    assertEquals(2, sb.getUnsunkShipTotal());
+
+    // the last segment sinks the ship, which notifies both listeners once
+    sb.receiveShot(new Coord(0, 2));
+    assertEquals(List.of(sub), boardSinks);
+    assertEquals(List.of(sub), subSinks);
+    assertEquals(1, sb.getUnsunkShipTotal());
+
+    // repeat shots on a sunk ship do not publish the event again
+    sb.receiveShot(new Coord(0, 2));
+    assertEquals(1, boardSinks.size());
+
+    for (int x = 0; x < 6; x++) {
+      sb.receiveShot(new Coord(x, 5));
+    }
+    assertEquals(List.of(sub, carrier), boardSinks);
+    assertEquals(0, sb.getUnsunkShipTotal());
+  }
+}
@@ -66,4 +66,25 @@ class ShipTest {
     // tests that repeat hits at locations return false
     assertFalse(s1.receiveShot(new Coord(2, 0)));
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests that a vertical ship is only hit by shots in its column and along its length
+   */
+  @Test
+  public void testVerticalHits() {
+    // vertical ship of size 4: occupies (2, 1), (2, 2), (2, 3), (2, 4)
+    Ship s = new Ship(new Coord(2, 1), ShipOrientation.VERTICAL, ShipType.DESTROYER);
+
+    // shots in the same rows but other columns, or in the same column past the ends, miss
+    assertFalse(s.receiveShot(new Coord(1, 2)));
+    assertFalse(s.receiveShot(new Coord(2, 0)));
+    assertFalse(s.receiveShot(new Coord(2, 5)));
+
+    for (int y = 1; y <= 4; y++) {
+      assertFalse(s.isSunk());
+      assertTrue(s.receiveShot(new Coord(2, y)));
+    }
+    assertTrue(s.isSunk());
+    assertEquals(4, s.getLength());
+  }
+}
@@ -0,0 +1,54 @@
+package cs3500.pa03.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test ShotPool
+ */
+class ShotPoolTest {
+  /**
+   * Tests removing specific cells from the pool
+   */
+  @Test
+  public void testRemove() {
+    ShotPool pool = new ShotPool(6, 7);
+    assertEquals(42, pool.size());
+    assertTrue(pool.contains(new Coord(6, 5)));
+
+    assertTrue(pool.remove(new Coord(6, 5)));
+    assertFalse(pool.contains(new Coord(6, 5)));
+    // removing a cell twice does nothing the second time
+    assertFalse(pool.remove(new Coord(6, 5)));
+    assertEquals(41, pool.size());
+  }
+
+  /**
+   * Tests that random cells are drawn by parity class, and that every cell is drawn exactly once
+   */
+  @Test
+  public void testRemoveRandom() {
+    ShotPool pool = new ShotPool(6, 6);
+    Random rand = new Random(1);
+    Set<Coord> drawn = new HashSet<>();
+
+    // 12 of the 36 cells are in each parity class, which are drawn in order
+    for (int parity = 0; parity < 3; parity++) {
+      for (int i = 0; i < 12; i++) {
+        Coord c = pool.removeRandom(rand);
+        assertEquals(parity, (c.x() + c.y()) % 3);
+        assertTrue(drawn.add(c));
+      }
+    }
+
+    assertEquals(0, pool.size());
+    assertThrows(IllegalStateException.class, () -> pool.removeRandom(rand));
+  }
+}
@@ -0,0 +1,149 @@
+package cs3500.pa04;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test AsyncLog
+ */
+class AsyncLogTest {
+  /**
+   * Tests that only events at or above the level are written, with their arguments filled in
+   */
+  @Test
+  public void testLevels() {
+    StringBuilder out = new StringBuilder();
+    AsyncLog log = new AsyncLog(AsyncLog.Level.INFO, 16, out);
+    assertFalse(log.isEnabled(AsyncLog.Level.DEBUG));
+    assertTrue(log.isEnabled(AsyncLog.Level.ERROR));
+    assertFalse(log.isEnabled(AsyncLog.Level.OFF));
+
+    log.log(AsyncLog.Level.DEBUG, "hidden");
+    log.log(AsyncLog.Level.INFO, "one {}", 1);
+    log.log(AsyncLog.Level.WARN, "{} and {} and {}", "a", 2);
+    log.setLevel(AsyncLog.Level.OFF);
+    log.log(AsyncLog.Level.ERROR, "also hidden");
+    log.close();
+
+    String sep = System.lineSeparator();
+    assertEquals("INFO one 1" + sep + "WARN a and 2 and {}" + sep, out.toString());
+  }
+
+  /**
+   * Tests that level names are parsed ignoring case, and that unknown names are not levels
+   */
+  @Test
+  public void testParseLevel() {
+    assertEquals(AsyncLog.Level.DEBUG, AsyncLog.parseLevel("debug"));
+    assertEquals(AsyncLog.Level.WARN, AsyncLog.parseLevel(" Warn "));
+    assertEquals(AsyncLog.Level.OFF, AsyncLog.parseLevel("OFF"));
+    assertNull(AsyncLog.parseLevel("verbose"));
+    assertNull(AsyncLog.parseLevel(""));
+  }
+
+  /**
+   * Tests that events from many threads are all written, each thread's in order
+   */
+  @Test
+  public void testManyThreads() throws InterruptedException {
+    List<String> lines = new ArrayList<>();
+    // only the writer thread appends, so the list does not need to be synchronized
+    Appendable out = new Appendable() {
+      @Override
+      public Appendable append(CharSequence csq) {
+        lines.add(csq.toString().strip());
+        return this;
+      }
+
+      @Override
+      public Appendable append(CharSequence csq, int start, int end) {
+        return this.append(csq.subSequence(start, end));
+      }
+
+      @Override
+      public Appendable append(char c) {
+        return this;
+      }
+    };
+    AsyncLog log = new AsyncLog(AsyncLog.Level.DEBUG, 1 << 16, out);
+
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      int thread = t;
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 1000; i++) {
+          log.log(AsyncLog.Level.DEBUG, "{} {}", thread, i);
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    log.flush();
+
+    assertEquals(0, log.getDropped());
+    assertEquals(4000, lines.size());
+    int[] next = new int[4];
+    for (String line : lines) {
+      String[] parts = line.split(" ");
+      int thread = Integer.parseInt(parts[1]);
+      assertEquals(next[thread]++, Integer.parseInt(parts[2]));
+    }
+    log.close();
+  }
+
+  /**
+   * Tests that events are dropped rather than blocking when the buffer is full
+   */
+  @Test
+  public void testFullBuffer() throws InterruptedException {
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    StringBuilder written = new StringBuilder();
+    // blocks the writer on its first event, so that nothing else is taken out of the buffer
+    Appendable blocking = new Appendable() {
+      @Override
+      public Appendable append(CharSequence csq) {
+        writing.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        written.append(csq);
+        return this;
+      }
+
+      @Override
+      public Appendable append(CharSequence csq, int start, int end) {
+        return this.append(csq.subSequence(start, end));
+      }
+
+      @Override
+      public Appendable append(char c) {
+        return this;
+      }
+    };
+    AsyncLog log = new AsyncLog(AsyncLog.Level.INFO, 4, blocking);
+    log.log(AsyncLog.Level.INFO, "first");
+    writing.await();
+
+    // the first event's slot was freed before it was written, so four more fit
+    for (int i = 0; i < 10; i++) {
+      log.log(AsyncLog.Level.INFO, "event {}", i);
+    }
+    assertEquals(6, log.getDropped());
+    release.countDown();
+    log.close();
+    assertTrue(written.toString().contains("event 3"));
+    assertFalse(written.toString().contains("event 4"));
+  }
+}
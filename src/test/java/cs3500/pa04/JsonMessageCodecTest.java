@@ -0,0 +1,154 @@
+package cs3500.pa04;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.Fixtures;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Ship;
+import cs3500.pa03.model.ShipOrientation;
+import cs3500.pa03.model.ShipType;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test JsonMessageCodec
+ */
+class JsonMessageCodecTest {
+  private final JsonFactory factory = new JsonFactory();
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final JsonMessageCodec codec = new JsonMessageCodec();
+
+  /**
+   * Writes the given message with the codec
+   *
+   * @param message the message to write
+   * @return the message as JSON
+   * @throws IOException if the message cannot be written
+   */
+  private String write(WireMessage message) throws IOException {
+    StringWriter out = new StringWriter();
+    try (JsonGenerator generator = this.factory.createGenerator(out)) {
+      this.codec.write(generator, message);
+    }
+    return out.toString();
+  }
+
+  /**
+   * Reads a single message with the codec
+   *
+   * @param json the message as JSON
+   * @return the message that was read
+   * @throws IOException if the message cannot be read
+   */
+  private WireMessage read(String json) throws IOException {
+    try (JsonParser parser = this.factory.createParser(json)) {
+      return this.codec.read(parser);
+    }
+  }
+
+  /**
+   * Returns what the given message looked like when written through MessageJson and a tree
+   *
+   * @param methodName the method name of the message
+   * @param arguments the arguments of the message, or null for empty arguments
+   * @return the message as a tree
+   */
+  private JsonNode treeMessage(String methodName, Record arguments) {
+    JsonNode args = arguments == null ? this.mapper.createObjectNode()
+        : this.mapper.convertValue(arguments, JsonNode.class);
+    return this.mapper.convertValue(new MessageJson(methodName, args), JsonNode.class);
+  }
+
+  /**
+   * Tests that every kind of message is written in the same format as MessageJson,
+   * and is read back into equal records
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    Map<ShipType, Integer> spec = Fixtures.ofEach(2);
+    List<Coord> coords = List.of(new Coord(0, 1), new Coord(14, 3));
+    Ship ship = new Ship(new Coord(2, 3), ShipOrientation.VERTICAL, ShipType.DESTROYER);
+    List<WireMessage> messages = List.of(
+        new WireMessage("join", new JoinJson("pa04-e10", GameType.MULTI)),
+        new WireMessage("setup", new SetupJson(10, 12, spec)),
+        new WireMessage("take-shots", new CoordinatesJson(coords)),
+        new WireMessage("end-game", new EndJson(GameResult.LOSE, "You lost!")),
+        new WireMessage("successful-hits", null));
+
+    for (WireMessage message : messages) {
+      String json = this.write(message);
+      assertEquals(this.treeMessage(message.methodName(), message.arguments()),
+          this.mapper.readTree(json));
+      assertEquals(message, this.read(json));
+    }
+
+    // ships have no equality, so their fields are compared
+    String json = this.write(new WireMessage("setup", new FleetJson(List.of(ship))));
+    assertEquals(this.treeMessage("setup", new FleetJson(List.of(ship))),
+        this.mapper.readTree(json));
+    Ship read = ((FleetJson) this.read(json).arguments()).fleet().get(0);
+    assertEquals(Set.of(new Coord(2, 3), new Coord(2, 4), new Coord(2, 5), new Coord(2, 6)),
+        read.getOccupiedCoords());
+
+    // read coordinates are the shared instances
+    CoordinatesJson readCoords = (CoordinatesJson) this.read(
+        this.write(new WireMessage("report-damage", new CoordinatesJson(coords)))).arguments();
+    assertSame(Coord.of(14, 3), readCoords.coordinates().get(1));
+  }
+
+  /**
+   * Tests that fields can come in any order, unknown fields are skipped,
+   * and several messages can be read from one input
+   */
+  @Test
+  public void testReadStream() throws IOException {
+    String json = "{\"arguments\": {\"extra\": [1, {\"a\": 2}], \"coordinates\": "
+        + "[{\"y\": 2, \"x\": 1}]}, \"method-name\": \"report-damage\"}\n"
+        + "{\"method-name\": \"take-shots\", \"arguments\": {}}\n";
+    try (JsonParser parser = this.factory.createParser(json)) {
+      assertEquals(new WireMessage("report-damage", new CoordinatesJson(List.of(new Coord(1, 2)))),
+          this.codec.read(parser));
+      assertEquals(new WireMessage("take-shots", null), this.codec.read(parser));
+      assertNull(this.codec.read(parser));
+    }
+  }
+
+  /**
+   * Tests that messages that are not well-formed cannot be read or written
+   */
+  @Test
+  public void testInvalid() {
+    assertThrows(JsonParseException.class, () -> this.read("[]"));
+    assertThrows(JsonParseException.class, () -> this.read("{\"arguments\": {}}"));
+    assertThrows(JsonParseException.class,
+        () -> this.read("{\"method-name\": \"x\", \"arguments\": {\"coordinates\": {}}}"));
+    assertThrows(JsonParseException.class, () -> this.read(
+        "{\"method-name\": \"x\", \"arguments\": {\"coordinates\": [{\"x\": -1, \"y\": 0}]}}"));
+    // constants that do not exist, and values that are not names at all
+    assertThrows(JsonParseException.class, () -> this.read(
+        "{\"method-name\": \"x\", \"arguments\": {\"game-type\": \"TEAM\"}}"));
+    assertThrows(JsonParseException.class, () -> this.read(
+        "{\"method-name\": \"x\", \"arguments\": {\"result\": null}}"));
+    assertThrows(JsonParseException.class, () -> this.read(
+        "{\"method-name\": \"x\", \"arguments\": {\"fleet-spec\": {\"CANOE\": 1}}}"));
+    assertThrows(JsonParseException.class, () -> this.read("{\"method-name\": \"x\", "
+        + "\"arguments\": {\"fleet\": [{\"coord\": {\"x\": 0, \"y\": 0}, "
+        + "\"direction\": [], \"length\": 3}]}}"));
+    assertThrows(IllegalArgumentException.class,
+        () -> this.write(new WireMessage("x", new MessageJson("x", null))));
+  }
+}
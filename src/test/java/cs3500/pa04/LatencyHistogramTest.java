@@ -0,0 +1,56 @@
+package cs3500.pa04;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test LatencyHistogram
+ */
+class LatencyHistogramTest {
+  /**
+   * Tests that every value falls in a bucket whose upper bound is within 12.5% of it
+   */
+  @Test
+  public void testBuckets() {
+    long[] values = {0, 1, 15, 16, 17, 100, 1000, 123456789, Long.MAX_VALUE / 3};
+    for (long value : values) {
+      int bucket = LatencyHistogram.BUCKETS.bucketOf(value);
+      long upper = LatencyHistogram.BUCKETS.upperBoundOf(bucket);
+      assertTrue(upper >= value);
+      assertTrue(upper - value <= value / 8);
+      // the bucket before ends just before this one starts
+      if (bucket > 0) {
+        assertTrue(LatencyHistogram.BUCKETS.upperBoundOf(bucket - 1) < value);
+      }
+    }
+    assertEquals(LatencyHistogram.BUCKETS.bucketOf(16), LatencyHistogram.BUCKETS.bucketOf(17));
+    assertEquals(15, LatencyHistogram.BUCKETS.upperBoundOf(15));
+  }
+
+  /**
+   * Tests the summary statistics of a histogram
+   */
+  @Test
+  public void testStatistics() {
+    LatencyHistogram h = new LatencyHistogram();
+    assertEquals(0, h.getMin());
+    assertEquals(0, h.getValueAtPercentile(50));
+    assertEquals(0, h.getMean(), 0.0001);
+
+    for (int i = 1; i <= 100; i++) {
+      h.record(i * 1000L);
+    }
+    h.record(-5);
+    assertEquals(101, h.getCount());
+    assertEquals(0, h.getMin());
+    assertEquals(100000, h.getMax());
+    assertEquals(5050000.0 / 101, h.getMean(), 0.0001);
+
+    long median = h.getValueAtPercentile(50);
+    assertTrue(median >= 50000 && median <= 50000 * 9 / 8);
+    assertEquals(100000, h.getValueAtPercentile(100));
+    assertEquals(0, h.getValueAtPercentile(0));
+  }
+}
@@ -0,0 +1,148 @@
+package cs3500.pa04;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.Fixtures;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.ShipType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test LocalReferee against real clients
+ */
+class LocalRefereeTest {
+  private Map<ShipType, Integer> specifications;
+
+  /**
+   * Sets up a fleet of one of each ship
+   */
+  @BeforeEach
+  public void setup() {
+    this.specifications = Fixtures.oneOfEach();
+  }
+
+  /**
+   * Tests that many blocking clients can play full games at once
+   */
+  @Test
+  public void testManyGames() throws Exception {
+    int sessions = 8;
+    try (LocalReferee referee = new LocalReferee(8, 8, this.specifications,
+        () -> new AiPlayer(new Random(1)))) {
+      SessionLauncher launcher = new SessionLauncher("localhost", referee.getPort(),
+          AiPlayer::new);
+      SessionResults results = launcher.launch(sessions);
+
+      assertEquals(0, results.count(null));
+      assertTrue(referee.awaitGames(sessions, Duration.ofSeconds(10)));
+      // the referee's results are from the clients' point of view, like the launcher's
+      for (GameResult result : GameResult.values()) {
+        assertEquals(results.count(result), referee.count(result));
+      }
+      assertEquals(0, referee.count(null));
+      assertEquals(sessions, referee.getGamesFinished());
+
+      // every game has one of each message but shots, which are round trips of every turn
+      assertEquals(sessions, referee.getHistogram("join").getCount());
+      assertEquals(sessions, referee.getHistogram("end-game").getCount());
+      LatencyHistogram shots = referee.getHistogram("take-shots");
+      assertTrue(shots.getCount() >= 4 * sessions);
+      assertEquals(shots.getCount(), referee.getHistogram("successful-hits").getCount());
+      assertTrue(referee.getTimingSummary().contains("take-shots       reply"));
+    }
+  }
+
+  /**
+   * Tests that clients can play full games in the binary format
+   */
+  @Test
+  public void testBinaryGames() throws Exception {
+    try (LocalReferee referee = new LocalReferee(0, WireFormat.BINARY, 10, 10,
+        this.specifications, AiPlayer::new)) {
+      SessionResults results = new SessionLauncher("localhost", referee.getPort(),
+          AiPlayer::new, WireFormat.BINARY).launch(4);
+
+      assertEquals(0, results.count(null));
+      assertTrue(referee.awaitGames(4, Duration.ofSeconds(10)));
+      assertEquals(0, referee.count(null));
+      assertEquals(4, referee.getHistogram("setup").getCount());
+    }
+  }
+
+  /**
+   * Tests that multiplexed clients can play full games against the referee
+   */
+  @Test
+  public void testMultiplexedGames() throws Exception {
+    try (LocalReferee referee = new LocalReferee(6, 6, this.specifications, AiPlayer::new);
+         MultiplexedProxyClient client = new MultiplexedProxyClient(1)) {
+      InetSocketAddress address = new InetSocketAddress("localhost", referee.getPort());
+      List<ProxySession> sessions = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        sessions.add(client.connect(address, new AiPlayer()));
+      }
+      for (ProxySession session : sessions) {
+        assertTrue(session.getResult().join() != null);
+      }
+      assertTrue(referee.awaitGames(4, Duration.ofSeconds(10)));
+      assertEquals(0, referee.count(null));
+    }
+  }
+
+  /**
+   * Tests that a client that breaks the protocol fails its game, without affecting others
+   */
+  @Test
+  public void testBrokenClient() throws Exception {
+    try (LocalReferee referee = new LocalReferee(6, 6, this.specifications, AiPlayer::new)) {
+      // a client that fires off of the board
+      try (Socket socket = new Socket("localhost", referee.getPort())) {
+        ProxyController controller = new ProxyController(socket, new AiPlayer() {
+          @Override
+          public List<Coord> takeShots() {
+            return List.of(Coord.of(6, 0));
+          }
+        });
+        controller.run();
+      } catch (RuntimeException e) {
+        // the referee closes the connection without ending the game
+      }
+
+      // a client that responds to join with the wrong method
+      try (Socket socket = new Socket("localhost", referee.getPort())) {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+            StandardCharsets.UTF_8));
+        assertTrue(in.readLine().contains("\"join\""));
+        PrintStream out = new PrintStream(socket.getOutputStream(), true);
+        out.println("{\"method-name\":\"setup\",\"arguments\":{}}");
+        // the referee closes the connection
+        assertEquals(null, in.readLine());
+      } catch (IOException e) {
+        // the connection was reset, which also means it was closed
+      }
+
+      assertTrue(referee.awaitGames(2, Duration.ofSeconds(10)));
+      assertEquals(2, referee.count(null));
+
+      new SessionLauncher("localhost", referee.getPort(), AiPlayer::new).launch(1);
+      assertTrue(referee.awaitGames(3, Duration.ofSeconds(10)));
+      assertEquals(2, referee.count(null));
+    }
+  }
+}
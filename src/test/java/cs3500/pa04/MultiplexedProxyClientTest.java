@@ -0,0 +1,158 @@
+package cs3500.pa04;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.ShipType;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test MultiplexedProxyClient and ProxySession against a local server
+ */
+class MultiplexedProxyClientTest {
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  /**
+   * Returns the given message as a line of JSON
+   *
+   * @param methodName the method name of the message
+   * @param arguments the arguments of the message, or null for empty arguments
+   * @return the message as JSON
+   */
+  private String message(String methodName, Record arguments) {
+    JsonNode args = arguments == null ? this.mapper.createObjectNode()
+        : this.mapper.convertValue(arguments, JsonNode.class);
+    return this.mapper.convertValue(new MessageJson(methodName, args), JsonNode.class).toString()
+        + "\n";
+  }
+
+  /**
+   * Plays a short scripted game with the client on the given socket, sending the join message
+   * a few bytes at a time and the setup and take-shots messages in a single write, and returns
+   * the method names of the client's responses
+   *
+   * @param client the socket of the client
+   * @return the method names the client responded with
+   * @throws IOException if the socket fails
+   */
+  private List<String> playScript(Socket client) throws IOException {
+    Map<ShipType, Integer> spec = new HashMap<>();
+    for (ShipType t : ShipType.values()) {
+      spec.put(t, 1);
+    }
+    OutputStream out = client.getOutputStream();
+    BufferedReader in = new BufferedReader(
+        new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+    List<String> responses = new ArrayList<>();
+
+    byte[] join = this.message("join", null).getBytes(StandardCharsets.UTF_8);
+    for (int i = 0; i < join.length; i += 3) {
+      out.write(join, i, Math.min(3, join.length - i));
+      out.flush();
+    }
+    responses.add(this.mapper.readTree(in.readLine()).get("method-name").asText());
+
+    out.write((this.message("setup", new SetupJson(6, 6, spec)) + this.message("take-shots", null))
+        .getBytes(StandardCharsets.UTF_8));
+    out.flush();
+    responses.add(this.mapper.readTree(in.readLine()).get("method-name").asText());
+    responses.add(this.mapper.readTree(in.readLine()).get("method-name").asText());
+
+    out.write(this.message("end-game", new EndJson(GameResult.WIN, "You won!"))
+        .getBytes(StandardCharsets.UTF_8));
+    out.flush();
+    responses.add(this.mapper.readTree(in.readLine()).get("method-name").asText());
+    // the client closes the connection once the game is over
+    assertEquals(null, in.readLine());
+    return responses;
+  }
+
+  /**
+   * Tests that many games are played at once over a few event loops, with messages that are
+   * split across reads or share a read
+   */
+  @Test
+  public void testManySessions() throws Exception {
+    int games = 24;
+    try (ServerSocket server = new ServerSocket(0);
+         MultiplexedProxyClient client = new MultiplexedProxyClient(2)) {
+      List<ProxySession> sessions = new ArrayList<>();
+      for (int i = 0; i < games; i++) {
+        sessions.add(client.connect(server.getLocalSocketAddress(), new AiPlayer(new Random(i))));
+      }
+
+      // every connection is accepted before any game is played, so all of them are open at once
+      List<Socket> accepted = new ArrayList<>();
+      for (int i = 0; i < games; i++) {
+        accepted.add(server.accept());
+      }
+      for (Socket socket : accepted) {
+        try (socket) {
+          assertEquals(List.of("join", "setup", "take-shots", "end-game"),
+              this.playScript(socket));
+        }
+      }
+      for (ProxySession session : sessions) {
+        assertEquals(GameResult.WIN, session.getResult().get(5, TimeUnit.SECONDS));
+      }
+    }
+  }
+
+  /**
+   * Tests that sessions fail when the server sends a bad message or closes early,
+   * or when the client is closed first, and that a closed client starts no more sessions
+   */
+  @Test
+  public void testFailures() throws Exception {
+    try (ServerSocket server = new ServerSocket(0)) {
+      MultiplexedProxyClient client = new MultiplexedProxyClient(1);
+      ProxySession bad = client.connect(server.getLocalSocketAddress(), new AiPlayer());
+      ProxySession early = client.connect(server.getLocalSocketAddress(), new AiPlayer());
+      ProxySession open = client.connect(server.getLocalSocketAddress(), new AiPlayer());
+
+      try (Socket badSocket = server.accept()) {
+        badSocket.getOutputStream().write(this.message("bad", null)
+            .getBytes(StandardCharsets.UTF_8));
+        ExecutionException e = assertThrows(ExecutionException.class,
+            () -> bad.getResult().get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+      }
+
+      server.accept().close();
+      ExecutionException e = assertThrows(ExecutionException.class,
+          () -> early.getResult().get(5, TimeUnit.SECONDS));
+      assertTrue(e.getCause() instanceof EOFException);
+
+      try (Socket openSocket = server.accept()) {
+        client.close();
+        e = assertThrows(ExecutionException.class,
+            () -> open.getResult().get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IOException);
+      }
+      // a closed client has no event loop to play a new game on
+      assertThrows(IllegalStateException.class,
+          () -> client.connect(server.getLocalSocketAddress(), new AiPlayer()));
+    }
+    assertThrows(IllegalArgumentException.class, () -> new MultiplexedProxyClient(0));
+  }
+}
@@ -2,6 +2,7 @@ package cs3500.pa04;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.fasterxml.jackson.core.JsonParser;
@@ -146,7 +147,7 @@ class ProxyControllerTest {
       CoordinatesJson shotsResponse = this.mapper.convertValue(shots.arguments(), 
           CoordinatesJson.class);
       // we seed random to know what these shots always are
-      assertEquals(List.of(new Coord(3, 3), new Coord(2, 1), new Coord(1, 5), new Coord(5, 1)), 
+      assertEquals(List.of(new Coord(0, 0), new Coord(5, 1), new Coord(5, 4), new Coord(0, 3)), 
           shotsResponse.coordinates());
 
       // test the successful-hits response is null json
@@ -217,6 +218,36 @@ class ProxyControllerTest {
     }
   }
 
+  /**
+   * Tests that each phase of each message is timed
+   */
+  @Test
+  public void testTimings() throws IOException {
+    JsonNode setupMessage = this.createSampleMessage("setup", this.setupJson);
+    JsonNode shotsMessage = this.createVoidMessage("take-shots");
+    JsonNode endMessage = this.createSampleMessage("end-game", this.endJson);
+    Socket mocket = new Mocket(this.testLog, List.of(setupMessage.toString(),
+        shotsMessage.toString(), shotsMessage.toString(), endMessage.toString()));
+
+    ProxyController controller = new ProxyController(mocket, this.ai);
+    controller.run();
+    MessageTimings timings = controller.getTimings();
+    // a client only times the phases of handling a message, not the server's round trip
+    for (MessageTimings.Phase phase : List.of(MessageTimings.Phase.PARSE,
+        MessageTimings.Phase.COMPUTE, MessageTimings.Phase.WRITE)) {
+      assertEquals(1, timings.getHistogram("setup", phase).getCount());
+      assertEquals(2, timings.getHistogram("take-shots", phase).getCount());
+      assertEquals(1, timings.getHistogram("end-game", phase).getCount());
+      assertEquals(0, timings.getHistogram("join", phase).getCount());
+      assertEquals(0, timings.getHistogram("unknown", phase).getCount());
+    }
+    assertEquals(0, timings.getHistogram("setup", MessageTimings.Phase.REPLY).getCount());
+    // only the phases of handled methods are summarized
+    String summary = timings.toString();
+    assertEquals(1 + 3 * 3, summary.split(System.lineSeparator()).length);
+    assertTrue(summary.contains("take-shots       compute       2"));
+  }
+
   /**
    * Tests that exceptions are handled
    */
@@ -0,0 +1,116 @@
+package cs3500.pa04;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cs3500.pa03.model.AiPlayer;
+import cs3500.pa03.model.GameResult;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test SessionLauncher and SessionResults against a local server
+ */
+class SessionLauncherTest {
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  /**
+   * Plays a game on the given connection that the server immediately ends with the given
+   * result, or closes the connection without a game if the result is null
+   *
+   * @param client the connection to the client
+   * @param result the result to end the game with, or null
+   */
+  private void endGame(Socket client, GameResult result) {
+    try (client) {
+      if (result == null) {
+        return;
+      }
+      JsonNode args = this.mapper.convertValue(new EndJson(result, "done"), JsonNode.class);
+      PrintStream out = new PrintStream(client.getOutputStream());
+      out.println(this.mapper.convertValue(new MessageJson("end-game", args), JsonNode.class));
+      out.flush();
+      // waits for the client's response, after which the client closes the connection
+      new BufferedReader(new InputStreamReader(client.getInputStream(),
+          StandardCharsets.UTF_8)).readLine();
+    } catch (IOException e) {
+      // the launcher records the session as failed
+    }
+  }
+
+  /**
+   * Tests that every session is played at once and that the results are aggregated
+   */
+  @Test
+  public void testLaunch() throws Exception {
+    int sessions = 20;
+    GameResult[] cycle = {GameResult.WIN, GameResult.LOSE, GameResult.DRAW, GameResult.WIN, null};
+    ExecutorService serverThreads = Executors.newCachedThreadPool();
+    try (ServerSocket server = new ServerSocket(0)) {
+      AtomicInteger accepted = new AtomicInteger();
+      serverThreads.execute(() -> {
+        try {
+          for (int i = 0; i < sessions; i++) {
+            Socket client = server.accept();
+            GameResult result = cycle[accepted.getAndIncrement() % cycle.length];
+            serverThreads.execute(() -> this.endGame(client, result));
+          }
+        } catch (IOException e) {
+          // the server closed
+        }
+      });
+
+      SessionLauncher launcher = new SessionLauncher("localhost", server.getLocalPort(),
+          AiPlayer::new);
+      SessionResults results = launcher.launch(sessions);
+
+      assertEquals(sessions, accepted.get());
+      assertEquals(8, results.count(GameResult.WIN));
+      assertEquals(4, results.count(GameResult.LOSE));
+      assertEquals(4, results.count(GameResult.DRAW));
+      assertEquals(4, results.count(null));
+      for (int i = 0; i < sessions; i++) {
+        assertTrue(results.getElapsedNanos(i) > 0);
+      }
+      assertTrue(results.toString().startsWith("Sessions: 8 won, 4 lost, 4 tied, 4 failed"));
+    } finally {
+      serverThreads.shutdownNow();
+    }
+  }
+
+  /**
+   * Tests that sessions fail when there is no server to connect to, and that why each failed
+   * is logged
+   */
+  @Test
+  public void testNoServer() throws Exception {
+    int port;
+    try (ServerSocket server = new ServerSocket(0)) {
+      port = server.getLocalPort();
+    }
+    StringBuilder out = new StringBuilder();
+    AsyncLog log = new AsyncLog(AsyncLog.Level.INFO, 16, out);
+    SessionResults results = new SessionLauncher("localhost", port, AiPlayer::new,
+        WireFormat.JSON, log).launch(3);
+    log.close();
+
+    assertEquals(3, results.count(null));
+    assertNull(results.getResult(0));
+    assertTrue(results.toString().contains("session 2: FAILED"));
+    for (int i = 0; i < 3; i++) {
+      assertTrue(out.toString().contains("WARN Session " + i + " failed: java.net."));
+    }
+  }
+}
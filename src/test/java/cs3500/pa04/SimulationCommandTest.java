@@ -0,0 +1,81 @@
+package cs3500.pa04;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cs3500.pa03.controller.SimulationReport;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test SimulationCommand
+ */
+class SimulationCommandTest {
+  /**
+   * Tests that options are parsed and used to run a simulation
+   */
+  @Test
+  public void testRun() {
+    SimulationCommand command = new SimulationCommand(new String[] {"--simulate",
+        "--games", "20", "--height", "7", "--width", "9", "--fleet", "1, 2, 1, 1",
+        "--seed", "3", "--threads", "2", "--player1", "density", "--player2", "salvo"});
+    assertEquals("density vs salvo on 7x9, fleet [1, 2, 1, 1], seed 3, 2 threads",
+        command.toString());
+    SimulationReport report = command.run();
+    assertEquals(20, report.getGames());
+
+    // the seed makes the simulation repeatable
+    assertEquals(report.getWins(), command.run().getWins());
+  }
+
+  /**
+   * Tests that a simulation of a sampling player does not depend on the number of threads,
+   * since it samples a fixed number of layouts however long they take
+   */
+  @Test
+  public void testSamplingRepeatable() {
+    String[] options = {"--simulate", "--games", "6", "--height", "6", "--width", "6",
+        "--seed", "5", "--player1", "montecarlo", "--threads", "1"};
+    SimulationReport single = new SimulationCommand(options).run();
+    options[options.length - 1] = "4";
+    SimulationReport parallel = new SimulationCommand(options).run();
+
+    assertEquals(single.getWins(), parallel.getWins());
+    assertArrayEquals(single.getTurnCounts(), parallel.getTurnCounts());
+  }
+
+  /**
+   * Tests that invalid options are not allowed
+   */
+  @Test
+  public void testInvalid() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SimulationCommand(new String[] {"--games", "1"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SimulationCommand(new String[] {"--simulate", "--games"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SimulationCommand(new String[] {"--simulate", "--games", "x"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SimulationCommand(new String[] {"--simulate", "--turns", "1"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SimulationCommand(new String[] {"--simulate", "--fleet", "1,1,1"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SimulationCommand(new String[] {"--simulate", "--player1", "human"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SimulationCommand(new String[] {"--simulate", "--height", "20"}).run());
+  }
+
+  /**
+   * Tests that every named player can be created
+   */
+  @Test
+  public void testPlayerFactory() {
+    for (String name : new String[] {"hunt", "density", "salvo", "montecarlo"}) {
+      assertEquals("pa04-e10", SimulationCommand.playerFactory(name).apply(new Random(1)).name());
+    }
+    assertTrue(new SimulationCommand(new String[] {"--simulate"}).toString()
+        .startsWith("hunt vs hunt on 10x10"));
+  }
+}
@@ -0,0 +1,54 @@
+package cs3500.pa04;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cs3500.pa03.controller.TournamentReport;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test TournamentCommand
+ */
+class TournamentCommandTest {
+  /**
+   * Tests that options are parsed and used to run a tournament
+   */
+  @Test
+  public void testRun() {
+    TournamentCommand command = new TournamentCommand(new String[] {"--tournament",
+        "--players", "hunt, density", "--games", "4", "--sizes", "6,9", "--fleet", "1,1,2,1",
+        "--seed", "3", "--threads", "2"});
+    assertEquals("hunt, density on sizes [6, 9], fleet [1, 1, 2, 1], 4 games each, seed 3,"
+        + " 2 threads", command.toString());
+    TournamentReport report = command.run();
+    assertEquals(8, report.getGames());
+
+    // the seed makes the tournament repeatable
+    assertEquals(report.getElo("density"), command.run().getElo("density"), 0.0001);
+  }
+
+  /**
+   * Tests that invalid options are not allowed
+   */
+  @Test
+  public void testInvalid() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new TournamentCommand(new String[] {"--games", "1"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TournamentCommand(new String[] {"--tournament", "--games"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TournamentCommand(new String[] {"--tournament", "--sizes", "6,x"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TournamentCommand(new String[] {"--tournament", "--rounds", "1"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TournamentCommand(new String[] {"--tournament", "--fleet", "1,1,1"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TournamentCommand(new String[] {"--tournament", "--players", "hunt,human"}));
+    assertThrows(IllegalArgumentException.class, () -> new TournamentCommand(
+        new String[] {"--tournament", "--players", "hunt, hunt,salvo"}));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TournamentCommand(new String[] {"--tournament", "--players", "hunt"}).run());
+    assertThrows(IllegalArgumentException.class,
+        () -> new TournamentCommand(new String[] {"--tournament", "--sizes", "20"}).run());
+  }
+}
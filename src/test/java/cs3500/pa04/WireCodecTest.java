@@ -0,0 +1,155 @@
+package cs3500.pa04;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cs3500.pa03.model.Coord;
+import cs3500.pa03.model.GameResult;
+import cs3500.pa03.model.Ship;
+import cs3500.pa03.model.ShipOrientation;
+import cs3500.pa03.model.ShipType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a class to test the WireCodecs of each WireFormat
+ */
+class WireCodecTest {
+  /**
+   * Returns one message with each kind of arguments
+   *
+   * @return the messages
+   */
+  private List<WireMessage> messages() {
+    Map<ShipType, Integer> fleetSpec = new EnumMap<>(ShipType.class);
+    fleetSpec.put(ShipType.CARRIER, 2);
+    fleetSpec.put(ShipType.SUBMARINE, 1);
+    List<Ship> fleet = List.of(new Ship(Coord.of(0, 0), ShipOrientation.VERTICAL, 6),
+        new Ship(Coord.of(14, 2), ShipOrientation.HORIZONTAL, 3));
+
+    return List.of(new WireMessage("join", null),
+        new WireMessage("join", new JoinJson("pa04-e10", GameType.MULTI)),
+        new WireMessage("setup", new SetupJson(15, 6, fleetSpec)),
+        new WireMessage("setup", new FleetJson(fleet)),
+        new WireMessage("take-shots", new CoordinatesJson(List.of(Coord.of(3, 4),
+            Coord.of(14, 14)))),
+        new WireMessage("successful-hits", new CoordinatesJson(List.of())),
+        new WireMessage("end-game", new EndJson(GameResult.DRAW, "You tied!")));
+  }
+
+  /**
+   * Tests that every kind of message is read back as it was written, in every format
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    for (WireFormat format : WireFormat.values()) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      WireCodec writer = format.open(new ByteArrayInputStream(new byte[0]), bytes);
+      for (WireMessage message : this.messages()) {
+        writer.write(message);
+      }
+
+      WireCodec reader = format.open(new ByteArrayInputStream(bytes.toByteArray()),
+          new ByteArrayOutputStream());
+      for (WireMessage expected : this.messages()) {
+        assertTrue(reader.awaitMessage());
+        // waiting again does not skip the message
+        assertTrue(reader.awaitMessage());
+        WireMessage actual = reader.read();
+        assertEquals(expected.methodName(), actual.methodName());
+        if (expected.arguments() instanceof FleetJson fleet) {
+          // ships are compared by their cells, since they do not define equality
+          List<Ship> actualFleet = ((FleetJson) actual.arguments()).fleet();
+          for (int i = 0; i < fleet.fleet().size(); i++) {
+            assertEquals(fleet.fleet().get(i).getOccupiedCoords(),
+                actualFleet.get(i).getOccupiedCoords());
+          }
+        } else {
+          assertEquals(expected.arguments(), actual.arguments());
+        }
+      }
+      assertFalse(reader.awaitMessage());
+      assertNull(reader.read());
+    }
+  }
+
+  /**
+   * Tests that the binary format is compact
+   */
+  @Test
+  public void testBinarySize() throws IOException {
+    List<Coord> volley = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      volley.add(Coord.of(i, 9 - i));
+    }
+    WireMessage shots = new WireMessage("take-shots", new CoordinatesJson(volley));
+    Ship ship = new Ship(Coord.of(5, 7), ShipOrientation.VERTICAL, ShipType.BATTLESHIP);
+    WireMessage fleet = new WireMessage("setup", new FleetJson(List.of(ship, ship)));
+
+    // the method, kind, and two byte count, then a byte per coordinate
+    assertEquals(2 + 2 + 10, this.binarySize(shots));
+    // the method, kind, and count, then two bytes per ship
+    assertEquals(2 + 1 + 2 * 2, this.binarySize(fleet));
+    assertEquals(2, this.binarySize(new WireMessage("take-shots", null)));
+  }
+
+  /**
+   * Returns the number of bytes the given message takes in the binary format
+   *
+   * @param message the message to write
+   * @return the size of the message
+   * @throws IOException if the message cannot be written
+   */
+  private int binarySize(WireMessage message) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    new BinaryWireCodec(new ByteArrayInputStream(new byte[0]), bytes).write(message);
+    return bytes.size();
+  }
+
+  /**
+   * Tests that messages that do not fit the binary format are rejected
+   */
+  @Test
+  public void testBinaryErrors() {
+    WireCodec codec = new BinaryWireCodec(new ByteArrayInputStream(new byte[0]),
+        new ByteArrayOutputStream());
+    assertThrows(IllegalArgumentException.class,
+        () -> codec.write(new WireMessage("unknown", null)));
+    assertThrows(IllegalArgumentException.class, () -> codec.write(new WireMessage(
+        "take-shots", new CoordinatesJson(List.of(Coord.of(16, 0))))));
+    assertThrows(IllegalArgumentException.class,
+        () -> codec.write(new WireMessage("join", new MessageJson("join", null))));
+
+    // an unknown method, an unknown kind of arguments, and a message cut off part way
+    for (byte[] input : List.of(new byte[] {9, 0}, new byte[] {2, 9}, new byte[] {2, 4, 0, 2})) {
+      WireCodec reader = new BinaryWireCodec(new ByteArrayInputStream(input),
+          new ByteArrayOutputStream());
+      assertThrows(IOException.class, reader::read);
+    }
+    WireCodec reader = new BinaryWireCodec(new ByteArrayInputStream(new byte[] {5, 5, 7}),
+        new ByteArrayOutputStream());
+    assertThrows(StreamCorruptedException.class, reader::read);
+  }
+
+  /**
+   * Tests that the JSON codec still speaks the protocol's own format
+   */
+  @Test
+  public void testJsonFormat() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    WireCodec codec = WireFormat.JSON.open(new ByteArrayInputStream(new byte[0]), bytes);
+    codec.write(new WireMessage("take-shots", new CoordinatesJson(List.of(Coord.of(1, 2)))));
+    assertEquals("{\"method-name\":\"take-shots\",\"arguments\":{\"coordinates\":"
+        + "[{\"x\":1,\"y\":2}]}}" + System.lineSeparator(), bytes.toString());
+  }
+}